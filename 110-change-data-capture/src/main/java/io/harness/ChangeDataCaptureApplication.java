@@ -28,6 +28,7 @@ import io.harness.serializer.PersistenceRegistrars;
 import io.harness.threading.ExecutorModule;
 import io.harness.threading.ThreadPool;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -81,6 +82,12 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
       MongoConfig mongoConfig() {
         return changeDataCaptureServiceConfig.getHarnessMongo();
       }
+
+      @Provides
+      @Singleton
+      MetricRegistry metricRegistry() {
+        return environment.metrics();
+      }
     });
 
     modules.add(new AbstractMongoModule() {
@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.CE;
 
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBChangeDataSink;
 import io.harness.changestreamsframework.ChangeTracker;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
@@ -37,6 +38,7 @@ import org.bson.Document;
 public class ChangeDataCaptureBulkMigrationHelper {
   @Inject private ChangeTracker changeTracker;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private TimeScaleDBChangeDataSink changeDataSink;
   private static final int NUMBER_OF_BULK_SYNC_THREADS = 5;
   private static final int BULK_SYNC_TASK_QUEUE_SIZE = 200;
   private static final String BULK_THREAD_SUFFIX = "-bulk-migration-%d";
@@ -79,7 +81,7 @@ public class ChangeDataCaptureBulkMigrationHelper {
           return false;
         }
       }
-      return true;
+      return changeDataSink.flush();
     } catch (InterruptedException e) {
       log.error("Bulk migration interrupted", e);
       Thread.currentThread().interrupt();
@@ -35,6 +35,7 @@ public class ChangeDataCaptureServiceConfig extends Configuration {
   @JsonProperty("ng-harness") private MongoConfig ngMongo = MongoConfig.builder().build();
   @JsonProperty("timescaledb") private TimeScaleDBConfig timeScaleDBConfig;
   @JsonProperty("mongotags") private MongoTagsConfig mongoTagsConfig = MongoTagsConfig.builder().build();
+  @JsonProperty("cdc-sink") private ChangeDataSinkConfig changeDataSinkConfig = ChangeDataSinkConfig.builder().build();
   @JsonProperty("gcp-project-id") private String gcpProjectId;
 
   public static Collection<Class<?>> getResourceClasses() {
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.CDC)
+@Value
+@Builder
+public class ChangeDataSinkConfig {
+  @JsonProperty(defaultValue = "false") @Builder.Default private boolean batchingEnabled = false;
+  @JsonProperty(defaultValue = "500") @Builder.Default private int flushSize = 500;
+  @JsonProperty(defaultValue = "1000") @Builder.Default private long flushIntervalInMillis = 1000;
+}
@@ -9,6 +9,7 @@ package io.harness;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBChangeDataSink;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 
@@ -29,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 class ChangeEventProcessor {
   @Inject private Set<CDCEntity<?>> subscribedClasses;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private TimeScaleDBChangeDataSink changeDataSink;
   private BlockingQueue<ChangeEvent<?>> changeEventQueue = new LinkedBlockingQueue<>(1000);
   private ExecutorService changeEventExecutorService =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("primary-change-processor").build());
@@ -36,7 +38,7 @@ class ChangeEventProcessor {
 
   void startProcessingChangeEvents() {
     ChangeEventProcessorTask changeEventProcessorTask =
-        new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence);
+        new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence, changeDataSink);
     changeEventProcessorTaskFuture = changeEventExecutorService.submit(changeEventProcessorTask);
   }
 
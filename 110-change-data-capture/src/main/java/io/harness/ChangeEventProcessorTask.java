@@ -13,6 +13,7 @@ import io.harness.CDCStateEntity.cdcStateEntityKeys;
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBChangeDataSink;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
@@ -21,7 +22,9 @@ import software.wings.dl.WingsPersistence;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -42,12 +45,14 @@ public class ChangeEventProcessorTask implements Runnable {
   private Set<CDCEntity<?>> cdcEntities;
   private BlockingQueue<ChangeEvent<?>> changeEventQueue;
   private WingsPersistence wingsPersistence;
+  private TimeScaleDBChangeDataSink changeDataSink;
 
   ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities, BlockingQueue<ChangeEvent<?>> changeEventQueue,
-      WingsPersistence wingsPersistence) {
+      WingsPersistence wingsPersistence, TimeScaleDBChangeDataSink changeDataSink) {
     this.cdcEntities = cdcEntities;
     this.changeEventQueue = changeEventQueue;
     this.wingsPersistence = wingsPersistence;
+    this.changeDataSink = changeDataSink;
   }
 
   @Override
@@ -59,7 +64,8 @@ public class ChangeEventProcessorTask implements Runnable {
       while (isRunningSuccessfully) {
         ChangeEvent<?> changeEvent = changeEventQueue.poll(Integer.MAX_VALUE, TimeUnit.MINUTES);
         if (changeEvent != null) {
-          isRunningSuccessfully = processChange(changeEvent);
+          isRunningSuccessfully =
+              changeDataSink.isEnabled() ? processChangeBatch(changeEvent) : processChange(changeEvent);
         }
       }
     } catch (InterruptedException e) {
@@ -79,6 +85,45 @@ public class ChangeEventProcessorTask implements Runnable {
   }
 
   private boolean processChange(ChangeEvent<?> changeEvent) {
+    if (!handleChange(changeEvent)) {
+      return false;
+    }
+    return saveCDCStateEntityToken(changeEvent);
+  }
+
+  /**
+   * Handles the changes queued within the flush interval, up to the flush size, and saves the tokens only after the
+   * changes buffered by the sink were written, so that a restart resumes from the last change actually written.
+   */
+  private boolean processChangeBatch(ChangeEvent<?> firstChangeEvent) throws InterruptedException {
+    Map<Class<?>, ChangeEvent<?>> lastChangeEvents = new LinkedHashMap<>();
+    long flushTime = System.currentTimeMillis() + changeDataSink.getFlushIntervalInMillis();
+    ChangeEvent<?> changeEvent = firstChangeEvent;
+    int handledChanges = 0;
+    while (changeEvent != null) {
+      if (!handleChange(changeEvent)) {
+        return false;
+      }
+      lastChangeEvents.put(changeEvent.getEntityType(), changeEvent);
+      if (++handledChanges >= changeDataSink.getFlushSize()) {
+        break;
+      }
+      changeEvent = changeEventQueue.poll(Math.max(flushTime - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+
+    if (!changeDataSink.flush()) {
+      log.error("Could not flush {} change events to the sink", handledChanges);
+      return false;
+    }
+    for (ChangeEvent<?> lastChangeEvent : lastChangeEvents.values()) {
+      if (!saveCDCStateEntityToken(lastChangeEvent)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean handleChange(ChangeEvent<?> changeEvent) {
     List<Future<Boolean>> processChangeEventTaskFutures = new ArrayList<>();
     Class<? extends PersistentEntity> clazz = changeEvent.getEntityType();
     ChangeDataCapture[] dataCaptures = clazz.getAnnotationsByType(ChangeDataCapture.class);
@@ -110,6 +155,11 @@ public class ChangeEventProcessorTask implements Runnable {
       }
     }
 
+    return true;
+  }
+
+  private boolean saveCDCStateEntityToken(ChangeEvent<?> changeEvent) {
+    Class<? extends PersistentEntity> clazz = changeEvent.getEntityType();
     boolean isSaved = saveCDCStateEntityToken(clazz, changeEvent.getToken());
     if (!isSaved) {
       log.error("Could not save token. ChangeEvent {} could not be processed for entity {}", changeEvent.toString(),
@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractChangeDataHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimeScaleDBChangeDataSink changeDataSink;
 
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
@@ -42,6 +43,10 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
       log.info(String.format("Not able to parse this event %s", changeEvent));
     }
 
+    if (changeDataSink.isEnabled()) {
+      return sinkChange(changeEvent, tableName, columnValueMapping, primaryKeys);
+    }
+
     switch (changeEvent.getChangeType()) {
       case INSERT:
         if (columnValueMapping != null) {
@@ -63,6 +68,23 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
     return true;
   }
 
+  private boolean sinkChange(ChangeEvent<?> changeEvent, String tableName, Map<String, String> columnValueMapping,
+      List<String> primaryKeys) {
+    switch (changeEvent.getChangeType()) {
+      case INSERT:
+      case UPDATE:
+        if (columnValueMapping != null) {
+          return changeDataSink.upsert(tableName, changeEvent.getUuid(), columnValueMapping, primaryKeys);
+        }
+        return true;
+      case DELETE:
+        return changeDataSink.delete(tableName, changeEvent.getUuid());
+      default:
+        log.info("Change Event Type not Handled: {}", changeEvent.getChangeType());
+        return true;
+    }
+  }
+
   public static String escapeSql(String str) {
     if (str == null) {
       return null;
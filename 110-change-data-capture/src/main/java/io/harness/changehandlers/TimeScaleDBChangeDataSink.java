@@ -0,0 +1,265 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import io.harness.ChangeDataCaptureServiceConfig;
+import io.harness.ChangeDataSinkConfig;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers the changes of the {@link AbstractChangeDataHandler}s per table and writes them to TimescaleDB in batches of
+ * prepared statements. Only the last change of a row is kept until the next flush, and inserts and updates are both
+ * written as upserts so that the final state of a row does not depend on which of its changes were collapsed.
+ *
+ * <p>A batch that fails while the database is reachable is written again row by row, and the rows that still fail are
+ * logged and dropped like the failed statements of the unbatched handlers. A flush fails only if TimescaleDB cannot be
+ * reached.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+@Slf4j
+public class TimeScaleDBChangeDataSink {
+  private static final int MAX_RETRY_COUNT = 5;
+  private static final String ID_COLUMN = "id";
+  private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+  private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final TimeScaleDBService timeScaleDBService;
+  private final ChangeDataSinkConfig sinkConfig;
+  private final ConcurrentMap<String, TableBatch> tableBatches = new ConcurrentHashMap<>();
+  private final Meter receivedChanges;
+  private final Meter collapsedChanges;
+  private final Meter writtenRows;
+  private final Meter droppedRows;
+  private final Timer flushTimer;
+
+  @Inject
+  public TimeScaleDBChangeDataSink(
+      TimeScaleDBService timeScaleDBService, ChangeDataCaptureServiceConfig config, MetricRegistry metricRegistry) {
+    this.timeScaleDBService = timeScaleDBService;
+    this.sinkConfig = config.getChangeDataSinkConfig();
+    this.receivedChanges = metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "received"));
+    this.collapsedChanges = metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "collapsed"));
+    this.writtenRows = metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "written"));
+    this.droppedRows = metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "dropped"));
+    this.flushTimer = metricRegistry.timer(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "flush"));
+  }
+
+  public boolean isEnabled() {
+    return sinkConfig.isBatchingEnabled();
+  }
+
+  public int getFlushSize() {
+    return Math.max(sinkConfig.getFlushSize(), 1);
+  }
+
+  public long getFlushIntervalInMillis() {
+    return sinkConfig.getFlushIntervalInMillis();
+  }
+
+  /**
+   * Returns false only if the table had to be flushed because it reached the flush size and the flush failed.
+   */
+  public boolean upsert(String tableName, String id, Map<String, String> columnValueMapping, List<String> primaryKeys) {
+    Map<String, String> columnValues = new TreeMap<>();
+    columnValueMapping.forEach((column, value) -> {
+      if (value != null && !value.equals("")) {
+        columnValues.put(column, value);
+      }
+    });
+    if (columnValues.isEmpty()) {
+      return true;
+    }
+    return getTableBatch(tableName).add(id, columnValues, primaryKeys);
+  }
+
+  public boolean delete(String tableName, String id) {
+    return getTableBatch(tableName).add(id, null, null);
+  }
+
+  /**
+   * Writes the buffered changes of all the tables, returns true if all of them were written.
+   */
+  public boolean flush() {
+    boolean flushed = true;
+    for (TableBatch tableBatch : tableBatches.values()) {
+      flushed = tableBatch.flush() && flushed;
+    }
+    return flushed;
+  }
+
+  private TableBatch getTableBatch(String tableName) {
+    return tableBatches.computeIfAbsent(tableName, TableBatch::new);
+  }
+
+  private boolean write(String tableName, List<String> primaryKeys, Map<String, Map<String, String>> changes) {
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down");
+      return false;
+    }
+
+    // Rows with the same columns share the statement, a null column value map marks a deleted row
+    Map<String, List<List<String>>> parametersBySql = new LinkedHashMap<>();
+    changes.forEach((id, columnValues) -> {
+      if (columnValues == null) {
+        parametersBySql.computeIfAbsent(deleteSQL(tableName), sql -> new ArrayList<>())
+            .add(Collections.singletonList(id));
+      } else {
+        parametersBySql
+            .computeIfAbsent(upsertSQL(tableName, columnValues.keySet(), primaryKeys), sql -> new ArrayList<>())
+            .add(new ArrayList<>(columnValues.values()));
+      }
+    });
+
+    // Statements are upserts and deletes by id, so writing again the rows of a partially applied batch is harmless
+    for (int retryCount = 0; retryCount < MAX_RETRY_COUNT; retryCount++) {
+      try (Timer.Context ignore = flushTimer.time(); Connection dbConnection = timeScaleDBService.getDBConnection()) {
+        int dropped = 0;
+        for (Map.Entry<String, List<List<String>>> entry : parametersBySql.entrySet()) {
+          dropped += execute(dbConnection, tableName, entry.getKey(), entry.getValue());
+        }
+        writtenRows.mark(changes.size() - dropped);
+        droppedRows.mark(dropped);
+        log.info("Flushed {} changes to table {}, dropped {}", changes.size(), tableName, dropped);
+        return true;
+      } catch (SQLException e) {
+        log.error("Failed to flush {} changes to table {}, retryCount=[{}], Exception: ", changes.size(), tableName,
+            retryCount, e);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Executes the statement for all the rows in one batch, or row by row if the batch fails. Returns the number of rows
+   * that could not be written, throws only if the connection to the database was lost.
+   */
+  private static int execute(Connection dbConnection, String tableName, String sql, List<List<String>> rows)
+      throws SQLException {
+    try (PreparedStatement statement = dbConnection.prepareStatement(sql)) {
+      for (List<String> row : rows) {
+        bind(statement, row);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+      return 0;
+    } catch (SQLException e) {
+      if (isConnectionLost(dbConnection, e)) {
+        throw e;
+      }
+      log.warn("Failed to write the batch of {} rows to table {}, writing them one by one", rows.size(), tableName, e);
+    }
+
+    int dropped = 0;
+    try (PreparedStatement statement = dbConnection.prepareStatement(sql)) {
+      for (List<String> row : rows) {
+        try {
+          bind(statement, row);
+          statement.execute();
+        } catch (SQLException e) {
+          if (isConnectionLost(dbConnection, e)) {
+            throw e;
+          }
+          log.error("Failed to save/update/delete data Query = {}, Values = {}, Exception: ", sql, row, e);
+          dropped++;
+        }
+      }
+    }
+    return dropped;
+  }
+
+  private static void bind(PreparedStatement statement, List<String> row) throws SQLException {
+    for (int i = 0; i < row.size(); i++) {
+      // Bound as untyped values so that the database casts them to the column types, like the quoted literals
+      statement.setObject(i + 1, row.get(i), Types.OTHER);
+    }
+  }
+
+  private static boolean isConnectionLost(Connection dbConnection, SQLException e) {
+    if (e.getSQLState() != null && e.getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS)) {
+      return true;
+    }
+    try {
+      return !dbConnection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException validationException) {
+      return true;
+    }
+  }
+
+  private static String upsertSQL(String tableName, Iterable<String> columns, List<String> primaryKeys) {
+    String columnList = String.join(",", columns);
+    List<String> placeholders = new ArrayList<>();
+    List<String> assignments = new ArrayList<>();
+    for (String column : columns) {
+      placeholders.add("?");
+      assignments.add(String.format("%s=EXCLUDED.%s", column, column));
+    }
+    return String.format("INSERT INTO %s (%s) VALUES(%s) ON CONFLICT (%s) DO UPDATE SET %s", tableName, columnList,
+        String.join(",", placeholders), String.join(",", primaryKeys), String.join(",", assignments));
+  }
+
+  private static String deleteSQL(String tableName) {
+    return String.format("DELETE FROM %s WHERE %s=?", tableName, ID_COLUMN);
+  }
+
+  private class TableBatch {
+    private final String tableName;
+    private Map<String, Map<String, String>> changes = new LinkedHashMap<>();
+    private List<String> primaryKeys;
+
+    TableBatch(String tableName) {
+      this.tableName = tableName;
+    }
+
+    synchronized boolean add(String id, Map<String, String> columnValues, List<String> primaryKeys) {
+      receivedChanges.mark();
+      if (primaryKeys != null) {
+        this.primaryKeys = primaryKeys;
+      }
+      if (changes.containsKey(id)) {
+        collapsedChanges.mark();
+        changes.remove(id);
+      }
+      changes.put(id, columnValues);
+      return changes.size() < getFlushSize() || flush();
+    }
+
+    // The lock is held while writing so that a newer change of a row is never written before an older one
+    synchronized boolean flush() {
+      if (changes.isEmpty()) {
+        return true;
+      }
+      if (!write(tableName, primaryKeys, changes)) {
+        return false;
+      }
+      changes = new LinkedHashMap<>();
+      return true;
+    }
+  }
+}
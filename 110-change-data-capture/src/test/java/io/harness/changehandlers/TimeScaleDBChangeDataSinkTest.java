@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.ChangeDataCaptureServiceConfig;
+import io.harness.ChangeDataSinkConfig;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TimeScaleDBChangeDataSinkTest extends CategoryTest {
+  private static final String TABLE = "pipeline_execution_summary_cd";
+  private static final String UPSERT_SQL = "INSERT INTO pipeline_execution_summary_cd (id,name) VALUES(?,?) "
+      + "ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,name=EXCLUDED.name";
+  private static final String DELETE_SQL = "DELETE FROM pipeline_execution_summary_cd WHERE id=?";
+  private static final List<String> PRIMARY_KEYS = Collections.singletonList("id");
+
+  private TimeScaleDBService timeScaleDBService;
+  private Connection connection;
+  private PreparedStatement upsertStatement;
+  private PreparedStatement deleteStatement;
+  private MetricRegistry metricRegistry;
+  private TimeScaleDBChangeDataSink changeDataSink;
+
+  @Before
+  public void setUp() throws SQLException {
+    timeScaleDBService = mock(TimeScaleDBService.class);
+    connection = mock(Connection.class);
+    upsertStatement = mock(PreparedStatement.class);
+    deleteStatement = mock(PreparedStatement.class);
+    when(timeScaleDBService.isValid()).thenReturn(true);
+    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(connection.prepareStatement(UPSERT_SQL)).thenReturn(upsertStatement);
+    when(connection.prepareStatement(DELETE_SQL)).thenReturn(deleteStatement);
+    when(connection.isValid(anyInt())).thenReturn(true);
+
+    ChangeDataCaptureServiceConfig config = new ChangeDataCaptureServiceConfig();
+    config.setChangeDataSinkConfig(ChangeDataSinkConfig.builder().batchingEnabled(true).flushSize(100).build());
+    metricRegistry = new MetricRegistry();
+    changeDataSink = new TimeScaleDBChangeDataSink(timeScaleDBService, config, metricRegistry);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWriteOnlyTheLastChangeOfEachRow() throws SQLException {
+    assertThat(changeDataSink.upsert(TABLE, "id1", ImmutableMap.of("id", "id1", "name", "first"), PRIMARY_KEYS))
+        .isTrue();
+    assertThat(changeDataSink.upsert(TABLE, "id2", ImmutableMap.of("id", "id2", "name", "other"), PRIMARY_KEYS))
+        .isTrue();
+    assertThat(changeDataSink.upsert(TABLE, "id1", ImmutableMap.of("id", "id1", "name", "second"), PRIMARY_KEYS))
+        .isTrue();
+    assertThat(changeDataSink.delete(TABLE, "id2")).isTrue();
+
+    assertThat(changeDataSink.flush()).isTrue();
+
+    verify(upsertStatement, times(1)).addBatch();
+    verify(upsertStatement).setObject(1, "id1", Types.OTHER);
+    verify(upsertStatement).setObject(2, "second", Types.OTHER);
+    verify(upsertStatement, never()).setObject(2, "first", Types.OTHER);
+    verify(upsertStatement, never()).setObject(1, "id2", Types.OTHER);
+    verify(deleteStatement, times(1)).addBatch();
+    verify(deleteStatement).setObject(1, "id2", Types.OTHER);
+    assertThat(metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "collapsed")).getCount())
+        .isEqualTo(2);
+    assertThat(metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "written")).getCount())
+        .isEqualTo(2);
+
+    // Nothing is left to write once the batch was flushed
+    assertThat(changeDataSink.flush()).isTrue();
+    verify(connection, times(1)).prepareStatement(UPSERT_SQL);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropOnlyTheRowsThatCannotBeWritten() throws SQLException {
+    when(upsertStatement.executeBatch()).thenThrow(new SQLException("invalid input syntax", "22P02"));
+    when(upsertStatement.execute()).thenThrow(new SQLException("invalid input syntax", "22P02")).thenReturn(false);
+
+    changeDataSink.upsert(TABLE, "id1", ImmutableMap.of("id", "id1", "name", "bad"), PRIMARY_KEYS);
+    changeDataSink.upsert(TABLE, "id2", ImmutableMap.of("id", "id2", "name", "good"), PRIMARY_KEYS);
+
+    assertThat(changeDataSink.flush()).isTrue();
+
+    verify(upsertStatement, times(2)).execute();
+    assertThat(metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "dropped")).getCount())
+        .isEqualTo(1);
+    assertThat(metricRegistry.meter(MetricRegistry.name(TimeScaleDBChangeDataSink.class, "written")).getCount())
+        .isEqualTo(1);
+
+    // The dropped row is not written again on the next flush
+    assertThat(changeDataSink.flush()).isTrue();
+    verify(upsertStatement, times(1)).executeBatch();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldKeepTheChangesWhenTimescaleIsUnreachable() throws SQLException {
+    when(timeScaleDBService.getDBConnection())
+        .thenThrow(new SQLException("connection refused", "08001"))
+        .thenThrow(new SQLException("connection refused", "08001"))
+        .thenThrow(new SQLException("connection refused", "08001"))
+        .thenThrow(new SQLException("connection refused", "08001"))
+        .thenThrow(new SQLException("connection refused", "08001"))
+        .thenReturn(connection);
+
+    changeDataSink.upsert(TABLE, "id1", ImmutableMap.of("id", "id1", "name", "first"), PRIMARY_KEYS);
+
+    assertThat(changeDataSink.flush()).isFalse();
+    verify(connection, never()).prepareStatement(anyString());
+
+    assertThat(changeDataSink.flush()).isTrue();
+    verify(upsertStatement).setObject(2, "first", Types.OTHER);
+    verify(upsertStatement, times(1)).executeBatch();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFailTheFlushWhenTheConnectionIsLostWhileWriting() throws SQLException {
+    when(upsertStatement.executeBatch()).thenThrow(new SQLException("connection reset", "08006"));
+
+    changeDataSink.upsert(TABLE, "id1", ImmutableMap.of("id", "id1", "name", "first"), PRIMARY_KEYS);
+
+    assertThat(changeDataSink.flush()).isFalse();
+    verify(upsertStatement, never()).execute();
+    verify(connection, times(5)).prepareStatement(eq(UPSERT_SQL));
+  }
+}
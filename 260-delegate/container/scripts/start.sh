@@ -270,6 +270,9 @@ if ! `grep pollForTasks config-delegate.yml > /dev/null`; then
       echo "pollForTasks: ${POLL_FOR_TASKS:-false}" >> config-delegate.yml
   fi
 fi
+if ! `grep streamTaskEvents config-delegate.yml > /dev/null`; then
+  echo "streamTaskEvents: ${STREAM_TASK_EVENTS:-false}" >> config-delegate.yml
+fi
 
 if ! `grep cdnUrl config-delegate.yml > /dev/null`; then
   echo "cdnUrl: $CDN_URL" >> config-delegate.yml
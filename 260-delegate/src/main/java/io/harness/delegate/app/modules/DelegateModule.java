@@ -124,6 +124,7 @@ import io.harness.delegate.service.DelegatePropertyServiceImpl;
 import io.harness.delegate.service.K8sGlobalConfigServiceImpl;
 import io.harness.delegate.service.LogAnalysisStoreServiceImpl;
 import io.harness.delegate.service.MetricDataStoreServiceImpl;
+import io.harness.delegate.service.TaskConcurrencyLimiter;
 import io.harness.delegate.task.BuildSourceTask;
 import io.harness.delegate.task.DelegateRunnableTask;
 import io.harness.delegate.task.MicrosoftTeamsSenderDelegateTask;
@@ -794,10 +795,17 @@ public class DelegateModule extends AbstractModule {
   @Singleton
   @Named("taskExecutor")
   public ExecutorService taskExecutor() {
-    return ThreadPool.create(10, 400, 1, TimeUnit.SECONDS,
+    return ThreadPool.create(10, configuration.isElasticTaskExecutor() ? Integer.MAX_VALUE : 400, 1, TimeUnit.SECONDS,
         new ThreadFactoryBuilder().setNameFormat("task-exec-%d").setPriority(Thread.MIN_PRIORITY).build());
   }
 
+  @Provides
+  @Singleton
+  public TaskConcurrencyLimiter taskConcurrencyLimiter() {
+    return new TaskConcurrencyLimiter(
+        configuration.getTaskConcurrencyLimit(), configuration.getTaskTypeConcurrencyLimits());
+  }
+
   @Provides
   @Singleton
   @Named("asyncExecutor")
@@ -826,7 +834,8 @@ public class DelegateModule extends AbstractModule {
   @Singleton
   @Named("timeoutExecutor")
   public ExecutorService timeoutExecutor() {
-    return ThreadPool.create(10, 40, 7, TimeUnit.SECONDS,
+    // Watches every executing task, so it has to grow with the task executor
+    return ThreadPool.create(10, configuration.isElasticTaskExecutor() ? Integer.MAX_VALUE : 40, 7, TimeUnit.SECONDS,
         new ThreadFactoryBuilder().setNameFormat("timeout-%d").setPriority(Thread.NORM_PRIORITY).build());
   }
 
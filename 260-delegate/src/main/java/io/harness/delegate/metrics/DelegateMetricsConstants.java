@@ -19,6 +19,8 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String LOG_LINES_QUEUED = "log_lines_queued";
+  public static final String LOG_LINES_DROPPED = "log_lines_dropped";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +30,8 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(LOG_LINES_QUEUED, create("Number of log lines waiting to be pushed to the log service.", DELEGATE_NAME_LABEL));
+    put(LOG_LINES_DROPPED, create("Number of log lines dropped since the delegate started.", DELEGATE_NAME_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
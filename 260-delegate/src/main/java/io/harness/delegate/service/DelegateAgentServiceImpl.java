@@ -57,6 +57,8 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_PROCESS;
 import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_DROPPED;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_LINES_QUEUED;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_IN_QUEUE;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASK_EXECUTION_TIME;
@@ -143,6 +145,7 @@ import io.harness.grpc.DelegateServiceGrpcAgentClient;
 import io.harness.grpc.util.RestartableServiceManager;
 import io.harness.logging.AutoLogContext;
 import io.harness.logstreaming.LogStreamingClient;
+import io.harness.logstreaming.LogStreamingDispatcher;
 import io.harness.logstreaming.LogStreamingHelper;
 import io.harness.logstreaming.LogStreamingSanitizer;
 import io.harness.logstreaming.LogStreamingTaskClient;
@@ -341,6 +344,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject @Named("watcherUpgradeExecutor") private ExecutorService watcherUpgradeExecutor;
   @Inject @Named("backgroundExecutor") private ExecutorService backgroundExecutor;
   @Inject @Named("taskPollExecutor") private ExecutorService taskPollExecutor;
+  @Inject private TaskEventsStreamClient taskEventsStreamClient;
+  @Inject private TaskConcurrencyLimiter taskConcurrencyLimiter;
   @Inject @Named("taskExecutor") private ExecutorService taskExecutor;
   @Inject @Named("timeoutExecutor") private ExecutorService timeoutEnforcement;
   @Inject @Named("grpcServiceExecutor") private ExecutorService grpcServiceExecutor;
@@ -360,6 +365,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
+  @Inject private LogStreamingDispatcher logStreamingDispatcher;
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceGrpcAgentClient delegateServiceGrpcAgentClient;
   @Inject private KryoSerializer kryoSerializer;
@@ -579,7 +585,12 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         log.info("Polling is enabled for Delegate");
         startHeartbeat(builder);
         startKeepAlivePacket(builder);
-        startTaskPolling();
+        if (delegateConfiguration.isStreamTaskEvents()) {
+          log.info("Streaming of task events is enabled for Delegate");
+          taskEventsStreamClient.start(accountId, delegateId, this::processDelegateTaskEvent);
+        } else {
+          startTaskPolling();
+        }
       } else {
         client = org.atmosphere.wasync.ClientFactory.getDefault().newClient();
 
@@ -1314,6 +1325,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     log.info("Stopping executors");
     taskExecutor.shutdown();
     taskPollExecutor.shutdown();
+    taskEventsStreamClient.stop();
 
     final boolean terminatedTaskExec = taskExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
     final boolean terminatedPoll = taskPollExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
@@ -1825,7 +1837,9 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
 
     for (Entry<String, ThreadPoolExecutor> executorEntry : getLogExecutors().entrySet()) {
       builder.put(executorEntry.getKey(), Integer.toString(executorEntry.getValue().getActiveCount()));
+      builder.put(executorEntry.getKey() + "-threads", Integer.toString(executorEntry.getValue().getPoolSize()));
     }
+    builder.putAll(taskConcurrencyLimiter.obtainPerformance());
     MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
 
     memoryUsage(builder, "heap-", memoryMXBean.getHeapMemoryUsage());
@@ -1886,6 +1900,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private void dispatchDelegateTask(DelegateTaskEvent delegateTaskEvent) {
     log.info("DelegateTaskEvent received - {}", delegateTaskEvent);
     String delegateTaskId = delegateTaskEvent.getDelegateTaskId();
+    TaskConcurrencyLimiter.Permit permit = null;
 
     try {
       if (frozen.get()) {
@@ -1919,6 +1934,16 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         perpetualTaskCount = perpetualTaskWorker.getCurrentlyExecutingPerpetualTasksCount().intValue();
       }
 
+      // Leave the task for other delegates rather than acquiring it just to wait for a permit
+      if (isNotBlank(delegateTaskEvent.getTaskType())) {
+        permit = taskConcurrencyLimiter.tryAcquire(delegateTaskEvent.getTaskType());
+        if (permit == null) {
+          log.info("Task [DelegateTaskEvent: {}] over the concurrency limit of its task type. Don't acquire",
+              delegateTaskEvent);
+          return;
+        }
+      }
+
       currentlyAcquiringTasks.add(delegateTaskId);
 
       log.debug("Try to acquire DelegateTask - accountId: {}", accountId);
@@ -1936,7 +1961,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         // TODO: Remove this once TaskValidation does not use secrets
 
         // applyDelegateSecretFunctor(delegatePackage);
-        DelegateValidateTask delegateValidateTask = getDelegateValidateTask(delegateTaskEvent, delegateTaskPackage);
+        DelegateValidateTask delegateValidateTask =
+            getDelegateValidateTask(delegateTaskEvent, delegateTaskPackage, permit);
         injector.injectMembers(delegateValidateTask);
         currentlyValidatingTasks.put(delegateTaskPackage.getDelegateTaskId(), delegateTaskPackage);
         updateCounterIfLessThanCurrent(maxValidatingTasksCount, currentlyValidatingTasks.size());
@@ -1945,27 +1971,30 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         applyDelegateSecretFunctor(delegateTaskPackage);
         // Whitelisted. Proceed immediately.
         log.info("Delegate {} whitelisted for task and accountId: {}", delegateId, accountId);
-        executeTask(delegateTaskPackage);
+        executeTask(delegateTaskPackage, permit);
       }
 
     } catch (IOException e) {
       log.error("Unable to get task for validation", e);
     } finally {
+      if (permit != null) {
+        permit.close();
+      }
       currentlyAcquiringTasks.remove(delegateTaskId);
       currentlyExecutingFutures.remove(delegateTaskId);
     }
   }
 
-  private DelegateValidateTask getDelegateValidateTask(
-      DelegateTaskEvent delegateTaskEvent, DelegateTaskPackage delegateTaskPackage) {
+  private DelegateValidateTask getDelegateValidateTask(DelegateTaskEvent delegateTaskEvent,
+      DelegateTaskPackage delegateTaskPackage, TaskConcurrencyLimiter.Permit permit) {
     Consumer<List<DelegateConnectionResult>> postValidationFunction =
-        getPostValidationFunction(delegateTaskEvent, delegateTaskPackage.getDelegateTaskId());
+        getPostValidationFunction(delegateTaskEvent, delegateTaskPackage.getDelegateTaskId(), permit);
 
     return new CapabilityCheckController(delegateId, delegateTaskPackage, postValidationFunction);
   }
 
   private Consumer<List<DelegateConnectionResult>> getPostValidationFunction(
-      DelegateTaskEvent delegateTaskEvent, String taskId) {
+      DelegateTaskEvent delegateTaskEvent, String taskId, TaskConcurrencyLimiter.Permit permit) {
     return delegateConnectionResults -> {
       try (AutoLogContext ignored = new TaskLogContext(taskId, OVERRIDE_ERROR)) {
         // Tools might be installed asynchronously, so get the flag early on
@@ -1983,7 +2012,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
           if (delegateTaskPackage != null && delegateTaskPackage.getData() != null
               && delegateId.equals(delegateTaskPackage.getDelegateId())) {
             applyDelegateSecretFunctor(delegateTaskPackage);
-            executeTask(delegateTaskPackage);
+            executeTask(delegateTaskPackage, permit);
           } else {
             log.info("Did not get the go-ahead to proceed for task");
             if (validated) {
@@ -2015,7 +2044,28 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     return delegateConnectionResultDetails;
   }
 
-  private void executeTask(@NotNull DelegateTaskPackage delegateTaskPackage) {
+  /**
+   * Runs the task with the permit obtained before it was acquired, or waits for one if the task event did not carry
+   * the task type. The permit is released by the caller.
+   */
+  private void executeTask(@NotNull DelegateTaskPackage delegateTaskPackage, TaskConcurrencyLimiter.Permit permit) {
+    if (permit != null) {
+      runTask(delegateTaskPackage);
+      return;
+    }
+
+    String taskType = delegateTaskPackage.getData().getTaskType();
+    try (TaskConcurrencyLimiter.Permit ignore = taskConcurrencyLimiter.acquire(taskType)) {
+      runTask(delegateTaskPackage);
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while waiting to execute task of type {}", taskType);
+      // Sent before restoring the interrupt, the call to the manager would fail on an interrupted thread
+      sendErrorResponse(delegateTaskPackage);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runTask(@NotNull DelegateTaskPackage delegateTaskPackage) {
     TaskData taskData = delegateTaskPackage.getData();
 
     log.debug("DelegateTask acquired - accountId: {}, taskType: {}", accountId, taskData.getTaskType());
@@ -2090,6 +2140,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     LogStreamingTaskClientBuilder taskClientBuilder =
         LogStreamingTaskClient.builder()
             .logStreamingClient(logStreamingClient)
+            .logStreamingDispatcher(logStreamingDispatcher)
             .accountId(delegateTaskPackage.getAccountId())
             .token(delegateTaskPackage.getLogStreamingToken())
             .logStreamingSanitizer(LogStreamingSanitizer.builder().secrets(activitySecrets.getRight()).build())
@@ -2621,6 +2672,10 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = ((ThreadPoolExecutor) taskExecutor).getActiveCount();
     metricRegistry.recordGaugeValue(TASKS_IN_QUEUE, new String[] {DELEGATE_NAME}, tasksInQueueCount);
     metricRegistry.recordGaugeValue(TASKS_CURRENTLY_EXECUTING, new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    metricRegistry.recordGaugeValue(
+        LOG_LINES_QUEUED, new String[] {DELEGATE_NAME}, logStreamingDispatcher.getQueuedLines());
+    metricRegistry.recordGaugeValue(
+        LOG_LINES_DROPPED, new String[] {DELEGATE_NAME}, logStreamingDispatcher.getDroppedLines());
   }
 
   private void sendErrorResponse(DelegateTaskPackage delegateTaskPackage) {
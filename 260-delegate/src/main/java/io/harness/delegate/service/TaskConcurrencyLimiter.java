@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many tasks of each task type execute at the same time. The limit is checked with {@link #tryAcquire}
+ * before a task is acquired from the manager, so that tasks over the limit are left for other delegates. Tasks whose
+ * type was not known up front wait for a permit on their own thread with {@link #acquire}. A limit of zero or less
+ * means that the task type is not limited.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class TaskConcurrencyLimiter {
+  private final int defaultLimit;
+  private final Map<String, Integer> taskTypeLimits;
+  private final ConcurrentMap<String, TaskTypeUsage> usages = new ConcurrentHashMap<>();
+
+  public TaskConcurrencyLimiter(int defaultLimit, Map<String, Integer> taskTypeLimits) {
+    this.defaultLimit = defaultLimit;
+    this.taskTypeLimits = taskTypeLimits == null ? ImmutableMap.of() : ImmutableMap.copyOf(taskTypeLimits);
+  }
+
+  public Permit acquire(String taskType) throws InterruptedException {
+    TaskTypeUsage usage = usages.computeIfAbsent(taskType, type -> new TaskTypeUsage(getLimit(type)));
+    if (usage.semaphore != null) {
+      usage.waiting.incrementAndGet();
+      try {
+        usage.semaphore.acquire();
+      } finally {
+        usage.waiting.decrementAndGet();
+      }
+    }
+    usage.executing.incrementAndGet();
+    return new Permit(usage);
+  }
+
+  /**
+   * Returns null if all the permits of the task type are in use.
+   */
+  public Permit tryAcquire(String taskType) {
+    TaskTypeUsage usage = usages.computeIfAbsent(taskType, type -> new TaskTypeUsage(getLimit(type)));
+    if (usage.semaphore != null && !usage.semaphore.tryAcquire()) {
+      return null;
+    }
+    usage.executing.incrementAndGet();
+    return new Permit(usage);
+  }
+
+  public Map<String, String> obtainPerformance() {
+    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+    usages.forEach((taskType, usage) -> {
+      int executing = usage.executing.get();
+      int waiting = usage.waiting.get();
+      if (executing > 0 || waiting > 0) {
+        builder.put("executing-" + taskType, Integer.toString(executing));
+        builder.put("waiting-" + taskType, Integer.toString(waiting));
+      }
+    });
+    return builder.build();
+  }
+
+  private int getLimit(String taskType) {
+    return taskTypeLimits.getOrDefault(taskType, defaultLimit);
+  }
+
+  public static class Permit implements AutoCloseable {
+    private final TaskTypeUsage usage;
+    private boolean released;
+
+    private Permit(TaskTypeUsage usage) {
+      this.usage = usage;
+    }
+
+    @Override
+    public void close() {
+      if (released) {
+        return;
+      }
+      released = true;
+      usage.executing.decrementAndGet();
+      if (usage.semaphore != null) {
+        usage.semaphore.release();
+      }
+    }
+  }
+
+  private static class TaskTypeUsage {
+    private final Semaphore semaphore;
+    private final AtomicInteger executing = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    TaskTypeUsage(int limit) {
+      semaphore = limit > 0 ? new Semaphore(limit, true) : null;
+    }
+  }
+}
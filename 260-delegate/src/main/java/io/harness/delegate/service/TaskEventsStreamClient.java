@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.delegate.beans.DelegateTaskAbortEvent.Builder.aDelegateTaskAbortEvent;
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.AccountId;
+import io.harness.delegate.DelegateServiceGrpc;
+import io.harness.delegate.DelegateServiceGrpc.DelegateServiceStub;
+import io.harness.delegate.TaskEvent;
+import io.harness.delegate.TaskEventsStreamRequest;
+import io.harness.delegate.TaskEventsStreamResponse;
+import io.harness.delegate.beans.DelegateTaskEvent;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import io.grpc.CallCredentials;
+import io.grpc.Channel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receives the task events of the delegate over a gRPC stream from the manager, as an alternative to polling for them.
+ * The next events are requested only once the previous ones were handed over, and a broken stream is reopened after
+ * the last event received.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class TaskEventsStreamClient {
+  private static final long MIN_RECONNECT_DELAY_MS = TimeUnit.SECONDS.toMillis(1);
+  private static final long MAX_RECONNECT_DELAY_MS = TimeUnit.SECONDS.toMillis(30);
+
+  private final DelegateServiceStub delegateServiceStub;
+  private final ScheduledExecutorService reconnectExecutor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("task-events-stream").setDaemon(true).build());
+
+  private String accountId;
+  private String delegateId;
+  private Consumer<DelegateTaskEvent> eventConsumer;
+  private boolean running;
+  private String streamId = "";
+  private long lastSequenceNumber;
+  private long reconnectDelayMs = MIN_RECONNECT_DELAY_MS;
+  private TaskEventsObserver currentObserver;
+
+  @Inject
+  public TaskEventsStreamClient(@Named("manager-channel") Channel channel, CallCredentials callCredentials) {
+    this(DelegateServiceGrpc.newStub(channel).withCallCredentials(callCredentials));
+  }
+
+  @VisibleForTesting
+  TaskEventsStreamClient(DelegateServiceStub delegateServiceStub) {
+    this.delegateServiceStub = delegateServiceStub;
+  }
+
+  public synchronized void start(String accountId, String delegateId, Consumer<DelegateTaskEvent> eventConsumer) {
+    this.accountId = accountId;
+    this.delegateId = delegateId;
+    this.eventConsumer = eventConsumer;
+    running = true;
+    connect();
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (currentObserver != null) {
+      currentObserver.cancel();
+      currentObserver = null;
+    }
+  }
+
+  private synchronized void connect() {
+    if (!running) {
+      return;
+    }
+    log.info("Opening task events stream {} after event {}", streamId, lastSequenceNumber);
+    currentObserver = new TaskEventsObserver();
+    delegateServiceStub.streamTaskEvents(TaskEventsStreamRequest.newBuilder()
+                                             .setAccountId(AccountId.newBuilder().setId(accountId).build())
+                                             .setDelegateId(delegateId)
+                                             .setStreamId(streamId)
+                                             .setLastSequenceNumber(lastSequenceNumber)
+                                             .build(),
+        currentObserver);
+  }
+
+  private synchronized boolean onEvents(TaskEventsObserver observer, TaskEventsStreamResponse response) {
+    if (observer != currentObserver) {
+      return false;
+    }
+    if (!response.getStreamId().equals(streamId)) {
+      streamId = response.getStreamId();
+      lastSequenceNumber = 0;
+    }
+    reconnectDelayMs = MIN_RECONNECT_DELAY_MS;
+    for (TaskEvent event : response.getEventsList()) {
+      if (event.getSequenceNumber() <= lastSequenceNumber) {
+        continue;
+      }
+      lastSequenceNumber = event.getSequenceNumber();
+      try {
+        eventConsumer.accept(toDelegateTaskEvent(event));
+      } catch (Exception e) {
+        log.error("Failed to process task event {}", event.getTaskId().getId(), e);
+      }
+    }
+    return true;
+  }
+
+  private synchronized void onClosed(TaskEventsObserver observer, Throwable t) {
+    if (observer != currentObserver || !running) {
+      return;
+    }
+    currentObserver = null;
+    log.warn("Task events stream closed, reopening in {} ms", reconnectDelayMs, t);
+    reconnectExecutor.schedule(this::connect, reconnectDelayMs, TimeUnit.MILLISECONDS);
+    reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+  }
+
+  private DelegateTaskEvent toDelegateTaskEvent(TaskEvent event) {
+    if (event.getAbort()) {
+      return aDelegateTaskAbortEvent()
+          .withAccountId(accountId)
+          .withDelegateTaskId(event.getTaskId().getId())
+          .withSync(event.getSync())
+          .build();
+    }
+    return aDelegateTaskEvent()
+        .withAccountId(accountId)
+        .withDelegateTaskId(event.getTaskId().getId())
+        .withSync(event.getSync())
+        .withTaskType(isEmpty(event.getTaskType()) ? null : event.getTaskType())
+        .build();
+  }
+
+  private class TaskEventsObserver
+      implements ClientResponseObserver<TaskEventsStreamRequest, TaskEventsStreamResponse> {
+    private ClientCallStreamObserver<TaskEventsStreamRequest> requestStream;
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<TaskEventsStreamRequest> requestStream) {
+      this.requestStream = requestStream;
+      requestStream.disableAutoInboundFlowControl();
+    }
+
+    @Override
+    public void onNext(TaskEventsStreamResponse response) {
+      if (onEvents(this, response)) {
+        requestStream.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      onClosed(this, t);
+    }
+
+    @Override
+    public void onCompleted() {
+      onClosed(this, null);
+    }
+
+    void cancel() {
+      requestStream.cancel("Delegate stopped streaming task events", null);
+    }
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.network.SafeHttpCall;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delegate wide dispatcher of log lines to the log service. Lines are buffered per log stream and pushed by a fixed
+ * set of threads, every 100ms or as soon as a stream has buffered enough lines, instead of by a flush thread per
+ * stream. Each stream has at most one push in flight, so its lines are pushed in order. A push sends a single batch
+ * and then requeues the stream behind the other streams, so that busy streams do not hold the push threads.
+ *
+ * Buffers are bounded. Lines written to a full buffer are dropped right away, so that the tasks do not slow down while
+ * the log service is unavailable. Buffers of streams that are not written to for a while are forgotten, in case the
+ * task never closes them.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_AGENT)
+public class LogStreamingDispatcher {
+  private static final long FLUSH_INTERVAL_MILLIS = 100;
+  private static final int FLUSH_SIZE = 500;
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final int MAX_BUFFERED_LINES_PER_STREAM = 10000;
+  private static final int PUSH_THREADS = 4;
+  private static final long IDLE_BUFFER_EVICTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+  private final Map<LogStream, LogBuffer> buffers = new ConcurrentHashMap<>();
+  private final AtomicLong queuedLines = new AtomicLong();
+  private final AtomicLong droppedLines = new AtomicLong();
+  private volatile ExecutorService pushExecutor;
+
+  // Streams are identified by their account, token and key only. Log streaming clients are retrofit proxies, which are
+  // not equal to anything, and the task clients build a new stream for every line.
+  @Value
+  static class LogStream {
+    @EqualsAndHashCode.Exclude LogStreamingClient logStreamingClient;
+    String token;
+    String accountId;
+    String logKey;
+  }
+
+  private static class LogBuffer {
+    private final List<LogLine> lines = new ArrayList<>();
+    private boolean pushing;
+    private boolean dropping;
+    private long lastDispatchedAt = currentTimeMillis();
+    // Set when the stream was drained while a push was in flight, the pusher then removes the buffer once it is done
+    private boolean removeWhenPushed;
+    // Set once the buffer is no longer in the map, lines for the stream go to a new buffer from then on
+    private boolean removed;
+  }
+
+  /**
+   * Buffers the line for the stream. Returns false if the line was dropped because the buffer of the stream is full.
+   */
+  public boolean dispatch(LogStream logStream, LogLine logLine) {
+    ensureStarted();
+    while (true) {
+      LogBuffer buffer = buffers.computeIfAbsent(logStream, key -> new LogBuffer());
+      synchronized (buffer) {
+        if (!buffer.removed) {
+          return dispatch(logStream, buffer, logLine);
+        }
+      }
+    }
+  }
+
+  // Must be called holding the lock of the buffer
+  private boolean dispatch(LogStream logStream, LogBuffer buffer, LogLine logLine) {
+    buffer.lastDispatchedAt = currentTimeMillis();
+    buffer.removeWhenPushed = false;
+    if (buffer.lines.size() >= MAX_BUFFERED_LINES_PER_STREAM) {
+      if (!buffer.dropping) {
+        buffer.dropping = true;
+        log.warn("Log stream buffer is full for {}, dropping log lines", logStream.getLogKey());
+      }
+      droppedLines.incrementAndGet();
+      schedulePush(logStream, buffer);
+      return false;
+    }
+
+    buffer.dropping = false;
+    buffer.lines.add(logLine);
+    queuedLines.incrementAndGet();
+    if (buffer.lines.size() >= FLUSH_SIZE) {
+      schedulePush(logStream, buffer);
+    }
+    return true;
+  }
+
+  /**
+   * Waits for the buffered lines of the stream to be pushed and forgets the stream. Returns false if they were not
+   * pushed within the timeout, in which case they are dropped. A push still in flight after the timeout is completed,
+   * and the stream is forgotten only then, so that later lines of the stream are not pushed ahead of it.
+   */
+  public boolean drain(LogStream logStream, long timeoutMillis) {
+    LogBuffer buffer = buffers.get(logStream);
+    if (buffer == null) {
+      return true;
+    }
+    synchronized (buffer) {
+      long deadline = currentTimeMillis() + timeoutMillis;
+      long remaining = timeoutMillis;
+      while ((!buffer.lines.isEmpty() || buffer.pushing) && remaining > 0) {
+        schedulePush(logStream, buffer);
+        try {
+          buffer.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        remaining = deadline - currentTimeMillis();
+      }
+      boolean drained = buffer.lines.isEmpty();
+      if (!drained) {
+        droppedLines.addAndGet(buffer.lines.size());
+        queuedLines.addAndGet(-buffer.lines.size());
+        buffer.lines.clear();
+      }
+      if (buffer.pushing) {
+        buffer.removeWhenPushed = true;
+      } else {
+        remove(logStream, buffer);
+      }
+      return drained;
+    }
+  }
+
+  // Must be called holding the lock of the buffer
+  private void remove(LogStream logStream, LogBuffer buffer) {
+    buffer.removed = true;
+    buffers.remove(logStream, buffer);
+  }
+
+  /**
+   * Forgets the streams which have nothing to push and were not written to since the given time.
+   */
+  @VisibleForTesting
+  void evictIdleBuffers(long idleSince) {
+    buffers.forEach((logStream, buffer) -> {
+      synchronized (buffer) {
+        if (buffer.lines.isEmpty() && !buffer.pushing && buffer.lastDispatchedAt < idleSince) {
+          remove(logStream, buffer);
+        }
+      }
+    });
+  }
+
+  /**
+   * Pushes every buffered line from the calling thread.
+   */
+  @VisibleForTesting
+  void flush() {
+    for (Map.Entry<LogStream, LogBuffer> entry : buffers.entrySet()) {
+      LogBuffer buffer = entry.getValue();
+      synchronized (buffer) {
+        while (buffer.pushing) {
+          try {
+            buffer.wait(FLUSH_INTERVAL_MILLIS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+        if (buffer.lines.isEmpty()) {
+          continue;
+        }
+        buffer.pushing = true;
+      }
+      boolean pushed = true;
+      while (pushed) {
+        pushed = pushBatch(entry.getKey(), buffer);
+      }
+    }
+  }
+
+  public long getQueuedLines() {
+    return queuedLines.get();
+  }
+
+  public long getDroppedLines() {
+    return droppedLines.get();
+  }
+
+  public int getStreams() {
+    return buffers.size();
+  }
+
+  private void ensureStarted() {
+    if (pushExecutor != null) {
+      return;
+    }
+    synchronized (this) {
+      if (pushExecutor == null) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("log-streaming-dispatcher").setDaemon(true).build());
+        scheduler.scheduleWithFixedDelay(
+            this::schedulePushes, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        pushExecutor = Executors.newFixedThreadPool(
+            PUSH_THREADS, new ThreadFactoryBuilder().setNameFormat("log-streaming-push-%d").setDaemon(true).build());
+      }
+    }
+  }
+
+  private void schedulePushes() {
+    try {
+      evictIdleBuffers(currentTimeMillis() - IDLE_BUFFER_EVICTION_MILLIS);
+      buffers.forEach((logStream, buffer) -> {
+        synchronized (buffer) {
+          if (!buffer.lines.isEmpty()) {
+            schedulePush(logStream, buffer);
+          }
+        }
+      });
+    } catch (Exception ex) {
+      log.error("Unable to schedule pushing of log lines", ex);
+    }
+  }
+
+  // Must be called holding the lock of the buffer
+  private void schedulePush(LogStream logStream, LogBuffer buffer) {
+    if (buffer.pushing || pushExecutor == null) {
+      return;
+    }
+    buffer.pushing = true;
+    pushExecutor.execute(() -> push(logStream, buffer));
+  }
+
+  // Pushes a batch per turn and requeues the stream until its buffer is empty
+  private void push(LogStream logStream, LogBuffer buffer) {
+    if (pushBatch(logStream, buffer)) {
+      pushExecutor.execute(() -> push(logStream, buffer));
+    }
+  }
+
+  // Called by the single pusher of the buffer. Returns false once the buffer is empty, in which case the buffer is
+  // released for the next push.
+  private boolean pushBatch(LogStream logStream, LogBuffer buffer) {
+    List<LogLine> batch;
+    synchronized (buffer) {
+      if (buffer.lines.isEmpty()) {
+        buffer.pushing = false;
+        if (buffer.removeWhenPushed) {
+          remove(logStream, buffer);
+        }
+        buffer.notifyAll();
+        return false;
+      }
+      List<LogLine> head = buffer.lines.subList(0, Math.min(MAX_BATCH_SIZE, buffer.lines.size()));
+      batch = new ArrayList<>(head);
+      head.clear();
+    }
+
+    try {
+      SafeHttpCall.executeWithExceptions(logStream.getLogStreamingClient().pushMessage(
+          logStream.getToken(), logStream.getAccountId(), logStream.getLogKey(), batch));
+    } catch (Exception ex) {
+      log.error("Unable to push message to log stream for account {} and key {}", logStream.getAccountId(),
+          logStream.getLogKey(), ex);
+    } finally {
+      queuedLines.addAndGet(-batch.size());
+    }
+    return true;
+  }
+}
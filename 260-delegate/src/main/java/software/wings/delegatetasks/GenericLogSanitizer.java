@@ -7,10 +7,9 @@
 
 package software.wings.delegatetasks;
 
-import static io.harness.data.structure.EmptyPredicate.isEmpty;
-
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.expression.SecretMasker;
 
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class GenericLogSanitizer extends LogSanitizer {
-  private final Set<String> secretLines;
+  private final SecretMasker secretLineMasker;
 
   public GenericLogSanitizer(Set<String> secrets) {
-    secretLines = calculateSecretLines(secrets);
+    secretLineMasker = SecretMasker.compile(calculateSecretLines(secrets));
   }
 
   /**
@@ -35,9 +34,9 @@ public class GenericLogSanitizer extends LogSanitizer {
    */
   @Override
   public String sanitizeLog(String activityId, String message) {
-    if (isEmpty(secretLines)) {
+    if (secretLineMasker.isEmpty()) {
       return message;
     }
-    return sanitizeLogInternal(message, secretLines);
+    return sanitizeLogInternal(message, secretLineMasker);
   }
 }
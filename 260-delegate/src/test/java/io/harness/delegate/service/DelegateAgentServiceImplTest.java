@@ -45,6 +45,7 @@ import org.junit.experimental.categories.Category;
 import org.mockito.InjectMocks;
 import org.mockito.Matchers;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import retrofit2.Call;
@@ -55,6 +56,7 @@ public class DelegateAgentServiceImplTest extends CategoryTest {
   @Mock private DelegateAgentManagerClient delegateAgentManagerClient;
   @Mock private Call<DelegateTaskPackage> delegatePackageCall;
   @Mock private DelegateDecryptionService delegateDecryptionService;
+  @Spy private TaskConcurrencyLimiter taskConcurrencyLimiter = new TaskConcurrencyLimiter(0, null);
 
   @InjectMocks @Inject DelegateAgentServiceImpl delegateService;
 
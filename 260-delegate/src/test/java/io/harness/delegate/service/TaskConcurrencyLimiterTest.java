@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TaskConcurrencyLimiterTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldLimitConcurrentTasksOfTaskType() throws Exception {
+    TaskConcurrencyLimiter limiter = new TaskConcurrencyLimiter(0, ImmutableMap.of("SHELL_SCRIPT_TASK_NG", 1));
+
+    TaskConcurrencyLimiter.Permit permit = limiter.acquire("SHELL_SCRIPT_TASK_NG");
+    TaskConcurrencyLimiter.Permit unlimitedPermit = limiter.acquire("HTTP");
+    CompletableFuture<TaskConcurrencyLimiter.Permit> waitingPermit = CompletableFuture.supplyAsync(() -> {
+      try {
+        return limiter.acquire("SHELL_SCRIPT_TASK_NG");
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    while (!"1".equals(limiter.obtainPerformance().get("waiting-SHELL_SCRIPT_TASK_NG"))) {
+      Thread.sleep(10);
+    }
+    assertThat(waitingPermit.isDone()).isFalse();
+    assertThat(limiter.obtainPerformance())
+        .containsEntry("executing-SHELL_SCRIPT_TASK_NG", "1")
+        .containsEntry("executing-HTTP", "1");
+
+    permit.close();
+    waitingPermit.get(5, TimeUnit.SECONDS).close();
+    unlimitedPermit.close();
+
+    assertThat(limiter.obtainPerformance()).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotHandOutPermitsOverTheLimit() {
+    TaskConcurrencyLimiter limiter = new TaskConcurrencyLimiter(0, ImmutableMap.of("SHELL_SCRIPT_TASK_NG", 1));
+
+    TaskConcurrencyLimiter.Permit permit = limiter.tryAcquire("SHELL_SCRIPT_TASK_NG");
+    assertThat(permit).isNotNull();
+    assertThat(limiter.tryAcquire("SHELL_SCRIPT_TASK_NG")).isNull();
+
+    TaskConcurrencyLimiter.Permit unlimitedPermit = limiter.tryAcquire("HTTP");
+    assertThat(unlimitedPermit).isNotNull();
+    assertThat(limiter.obtainPerformance())
+        .containsEntry("executing-SHELL_SCRIPT_TASK_NG", "1")
+        .containsEntry("waiting-SHELL_SCRIPT_TASK_NG", "0");
+
+    permit.close();
+    permit.close();
+    unlimitedPermit.close();
+
+    TaskConcurrencyLimiter.Permit nextPermit = limiter.tryAcquire("SHELL_SCRIPT_TASK_NG");
+    assertThat(nextPermit).isNotNull();
+    assertThat(limiter.tryAcquire("SHELL_SCRIPT_TASK_NG")).isNull();
+    nextPermit.close();
+
+    assertThat(limiter.obtainPerformance()).isEmpty();
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogStreamingDispatcherTest extends CategoryTest {
+  private static final String ACCOUNT_ID = generateUuid();
+  private static final String TOKEN = generateUuid();
+
+  private final LogStreamingClient logStreamingClientMock = mock(LogStreamingClient.class);
+  private final LogStreamingDispatcher logStreamingDispatcher = new LogStreamingDispatcher();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushLinesOfStreamInOrder() {
+    List<LogLine> pushedLines = new ArrayList<>();
+    List<Integer> batchSizes = new ArrayList<>();
+    when(logStreamingClientMock.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key"), anyList())).thenAnswer(invocation -> {
+      List<LogLine> batch = (List<LogLine>) invocation.getArguments()[3];
+      pushedLines.addAll(batch);
+      batchSizes.add(batch.size());
+      return null;
+    });
+    LogStreamingDispatcher.LogStream logStream =
+        new LogStreamingDispatcher.LogStream(logStreamingClientMock, TOKEN, ACCOUNT_ID, "key");
+
+    List<LogLine> logLines = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      LogLine logLine = LogLine.builder().level(LogLevel.INFO).message("msg" + i).build();
+      logLines.add(logLine);
+      assertThat(logStreamingDispatcher.dispatch(logStream, logLine)).isTrue();
+    }
+
+    assertThat(logStreamingDispatcher.drain(logStream, TimeUnit.SECONDS.toMillis(5))).isTrue();
+    assertThat(pushedLines).containsExactlyElementsOf(logLines);
+    assertThat(batchSizes).allMatch(batchSize -> batchSize <= 1000);
+    assertThat(logStreamingDispatcher.getQueuedLines()).isEqualTo(0);
+    assertThat(logStreamingDispatcher.getDroppedLines()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLinesWhenBufferStaysFull() throws InterruptedException {
+    CountDownLatch pushBlocked = new CountDownLatch(1);
+    when(logStreamingClientMock.pushMessage(anyString(), anyString(), anyString(), anyList()))
+        .thenAnswer(invocation -> {
+          pushBlocked.await();
+          return null;
+        });
+    LogStreamingDispatcher.LogStream logStream =
+        new LogStreamingDispatcher.LogStream(logStreamingClientMock, TOKEN, ACCOUNT_ID, "key");
+
+    boolean dispatched = true;
+    for (int i = 0; i < 20000 && dispatched; i++) {
+      dispatched = logStreamingDispatcher.dispatch(logStream, LogLine.builder().message("msg").build());
+    }
+
+    assertThat(dispatched).isFalse();
+    assertThat(logStreamingDispatcher.getDroppedLines()).isEqualTo(1);
+    assertThat(logStreamingDispatcher.getQueuedLines()).isGreaterThan(0);
+
+    // Writers are not held back while the buffer stays full
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < 100; i++) {
+      assertThat(logStreamingDispatcher.dispatch(logStream, LogLine.builder().message("msg").build())).isFalse();
+    }
+    assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+    assertThat(logStreamingDispatcher.getDroppedLines()).isEqualTo(101);
+
+    pushBlocked.countDown();
+    assertThat(logStreamingDispatcher.drain(logStream, TimeUnit.SECONDS.toMillis(5))).isTrue();
+    assertThat(logStreamingDispatcher.getQueuedLines()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldBatchLinesOfStreamWhenClientIsNotEqualToItself() {
+    List<LogLine> pushedLines = new ArrayList<>();
+    List<Integer> batchSizes = new ArrayList<>();
+    // Like the retrofit proxies, the client is not equal to anything
+    LogStreamingClient logStreamingClient = (LogStreamingClient) Proxy.newProxyInstance(
+        LogStreamingClient.class.getClassLoader(), new Class[] {LogStreamingClient.class}, (proxy, method, args) -> {
+          if (method.getName().equals("pushMessage")) {
+            List<LogLine> batch = (List<LogLine>) args[3];
+            pushedLines.addAll(batch);
+            batchSizes.add(batch.size());
+            return null;
+          }
+          if (method.getName().equals("equals")) {
+            return false;
+          }
+          if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(proxy);
+          }
+          return null;
+        });
+
+    List<LogLine> logLines = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      LogLine logLine = LogLine.builder().level(LogLevel.INFO).message("msg" + i).build();
+      logLines.add(logLine);
+      assertThat(logStreamingDispatcher.dispatch(
+                     new LogStreamingDispatcher.LogStream(logStreamingClient, TOKEN, ACCOUNT_ID, "key"), logLine))
+          .isTrue();
+    }
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(1);
+
+    assertThat(logStreamingDispatcher.drain(
+                   new LogStreamingDispatcher.LogStream(logStreamingClient, TOKEN, ACCOUNT_ID, "key"),
+                   TimeUnit.SECONDS.toMillis(5)))
+        .isTrue();
+    assertThat(pushedLines).containsExactlyElementsOf(logLines);
+    assertThat(batchSizes.size()).isLessThan(logLines.size());
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldForgetStreamOnlyOnceInFlightPushCompletes() throws InterruptedException {
+    CountDownLatch pushBlocked = new CountDownLatch(1);
+    when(logStreamingClientMock.pushMessage(anyString(), anyString(), anyString(), anyList()))
+        .thenAnswer(invocation -> {
+          pushBlocked.await();
+          return null;
+        });
+    LogStreamingDispatcher.LogStream logStream =
+        new LogStreamingDispatcher.LogStream(logStreamingClientMock, TOKEN, ACCOUNT_ID, "key");
+    logStreamingDispatcher.dispatch(logStream, LogLine.builder().message("msg").build());
+
+    assertThat(logStreamingDispatcher.drain(logStream, 300)).isTrue();
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(1);
+
+    pushBlocked.countDown();
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+    while (logStreamingDispatcher.getStreams() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldEvictIdleStreams() {
+    LogStreamingDispatcher.LogStream logStream =
+        new LogStreamingDispatcher.LogStream(logStreamingClientMock, TOKEN, ACCOUNT_ID, "key");
+    logStreamingDispatcher.dispatch(logStream, LogLine.builder().message("msg").build());
+    logStreamingDispatcher.flush();
+
+    logStreamingDispatcher.evictIdleBuffers(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10));
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(1);
+
+    logStreamingDispatcher.evictIdleBuffers(System.currentTimeMillis() + 1);
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(0);
+    assertThat(logStreamingDispatcher.dispatch(logStream, LogLine.builder().message("msg").build())).isTrue();
+    assertThat(logStreamingDispatcher.getStreams()).isEqualTo(1);
+  }
+}
@@ -37,6 +37,7 @@ public class LogStreamingTaskClientTest extends CategoryTest {
   private final DelegateLogService logServiceMock = mock(DelegateLogService.class);
   private final LogStreamingClient logStreamingClientMock = mock(LogStreamingClient.class);
   private final LogStreamingSanitizer logStreamingSanitizerMock = mock(LogStreamingSanitizer.class);
+  private final LogStreamingDispatcher logStreamingDispatcher = new LogStreamingDispatcher();
 
   private static final String ACCOUNT_ID = generateUuid();
   private static final String TOKEN = generateUuid();
@@ -46,6 +47,7 @@ public class LogStreamingTaskClientTest extends CategoryTest {
 
   private LogStreamingTaskClient completeLogStreamingTaskClient = LogStreamingTaskClient.builder()
                                                                       .logStreamingClient(logStreamingClientMock)
+                                                                      .logStreamingDispatcher(logStreamingDispatcher)
                                                                       .accountId(ACCOUNT_ID)
                                                                       .token(TOKEN)
                                                                       .logStreamingSanitizer(logStreamingSanitizerMock)
@@ -152,6 +154,7 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     // Test no appId scenario
     LogStreamingTaskClient logStreamingTaskClientWithoutAppId = LogStreamingTaskClient.builder()
                                                                     .logStreamingClient(logStreamingClientMock)
+                                                                    .logStreamingDispatcher(logStreamingDispatcher)
                                                                     .accountId(ACCOUNT_ID)
                                                                     .token(TOKEN)
                                                                     .logStreamingSanitizer(logStreamingSanitizerMock)
@@ -169,6 +172,7 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     LogStreamingTaskClient logStreamingTaskClientWithoutActivityId =
         LogStreamingTaskClient.builder()
             .logStreamingClient(logStreamingClientMock)
+            .logStreamingDispatcher(logStreamingDispatcher)
             .accountId(ACCOUNT_ID)
             .token(TOKEN)
             .logStreamingSanitizer(logStreamingSanitizerMock)
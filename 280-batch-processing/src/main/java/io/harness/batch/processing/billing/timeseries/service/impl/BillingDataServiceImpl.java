@@ -20,7 +20,9 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.inject.Singleton;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -29,7 +31,6 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
@@ -48,9 +49,14 @@ public class BillingDataServiceImpl {
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
+  // Fewer rows are inserted faster with a batched insert than by creating a staging table to copy them into
+  private static final int BULK_INSERT_MIN_ROWS = 2000;
   static final String INSERT_STATEMENT =
       "INSERT INTO %s (STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
 
+  private static final List<String> INSERT_COLUMNS = Splitter.on(',').trimResults().splitToList(
+      INSERT_STATEMENT.substring(INSERT_STATEMENT.indexOf('(') + 1, INSERT_STATEMENT.indexOf(')')));
+
   static final String UPDATE_STATEMENT =
       "UPDATE %s SET ACTUALIDLECOST = ?, CPUACTUALIDLECOST = ?, MEMORYACTUALIDLECOST = ?, UNALLOCATEDCOST = ?, CPUUNALLOCATEDCOST = ?, MEMORYUNALLOCATEDCOST = ? WHERE ACCOUNTID = ? AND CLUSTERID = ? AND INSTANCEID = ? AND STARTTIME = ?";
 
@@ -75,8 +81,9 @@ public class BillingDataServiceImpl {
   static final String RETRIEVE_BILLING_DATA =
       "SELECT COUNT(*) as ENTRIESCOUNT, SUM(billingamount) as BILLINGAMOUNTSUM from BILLING_DATA WHERE ACCOUNTID = '%s' AND STARTTIME = '%s' ;";
 
+  // Ordered by the unique key, so that a read can be resumed at an offset
   private static final String READER_QUERY =
-      "SELECT * FROM %s WHERE ACCOUNTID = '%s' AND STARTTIME >= '%s' AND STARTTIME < '%s' ORDER BY accountid, clusterid, instanceid OFFSET %s LIMIT %s;";
+      "SELECT * FROM %s WHERE ACCOUNTID = ? AND STARTTIME >= ? AND STARTTIME < ? ORDER BY accountid, clusterid, instanceid, settingid, instancetype, starttime OFFSET ?";
 
   public static final String DAILY_BILLING_DATA_TABLE = "BILLING_DATA";
   public static final String HOURLY_BILLING_DATA_TABLE = "BILLING_DATA_HOURLY";
@@ -91,21 +98,14 @@ public class BillingDataServiceImpl {
   public boolean create(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid() && !instanceBillingDataList.isEmpty()) {
-      String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
-          int index = 0;
-          for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
-            updateInsertStatement(statement, instanceBillingData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
-              log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
-              statement.executeBatch();
-            }
+        try {
+          if (instanceBillingDataList.size() >= BULK_INSERT_MIN_ROWS) {
+            timeScaleDBService.bulkInsert(BillingDataTableNameProvider.getTableName(batchJobType), INSERT_COLUMNS,
+                Lists.transform(instanceBillingDataList, BillingDataServiceImpl::toInsertRow));
+          } else {
+            batchInsert(instanceBillingDataList, batchJobType);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -120,6 +120,25 @@ public class BillingDataServiceImpl {
     return successfulInsert;
   }
 
+  private void batchInsert(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType)
+      throws SQLException {
+    String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
+      int index = 0;
+      for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
+        updateInsertStatement(statement, instanceBillingData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
+          log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   public boolean update(ActualIdleCostWriterData actualIdleCostWriterData, BatchJobType batchJobType) {
     boolean successfulUpdate = false;
     if (timeScaleDBService.isValid()) {
@@ -159,188 +178,231 @@ public class BillingDataServiceImpl {
   }
 
   void updateInsertStatement(PreparedStatement statement, InstanceBillingData instanceBillingData) throws SQLException {
-    statement.setTimestamp(1, new Timestamp(instanceBillingData.getStartTimestamp()), utils.getDefaultCalendar());
-    statement.setTimestamp(2, new Timestamp(instanceBillingData.getEndTimestamp()), utils.getDefaultCalendar());
-    statement.setString(3, instanceBillingData.getAccountId());
-    statement.setString(4, instanceBillingData.getInstanceType());
-    statement.setString(5, instanceBillingData.getBillingAccountId());
-    statement.setBigDecimal(6, instanceBillingData.getBillingAmount());
-    statement.setBigDecimal(7, instanceBillingData.getCpuBillingAmount());
-    statement.setBigDecimal(8, instanceBillingData.getMemoryBillingAmount());
-    statement.setDouble(9, instanceBillingData.getUsageDurationSeconds());
-    statement.setString(10, instanceBillingData.getInstanceId());
-    statement.setString(11, instanceBillingData.getClusterName());
-    statement.setString(12, instanceBillingData.getClusterId());
-    statement.setString(13, instanceBillingData.getSettingId());
-    statement.setString(14, instanceBillingData.getServiceId());
-    statement.setString(15, instanceBillingData.getAppId());
-    statement.setString(16, instanceBillingData.getCloudProviderId());
-    statement.setString(17, instanceBillingData.getEnvId());
-    statement.setDouble(18, instanceBillingData.getCpuUnitSeconds());
-    statement.setDouble(19, instanceBillingData.getMemoryMbSeconds());
-    statement.setString(20, instanceBillingData.getParentInstanceId());
-    statement.setString(21, instanceBillingData.getRegion());
-    statement.setString(22, instanceBillingData.getLaunchType());
-    statement.setString(23, instanceBillingData.getClusterType());
-    statement.setString(24, instanceBillingData.getCloudProvider());
-    statement.setString(25, instanceBillingData.getWorkloadName());
-    statement.setString(26, instanceBillingData.getWorkloadType());
-    statement.setString(27, instanceBillingData.getNamespace());
-    statement.setString(28, instanceBillingData.getCloudServiceName());
-    statement.setString(29, instanceBillingData.getTaskId());
-    statement.setBigDecimal(30, instanceBillingData.getIdleCost());
-    statement.setBigDecimal(31, instanceBillingData.getCpuIdleCost());
-    statement.setBigDecimal(32, instanceBillingData.getMemoryIdleCost());
-    statement.setDouble(33, instanceBillingData.getMaxCpuUtilization());
-    statement.setDouble(34, instanceBillingData.getMaxMemoryUtilization());
-    statement.setDouble(35, instanceBillingData.getAvgCpuUtilization());
-    statement.setDouble(36, instanceBillingData.getAvgMemoryUtilization());
-    statement.setBigDecimal(37, instanceBillingData.getSystemCost());
-    statement.setBigDecimal(38, instanceBillingData.getCpuSystemCost());
-    statement.setBigDecimal(39, instanceBillingData.getMemorySystemCost());
-    statement.setBigDecimal(40, instanceBillingData.getActualIdleCost());
-    statement.setBigDecimal(41, instanceBillingData.getCpuActualIdleCost());
-    statement.setBigDecimal(42, instanceBillingData.getMemoryActualIdleCost());
-    statement.setBigDecimal(43, instanceBillingData.getUnallocatedCost());
-    statement.setBigDecimal(44, instanceBillingData.getCpuUnallocatedCost());
-    statement.setBigDecimal(45, instanceBillingData.getMemoryUnallocatedCost());
-    statement.setString(46, instanceBillingData.getInstanceName());
-    statement.setDouble(47, instanceBillingData.getCpuRequest());
-    statement.setDouble(48, instanceBillingData.getMemoryRequest());
-    statement.setDouble(49, instanceBillingData.getCpuLimit());
-    statement.setDouble(50, instanceBillingData.getMemoryLimit());
-    statement.setDouble(51, instanceBillingData.getMaxCpuUtilizationValue());
-    statement.setDouble(52, instanceBillingData.getMaxMemoryUtilizationValue());
-    statement.setDouble(53, instanceBillingData.getAvgCpuUtilizationValue());
-    statement.setDouble(54, instanceBillingData.getAvgMemoryUtilizationValue());
-    statement.setDouble(55, instanceBillingData.getNetworkCost());
-    statement.setString(56, instanceBillingData.getPricingSource());
-    statement.setBigDecimal(57, instanceBillingData.getStorageActualIdleCost());
-    statement.setBigDecimal(58, instanceBillingData.getStorageUnallocatedCost());
-    statement.setDouble(59, instanceBillingData.getStorageUtilizationValue());
-    statement.setDouble(60, instanceBillingData.getStorageRequest());
-    statement.setDouble(61, instanceBillingData.getStorageMbSeconds());
-    statement.setBigDecimal(62, instanceBillingData.getStorageBillingAmount());
-    statement.setDouble(63, instanceBillingData.getMaxStorageUtilizationValue());
-    statement.setDouble(64, instanceBillingData.getMaxStorageRequest());
-    statement.setString(65, instanceBillingData.getOrgIdentifier());
-    statement.setString(66, instanceBillingData.getProjectIdentifier());
+    Object[] row = toInsertRow(instanceBillingData);
+    for (int i = 0; i < row.length; i++) {
+      if (row[i] instanceof Timestamp) {
+        statement.setTimestamp(i + 1, (Timestamp) row[i], utils.getDefaultCalendar());
+      } else {
+        statement.setObject(i + 1, row[i]);
+      }
+    }
   }
 
-  public List<InstanceBillingData> read(
-      String accountId, Instant startTime, Instant endTime, int batchSize, int offset, BatchJobType batchJobType) {
-    String query = "";
-    try {
-      if (timeScaleDBService.isValid()) {
-        if (batchJobType.equals(BatchJobType.CLUSTER_DATA_TO_BIG_QUERY)) {
-          query = String.format(READER_QUERY, DAILY_BILLING_DATA_TABLE, accountId, startTime.toString(),
-              endTime.toString(), offset, batchSize);
-        } else if (batchJobType.equals(BatchJobType.CLUSTER_DATA_HOURLY_TO_BIG_QUERY)) {
-          query = String.format(READER_QUERY, HOURLY_BILLING_DATA_TABLE, accountId, startTime.toString(),
-              endTime.toString(), offset, batchSize);
-        }
+  // Values of the columns of INSERT_STATEMENT, in order
+  private static Object[] toInsertRow(InstanceBillingData instanceBillingData) {
+    return new Object[] {
+        new Timestamp(instanceBillingData.getStartTimestamp()),
+        new Timestamp(instanceBillingData.getEndTimestamp()),
+        instanceBillingData.getAccountId(),
+        instanceBillingData.getInstanceType(),
+        instanceBillingData.getBillingAccountId(),
+        instanceBillingData.getBillingAmount(),
+        instanceBillingData.getCpuBillingAmount(),
+        instanceBillingData.getMemoryBillingAmount(),
+        instanceBillingData.getUsageDurationSeconds(),
+        instanceBillingData.getInstanceId(),
+        instanceBillingData.getClusterName(),
+        instanceBillingData.getClusterId(),
+        instanceBillingData.getSettingId(),
+        instanceBillingData.getServiceId(),
+        instanceBillingData.getAppId(),
+        instanceBillingData.getCloudProviderId(),
+        instanceBillingData.getEnvId(),
+        instanceBillingData.getCpuUnitSeconds(),
+        instanceBillingData.getMemoryMbSeconds(),
+        instanceBillingData.getParentInstanceId(),
+        instanceBillingData.getRegion(),
+        instanceBillingData.getLaunchType(),
+        instanceBillingData.getClusterType(),
+        instanceBillingData.getCloudProvider(),
+        instanceBillingData.getWorkloadName(),
+        instanceBillingData.getWorkloadType(),
+        instanceBillingData.getNamespace(),
+        instanceBillingData.getCloudServiceName(),
+        instanceBillingData.getTaskId(),
+        instanceBillingData.getIdleCost(),
+        instanceBillingData.getCpuIdleCost(),
+        instanceBillingData.getMemoryIdleCost(),
+        instanceBillingData.getMaxCpuUtilization(),
+        instanceBillingData.getMaxMemoryUtilization(),
+        instanceBillingData.getAvgCpuUtilization(),
+        instanceBillingData.getAvgMemoryUtilization(),
+        instanceBillingData.getSystemCost(),
+        instanceBillingData.getCpuSystemCost(),
+        instanceBillingData.getMemorySystemCost(),
+        instanceBillingData.getActualIdleCost(),
+        instanceBillingData.getCpuActualIdleCost(),
+        instanceBillingData.getMemoryActualIdleCost(),
+        instanceBillingData.getUnallocatedCost(),
+        instanceBillingData.getCpuUnallocatedCost(),
+        instanceBillingData.getMemoryUnallocatedCost(),
+        instanceBillingData.getInstanceName(),
+        instanceBillingData.getCpuRequest(),
+        instanceBillingData.getMemoryRequest(),
+        instanceBillingData.getCpuLimit(),
+        instanceBillingData.getMemoryLimit(),
+        instanceBillingData.getMaxCpuUtilizationValue(),
+        instanceBillingData.getMaxMemoryUtilizationValue(),
+        instanceBillingData.getAvgCpuUtilizationValue(),
+        instanceBillingData.getAvgMemoryUtilizationValue(),
+        instanceBillingData.getNetworkCost(),
+        instanceBillingData.getPricingSource(),
+        instanceBillingData.getStorageActualIdleCost(),
+        instanceBillingData.getStorageUnallocatedCost(),
+        instanceBillingData.getStorageUtilizationValue(),
+        instanceBillingData.getStorageRequest(),
+        instanceBillingData.getStorageMbSeconds(),
+        instanceBillingData.getStorageBillingAmount(),
+        instanceBillingData.getMaxStorageUtilizationValue(),
+        instanceBillingData.getMaxStorageRequest(),
+        instanceBillingData.getOrgIdentifier(),
+        instanceBillingData.getProjectIdentifier()};
+  }
 
-        return getUtilizationDataFromTimescaleDB(query);
-      } else {
-        throw new InvalidRequestException("Cannot process request in ClusterDataToBigQueryTasklet");
-      }
-    } catch (Exception e) {
-      throw new InvalidRequestException("Error while fetching Instance Billing data {}", e);
+  /**
+   * Opens a cursor over the billing data of the account between the start and end time, skipping the first offset
+   * rows. Rows are fetched from the database fetchSize at a time while the result set is read, so the whole range is
+   * read with a single query. The cursor must be closed with {@link #closeReadCursor(ResultSet)}.
+   */
+  public ResultSet openReadCursor(String accountId, Instant startTime, Instant endTime, int fetchSize, long offset,
+      BatchJobType batchJobType) throws SQLException {
+    if (!timeScaleDBService.isValid()) {
+      throw new InvalidRequestException("Cannot process request in ClusterDataToBigQueryTasklet");
+    }
+    String tableName;
+    if (batchJobType.equals(BatchJobType.CLUSTER_DATA_TO_BIG_QUERY)) {
+      tableName = DAILY_BILLING_DATA_TABLE;
+    } else if (batchJobType.equals(BatchJobType.CLUSTER_DATA_HOURLY_TO_BIG_QUERY)) {
+      tableName = HOURLY_BILLING_DATA_TABLE;
+    } else {
+      throw new InvalidRequestException("Cannot read billing data for batch job type " + batchJobType);
+    }
+
+    Connection connection = timeScaleDBService.getDBConnection();
+    PreparedStatement statement = null;
+    try {
+      // The postgres driver only streams results with a fetch size inside a transaction
+      connection.setAutoCommit(false);
+      statement = connection.prepareStatement(
+          String.format(READER_QUERY, tableName), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      statement.setString(1, accountId);
+      statement.setTimestamp(2, new Timestamp(startTime.toEpochMilli()), utils.getDefaultCalendar());
+      statement.setTimestamp(3, new Timestamp(endTime.toEpochMilli()), utils.getDefaultCalendar());
+      statement.setLong(4, offset);
+      log.debug("ClusterDataToBigQueryTasklet read data query : {}", statement);
+      return statement.executeQuery();
+    } catch (SQLException | RuntimeException e) {
+      closeQuietly(statement, connection);
+      throw e;
     }
   }
 
-  private List<InstanceBillingData> getUtilizationDataFromTimescaleDB(String query) {
-    if (query.equals("")) {
-      return null;
+  public void closeReadCursor(ResultSet resultSet) {
+    if (resultSet == null) {
+      return;
     }
-    ResultSet resultSet = null;
-    List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
-    int retryCount = 0;
-    log.debug("ClusterDataToBigQueryTasklet read data query : {}", query);
-    while (retryCount < SELECT_MAX_RETRY_COUNT) {
-      retryCount++;
-      try (Connection connection = timeScaleDBService.getDBConnection();
-           Statement statement = connection.createStatement()) {
-        resultSet = statement.executeQuery(query);
-        while (resultSet.next()) {
-          instanceBillingDataList.add(
-              InstanceBillingData.builder()
-                  .endTimestamp(resultSet.getTimestamp("ENDTIME").toInstant().toEpochMilli())
-                  .startTimestamp(resultSet.getTimestamp("STARTTIME").toInstant().toEpochMilli())
-                  .accountId(resultSet.getString("ACCOUNTID"))
-                  .instanceType(resultSet.getString("INSTANCETYPE"))
-                  .billingAccountId(resultSet.getString("BILLINGACCOUNTID"))
-                  .billingAmount(resultSet.getBigDecimal("BILLINGAMOUNT"))
-                  .cpuBillingAmount(resultSet.getBigDecimal("CPUBILLINGAMOUNT"))
-                  .memoryBillingAmount(resultSet.getBigDecimal("MEMORYBILLINGAMOUNT"))
-                  .usageDurationSeconds(resultSet.getDouble("USAGEDURATIONSECONDS"))
-                  .instanceId(resultSet.getString("INSTANCEID"))
-                  .clusterName(resultSet.getString("CLUSTERNAME"))
-                  .clusterId(resultSet.getString("CLUSTERID"))
-                  .settingId(resultSet.getString("SETTINGID"))
-                  .serviceId(resultSet.getString("SERVICEID"))
-                  .appId(resultSet.getString("APPID"))
-                  .cloudProviderId(resultSet.getString("CLOUDPROVIDERID"))
-                  .envId(resultSet.getString("ENVID"))
-                  .cpuUnitSeconds(resultSet.getDouble("CPUUNITSECONDS"))
-                  .memoryMbSeconds(resultSet.getDouble("MEMORYMBSECONDS"))
-                  .parentInstanceId(resultSet.getString("PARENTINSTANCEID"))
-                  .region(resultSet.getString("REGION"))
-                  .launchType(resultSet.getString("LAUNCHTYPE"))
-                  .clusterType(resultSet.getString("CLUSTERTYPE"))
-                  .cloudProvider(resultSet.getString("CLOUDPROVIDER"))
-                  .workloadName(resultSet.getString("WORKLOADNAME"))
-                  .workloadType(resultSet.getString("WORKLOADTYPE"))
-                  .namespace(resultSet.getString("NAMESPACE"))
-                  .cloudServiceName(resultSet.getString("CLOUDSERVICENAME"))
-                  .taskId(resultSet.getString("TASKID"))
-                  .idleCost(resultSet.getBigDecimal("IDLECOST"))
-                  .cpuIdleCost(resultSet.getBigDecimal("CPUIDLECOST"))
-                  .memoryIdleCost(resultSet.getBigDecimal("MEMORYIDLECOST"))
-                  .maxCpuUtilization(resultSet.getDouble("MAXCPUUTILIZATION"))
-                  .maxMemoryUtilization(resultSet.getDouble("MAXMEMORYUTILIZATION"))
-                  .avgCpuUtilization(resultSet.getDouble("AVGCPUUTILIZATION"))
-                  .avgMemoryUtilization(resultSet.getDouble("AVGMEMORYUTILIZATION"))
-                  .systemCost(resultSet.getBigDecimal("SYSTEMCOST"))
-                  .cpuSystemCost(resultSet.getBigDecimal("CPUSYSTEMCOST"))
-                  .memorySystemCost(resultSet.getBigDecimal("MEMORYSYSTEMCOST"))
-                  .actualIdleCost(resultSet.getBigDecimal("ACTUALIDLECOST"))
-                  .cpuActualIdleCost(resultSet.getBigDecimal("CPUACTUALIDLECOST"))
-                  .memoryActualIdleCost(resultSet.getBigDecimal("MEMORYACTUALIDLECOST"))
-                  .unallocatedCost(resultSet.getBigDecimal("UNALLOCATEDCOST"))
-                  .cpuUnallocatedCost(resultSet.getBigDecimal("CPUUNALLOCATEDCOST"))
-                  .memoryUnallocatedCost(resultSet.getBigDecimal("MEMORYUNALLOCATEDCOST"))
-                  .instanceName(resultSet.getString("INSTANCENAME"))
-                  .cpuRequest(resultSet.getDouble("CPUREQUEST"))
-                  .memoryRequest(resultSet.getDouble("MEMORYREQUEST"))
-                  .cpuLimit(resultSet.getDouble("CPULIMIT"))
-                  .memoryLimit(resultSet.getDouble("MEMORYLIMIT"))
-                  .maxCpuUtilizationValue(resultSet.getDouble("MAXCPUUTILIZATIONVALUE"))
-                  .maxMemoryUtilizationValue(resultSet.getDouble("MAXMEMORYUTILIZATIONVALUE"))
-                  .avgCpuUtilizationValue(resultSet.getDouble("AVGCPUUTILIZATIONVALUE"))
-                  .avgMemoryUtilizationValue(resultSet.getDouble("AVGMEMORYUTILIZATIONVALUE"))
-                  .networkCost(resultSet.getDouble("NETWORKCOST"))
-                  .pricingSource(resultSet.getString("PRICINGSOURCE"))
-                  .storageRequest(resultSet.getDouble("STORAGEREQUEST"))
-                  .storageUtilizationValue(resultSet.getDouble("STORAGEUTILIZATIONVALUE"))
-                  .storageMbSeconds(resultSet.getDouble("STORAGEMBSECONDS"))
-                  .storageBillingAmount(resultSet.getBigDecimal("STORAGECOST"))
-                  .storageActualIdleCost(resultSet.getBigDecimal("STORAGEACTUALIDLECOST"))
-                  .storageUnallocatedCost(resultSet.getBigDecimal("STORAGEUNALLOCATEDCOST"))
-                  .maxStorageUtilizationValue(resultSet.getDouble("MAXSTORAGEUTILIZATIONVALUE"))
-                  .maxStorageRequest(resultSet.getDouble("MAXSTORAGEREQUEST"))
-                  .orgIdentifier(resultSet.getString("ORGIDENTIFIER"))
-                  .projectIdentifier(resultSet.getString("PROJECTIDENTIFIER"))
-                  .build());
-        }
-        return instanceBillingDataList;
-      } catch (SQLException e) {
-        log.error("Error while fetching billing Data data : exception", e);
-      } finally {
-        DBUtils.close(resultSet);
+    Statement statement = null;
+    Connection connection = null;
+    try {
+      statement = resultSet.getStatement();
+      connection = statement.getConnection();
+    } catch (SQLException e) {
+      log.error("Error while closing billing data cursor", e);
+    } finally {
+      DBUtils.close(resultSet);
+      closeQuietly(statement, connection);
+    }
+  }
+
+  private void closeQuietly(Statement statement, Connection connection) {
+    try {
+      if (statement != null) {
+        statement.close();
       }
+    } catch (SQLException e) {
+      log.error("Error while closing billing data cursor", e);
     }
-    return null;
+    if (connection == null) {
+      return;
+    }
+    try (Connection connectionToClose = connection) {
+      connectionToClose.rollback();
+      connectionToClose.setAutoCommit(true);
+    } catch (SQLException e) {
+      log.error("Error while closing billing data cursor", e);
+    }
+  }
+
+  public InstanceBillingData toInstanceBillingData(ResultSet resultSet) throws SQLException {
+    return InstanceBillingData.builder()
+        .endTimestamp(resultSet.getTimestamp("ENDTIME").toInstant().toEpochMilli())
+        .startTimestamp(resultSet.getTimestamp("STARTTIME").toInstant().toEpochMilli())
+        .accountId(resultSet.getString("ACCOUNTID"))
+        .instanceType(resultSet.getString("INSTANCETYPE"))
+        .billingAccountId(resultSet.getString("BILLINGACCOUNTID"))
+        .billingAmount(resultSet.getBigDecimal("BILLINGAMOUNT"))
+        .cpuBillingAmount(resultSet.getBigDecimal("CPUBILLINGAMOUNT"))
+        .memoryBillingAmount(resultSet.getBigDecimal("MEMORYBILLINGAMOUNT"))
+        .usageDurationSeconds(resultSet.getDouble("USAGEDURATIONSECONDS"))
+        .instanceId(resultSet.getString("INSTANCEID"))
+        .clusterName(resultSet.getString("CLUSTERNAME"))
+        .clusterId(resultSet.getString("CLUSTERID"))
+        .settingId(resultSet.getString("SETTINGID"))
+        .serviceId(resultSet.getString("SERVICEID"))
+        .appId(resultSet.getString("APPID"))
+        .cloudProviderId(resultSet.getString("CLOUDPROVIDERID"))
+        .envId(resultSet.getString("ENVID"))
+        .cpuUnitSeconds(resultSet.getDouble("CPUUNITSECONDS"))
+        .memoryMbSeconds(resultSet.getDouble("MEMORYMBSECONDS"))
+        .parentInstanceId(resultSet.getString("PARENTINSTANCEID"))
+        .region(resultSet.getString("REGION"))
+        .launchType(resultSet.getString("LAUNCHTYPE"))
+        .clusterType(resultSet.getString("CLUSTERTYPE"))
+        .cloudProvider(resultSet.getString("CLOUDPROVIDER"))
+        .workloadName(resultSet.getString("WORKLOADNAME"))
+        .workloadType(resultSet.getString("WORKLOADTYPE"))
+        .namespace(resultSet.getString("NAMESPACE"))
+        .cloudServiceName(resultSet.getString("CLOUDSERVICENAME"))
+        .taskId(resultSet.getString("TASKID"))
+        .idleCost(resultSet.getBigDecimal("IDLECOST"))
+        .cpuIdleCost(resultSet.getBigDecimal("CPUIDLECOST"))
+        .memoryIdleCost(resultSet.getBigDecimal("MEMORYIDLECOST"))
+        .maxCpuUtilization(resultSet.getDouble("MAXCPUUTILIZATION"))
+        .maxMemoryUtilization(resultSet.getDouble("MAXMEMORYUTILIZATION"))
+        .avgCpuUtilization(resultSet.getDouble("AVGCPUUTILIZATION"))
+        .avgMemoryUtilization(resultSet.getDouble("AVGMEMORYUTILIZATION"))
+        .systemCost(resultSet.getBigDecimal("SYSTEMCOST"))
+        .cpuSystemCost(resultSet.getBigDecimal("CPUSYSTEMCOST"))
+        .memorySystemCost(resultSet.getBigDecimal("MEMORYSYSTEMCOST"))
+        .actualIdleCost(resultSet.getBigDecimal("ACTUALIDLECOST"))
+        .cpuActualIdleCost(resultSet.getBigDecimal("CPUACTUALIDLECOST"))
+        .memoryActualIdleCost(resultSet.getBigDecimal("MEMORYACTUALIDLECOST"))
+        .unallocatedCost(resultSet.getBigDecimal("UNALLOCATEDCOST"))
+        .cpuUnallocatedCost(resultSet.getBigDecimal("CPUUNALLOCATEDCOST"))
+        .memoryUnallocatedCost(resultSet.getBigDecimal("MEMORYUNALLOCATEDCOST"))
+        .instanceName(resultSet.getString("INSTANCENAME"))
+        .cpuRequest(resultSet.getDouble("CPUREQUEST"))
+        .memoryRequest(resultSet.getDouble("MEMORYREQUEST"))
+        .cpuLimit(resultSet.getDouble("CPULIMIT"))
+        .memoryLimit(resultSet.getDouble("MEMORYLIMIT"))
+        .maxCpuUtilizationValue(resultSet.getDouble("MAXCPUUTILIZATIONVALUE"))
+        .maxMemoryUtilizationValue(resultSet.getDouble("MAXMEMORYUTILIZATIONVALUE"))
+        .avgCpuUtilizationValue(resultSet.getDouble("AVGCPUUTILIZATIONVALUE"))
+        .avgMemoryUtilizationValue(resultSet.getDouble("AVGMEMORYUTILIZATIONVALUE"))
+        .networkCost(resultSet.getDouble("NETWORKCOST"))
+        .pricingSource(resultSet.getString("PRICINGSOURCE"))
+        .storageRequest(resultSet.getDouble("STORAGEREQUEST"))
+        .storageUtilizationValue(resultSet.getDouble("STORAGEUTILIZATIONVALUE"))
+        .storageMbSeconds(resultSet.getDouble("STORAGEMBSECONDS"))
+        .storageBillingAmount(resultSet.getBigDecimal("STORAGECOST"))
+        .storageActualIdleCost(resultSet.getBigDecimal("STORAGEACTUALIDLECOST"))
+        .storageUnallocatedCost(resultSet.getBigDecimal("STORAGEUNALLOCATEDCOST"))
+        .maxStorageUtilizationValue(resultSet.getDouble("MAXSTORAGEUTILIZATIONVALUE"))
+        .maxStorageRequest(resultSet.getDouble("MAXSTORAGEREQUEST"))
+        .orgIdentifier(resultSet.getString("ORGIDENTIFIER"))
+        .projectIdentifier(resultSet.getString("PROJECTIDENTIFIER"))
+        .build();
   }
 
   public ClusterDataDetails getTimeScaleClusterData(String accountId, Instant startTime) {
@@ -103,10 +103,6 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
     final JobConstants jobConstants = new CCMJobConstants(chunkContext);
     int batchSize = config.getBatchQueryConfig().getQueryBatchSize();
 
-    BillingDataReader billingDataReader = new BillingDataReader(billingDataService, jobConstants.getAccountId(),
-        Instant.ofEpochMilli(jobConstants.getJobStartTime()), Instant.ofEpochMilli(jobConstants.getJobEndTime()),
-        batchSize, 0, batchJobType);
-
     ZonedDateTime zdt = ZonedDateTime.ofInstant(Instant.ofEpochMilli(jobConstants.getJobStartTime()), ZoneId.of("GMT"));
     String billingDataFileName = "";
     if (batchJobType == BatchJobType.CLUSTER_DATA_TO_BIG_QUERY) {
@@ -117,16 +113,20 @@ public class ClusterDataToBigQueryTasklet implements Tasklet {
           defaultBillingDataFileNameHourly, zdt.getYear(), zdt.getMonth(), zdt.getDayOfMonth(), zdt.getHour());
     }
 
-    List<InstanceBillingData> instanceBillingDataList;
-    boolean avroFileWithSchemaExists = false;
-    do {
-      instanceBillingDataList = billingDataReader.getNext();
-      List<ClusterBillingData> clusterBillingDataList = getClusterBillingDataForBatch(instanceBillingDataList);
-      log.debug("clusterBillingDataList size: {}", clusterBillingDataList.size());
-      writeDataToAvro(
-          jobConstants.getAccountId(), clusterBillingDataList, billingDataFileName, avroFileWithSchemaExists);
-      avroFileWithSchemaExists = true;
-    } while (instanceBillingDataList.size() == batchSize);
+    try (BillingDataReader billingDataReader = new BillingDataReader(billingDataService, jobConstants.getAccountId(),
+             Instant.ofEpochMilli(jobConstants.getJobStartTime()), Instant.ofEpochMilli(jobConstants.getJobEndTime()),
+             batchSize, 0, batchJobType)) {
+      List<InstanceBillingData> instanceBillingDataList;
+      boolean avroFileWithSchemaExists = false;
+      do {
+        instanceBillingDataList = billingDataReader.getNext();
+        List<ClusterBillingData> clusterBillingDataList = getClusterBillingDataForBatch(instanceBillingDataList);
+        log.debug("clusterBillingDataList size: {}", clusterBillingDataList.size());
+        writeDataToAvro(
+            jobConstants.getAccountId(), clusterBillingDataList, billingDataFileName, avroFileWithSchemaExists);
+        avroFileWithSchemaExists = true;
+      } while (instanceBillingDataList.size() == batchSize);
+    }
 
     final String gcsObjectName = String.format(gcsObjectNameFormat, jobConstants.getAccountId(), billingDataFileName);
     googleCloudStorageService.uploadObject(gcsObjectName, defaultParentWorkingDirectory + gcsObjectName);
@@ -10,20 +10,33 @@ package io.harness.batch.processing.tasklet.reader;
 import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.impl.BillingDataServiceImpl;
 import io.harness.batch.processing.ccm.BatchJobType;
+import io.harness.exception.InvalidRequestException;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
+/**
+ * Reads the billing data in batches from a single cursor, instead of a query per batch, so that reading an account
+ * takes time linear in its number of rows. If reading from the cursor fails, a new cursor is opened after the rows
+ * already read.
+ */
 @Slf4j
-public class BillingDataReader {
+public class BillingDataReader implements AutoCloseable {
+  private static final int MAX_RETRY_COUNT = 5;
+
   private String accountId;
   private Instant startTime;
   private Instant endTime;
   private int batchSize;
-  private int offset;
+  private long offset;
   private BillingDataServiceImpl billingDataService;
+  private ResultSet cursor;
+  private boolean exhausted;
 
   @Autowired private BatchJobType batchJobType;
 
@@ -40,11 +53,34 @@ public class BillingDataReader {
   }
 
   public List<InstanceBillingData> getNext() {
-    List<InstanceBillingData> instanceBillingDataList =
-        billingDataService.read(accountId, startTime, endTime, batchSize, offset, batchJobType);
-    if (!instanceBillingDataList.isEmpty()) {
-      offset += batchSize;
+    List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
+    int retryCount = 0;
+    while (!exhausted && instanceBillingDataList.size() < batchSize) {
+      try {
+        if (cursor == null) {
+          cursor = billingDataService.openReadCursor(accountId, startTime, endTime, batchSize, offset, batchJobType);
+        }
+        if (cursor.next()) {
+          instanceBillingDataList.add(billingDataService.toInstanceBillingData(cursor));
+          offset++;
+        } else {
+          close();
+          exhausted = true;
+        }
+      } catch (SQLException e) {
+        close();
+        if (++retryCount >= MAX_RETRY_COUNT) {
+          throw new InvalidRequestException("Error while fetching Instance Billing data", e);
+        }
+        log.error("Error while fetching billing data, resuming at offset {}", offset, e);
+      }
     }
     return instanceBillingDataList;
   }
+
+  @Override
+  public void close() {
+    billingDataService.closeReadCursor(cursor);
+    cursor = null;
+  }
 }
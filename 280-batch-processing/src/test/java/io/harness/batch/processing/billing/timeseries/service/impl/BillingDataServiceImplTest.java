@@ -15,7 +15,9 @@ import static io.harness.rule.OwnerRule.UTSAV;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -37,7 +39,9 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
 import jersey.repackaged.com.google.common.collect.ImmutableList;
@@ -45,6 +49,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -105,6 +110,21 @@ public class BillingDataServiceImplTest extends CategoryTest {
     assertThat(insert).isTrue();
   }
 
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testCreateBillingDataInBulk() throws SQLException {
+    List<InstanceBillingData> instanceBillingDataList = Collections.nCopies(2000, instanceBillingData());
+    boolean insert = billingDataService.create(instanceBillingDataList, BatchJobType.INSTANCE_BILLING_HOURLY);
+    assertThat(insert).isTrue();
+
+    ArgumentCaptor<List> columnsCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<Iterable> rowsCaptor = ArgumentCaptor.forClass(Iterable.class);
+    verify(timeScaleDBService).bulkInsert(eq("billing_data_hourly"), columnsCaptor.capture(), rowsCaptor.capture());
+    assertThat(columnsCaptor.getValue()).hasSize(66).startsWith("STARTTIME", "ENDTIME", "ACCOUNTID");
+    assertThat((Iterable<Object[]>) rowsCaptor.getValue()).hasSize(2000).allMatch(row -> row.length == 66);
+  }
+
   @Test
   @Owner(developers = SHUBHANSHU)
   @Category(UnitTests.class)
@@ -166,10 +186,25 @@ public class BillingDataServiceImplTest extends CategoryTest {
   @Category(UnitTests.class)
   public void readBillingData() throws SQLException {
     mockResultSet();
-    List<InstanceBillingData> instanceBillingData =
-        billingDataService.read(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
-            Instant.ofEpochMilli(END_TIME_MILLIS), 500, 0, BatchJobType.CLUSTER_DATA_TO_BIG_QUERY);
+    Connection connection = timeScaleDBService.getDBConnection();
+    when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+        .thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.getStatement()).thenReturn(statement);
+    when(statement.getConnection()).thenReturn(connection);
+
+    ResultSet cursor = billingDataService.openReadCursor(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
+        Instant.ofEpochMilli(END_TIME_MILLIS), 500, 0, BatchJobType.CLUSTER_DATA_TO_BIG_QUERY);
+    List<InstanceBillingData> instanceBillingData = new ArrayList<>();
+    while (cursor.next()) {
+      instanceBillingData.add(billingDataService.toInstanceBillingData(cursor));
+    }
+    billingDataService.closeReadCursor(cursor);
+
     assertThat(instanceBillingData.size()).isEqualTo(1);
+    verify(statement).setFetchSize(500);
+    verify(connection).setAutoCommit(false);
+    verify(connection).close();
   }
 
   @Test
@@ -13,6 +13,8 @@ import static io.harness.rule.OwnerRule.TRUNAPUSHPA;
 import static junit.framework.TestCase.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +40,8 @@ import software.wings.security.authentication.BatchQueryConfig;
 import com.google.common.collect.ImmutableList;
 import com.sun.istack.internal.NotNull;
 import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
@@ -80,17 +84,18 @@ public class ClusterDataToBigQueryTaskletTest extends BaseTaskletTest {
   @Mock private StepContext stepContext;
   @Mock private StepExecution stepExecution;
   @Mock private JobParameters parameters;
+  @Mock private ResultSet cursor;
 
   private final Instant END_INSTANT = Instant.now();
   private final Instant START_INSTANT = END_INSTANT.minus(1, ChronoUnit.HOURS);
 
   @Before
-  public void setup() {
+  public void setup() throws SQLException {
     InstanceBillingData instanceBillingData = createBillingData(NAME_0);
     when(config.getBatchQueryConfig()).thenReturn(BatchQueryConfig.builder().queryBatchSize(BATCH_SIZE).build());
-    when(billingDataService.read(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
-             Instant.ofEpochMilli(END_TIME_MILLIS), BATCH_SIZE, 0, BatchJobType.CLUSTER_DATA_TO_BIG_QUERY))
-        .thenReturn(Collections.singletonList(instanceBillingData));
+    when(billingDataService.openReadCursor(any(), any(), any(), anyInt(), anyLong(), any())).thenReturn(cursor);
+    when(cursor.next()).thenReturn(true, false);
+    when(billingDataService.toInstanceBillingData(cursor)).thenReturn(instanceBillingData);
   }
 
   @Test
@@ -106,6 +111,7 @@ public class ClusterDataToBigQueryTaskletTest extends BaseTaskletTest {
     when(parameters.getString(CCMJobConstants.JOB_END_DATE)).thenReturn(String.valueOf(END_INSTANT.toEpochMilli()));
     RepeatStatus execute = clusterDataToBigQueryTasklet.execute(null, chunkContext);
     assertThat(execute).isNull();
+    verify(billingDataService).closeReadCursor(cursor);
   }
 
   @Test
@@ -7,6 +7,7 @@
 
 package io.harness.cvng.core.jobs;
 
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
@@ -15,15 +16,23 @@ import io.harness.queue.QueueController;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
 @Slf4j
 public abstract class AbstractStreamConsumer implements Runnable {
+  private static final int ACK_BATCH_SIZE = 100;
+  private static final Duration ACK_FLUSH_INTERVAL = Duration.ofSeconds(1);
   private int maxWaitTimeInSeconds = 10;
   private Consumer consumer;
   private QueueController queueController;
+  private AcknowledgementBuffer acknowledgementBuffer;
+
+  public AbstractStreamConsumer(int maxWaitTimeInSeconds, Consumer consumer, QueueController queueController) {
+    this.maxWaitTimeInSeconds = maxWaitTimeInSeconds;
+    this.consumer = consumer;
+    this.queueController = queueController;
+    this.acknowledgementBuffer = new AcknowledgementBuffer(consumer, ACK_BATCH_SIZE, ACK_FLUSH_INTERVAL);
+  }
 
   protected abstract void processMessage(Message message);
 
@@ -41,6 +50,8 @@ public abstract class AbstractStreamConsumer implements Runnable {
       }
     } catch (Exception ex) {
       log.error("Entity crud stream consumer unexpectedly stopped", ex);
+    } finally {
+      acknowledgementBuffer.close();
     }
   }
 
@@ -62,7 +73,7 @@ public abstract class AbstractStreamConsumer implements Runnable {
       messageId = message.getId();
       messageProcessed = handleMessage(message);
       if (messageProcessed) {
-        consumer.acknowledge(messageId);
+        acknowledgementBuffer.acknowledge(messageId);
       }
     }
   }
@@ -44,6 +44,9 @@ import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.services.api.demo.CVNGDemoDataIndexService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.metrics.CVNGMetricsUtils;
+import io.harness.cvng.metrics.beans.AccountMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.JsonUtils;
 
@@ -53,7 +56,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -70,38 +77,42 @@ import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.mongodb.morphia.UpdateOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.UpdateOperations;
+import org.mongodb.morphia.query.UpdateOpsImpl;
 import org.reflections.Reflections;
 import org.reflections.scanners.ResourcesScanner;
 
 @OwnedBy(HarnessTeam.CV)
 @Slf4j
 public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
+  private static final int BULK_WRITE_BATCH_SIZE = 1000;
+
   @Inject private HPersistence hPersistence;
   @Inject private CVConfigService cvConfigService;
   @Inject private MetricPackService metricPackService;
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
   @Inject private CVNGDemoDataIndexService cvngDemoDataIndexService;
+  @Inject private MetricService metricService;
+  @Inject private Clock clock;
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
     log.info("Saving {} data records", dataRecords.size());
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
+    Instant startTime = clock.instant();
+    Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask = new HashMap<>();
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(dataRecords);
-    timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
+    DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+    int pendingUpserts = 0;
+    for (Map.Entry<TimeSeriesRecordBucketKey, TimeSeriesRecord> entry : timeSeriesRecordMap.entrySet()) {
+      TimeSeriesRecordBucketKey timeSeriesRecordBucketKey = entry.getKey();
+      TimeSeriesRecord timeSeriesRecord = entry.getValue();
       TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+          metricTypesByVerificationTask
+              .computeIfAbsent(timeSeriesRecord.getVerificationTaskId(), this::getMetricTypeMap)
+              .get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -126,13 +137,40 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
-    });
+      // Every bucket is a different document, so the upserts can be applied in any order
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
+      if (++pendingUpserts == BULK_WRITE_BATCH_SIZE) {
+        bulkWriteOperation.execute();
+        bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+        pendingUpserts = 0;
+      }
+    }
+    if (pendingUpserts > 0) {
+      bulkWriteOperation.execute();
+    }
 
     saveHosts(dataRecords);
+    if (isNotEmpty(dataRecords)) {
+      try (AccountMetricContext ignore = new AccountMetricContext(dataRecords.get(0).getAccountId())) {
+        metricService.recordMetric(CVNGMetricsUtils.TIME_SERIES_RECORD_BUCKET_COUNT, timeSeriesRecordMap.size());
+        metricService.recordDuration(
+            CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_TIME, Duration.between(startTime, clock.instant()));
+      }
+    }
     return true;
   }
 
+  private Map<String, TimeSeriesMetricType> getMetricTypeMap(String verificationTaskId) {
+    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+    timeSeriesAnalysisService.getMetricTemplate(verificationTaskId)
+        .forEach(timeSeriesMetricDefinition
+            -> metricTypeMap.putIfAbsent(
+                timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+    return metricTypeMap;
+  }
+
   @Value
   @Builder
   private static class TimeSeriesRecordBucketKey {
@@ -24,6 +24,8 @@ public interface CVNGMetricsUtils {
   String LEARNING_ENGINE_TASK_RUNNING_TIME = "learning_engine_task_running_time";
   String API_CALL_EXECUTION_TIME = "api_call_execution_time";
   String API_CALL_RESPONSE_SIZE = "api_call_response_size";
+  String TIME_SERIES_RECORD_SAVE_TIME = "time_series_record_save_time";
+  String TIME_SERIES_RECORD_BUCKET_COUNT = "time_series_record_bucket_count";
 
   static String getApiCallLogResponseCodeMetricName(String responseCode) {
     return String.format("api_call_response_code_%sxx", responseCode.charAt(0));
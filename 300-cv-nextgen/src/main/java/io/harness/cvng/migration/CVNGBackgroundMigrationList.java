@@ -20,6 +20,7 @@ import io.harness.cvng.migration.list.AddMonitoredServiceToChangeSourceMigration
 import io.harness.cvng.migration.list.AddMonitoredServiceToHeatMapMigration;
 import io.harness.cvng.migration.list.AddMonitoringSourcesToVerificationJobMigration;
 import io.harness.cvng.migration.list.AppDCustomMetricForExistingProjects;
+import io.harness.cvng.migration.list.BackfillSLIRecordRollups;
 import io.harness.cvng.migration.list.CVNGBaseMigration;
 import io.harness.cvng.migration.list.CleanUpMonitoringSourcePerpetualTask;
 import io.harness.cvng.migration.list.CleanUpOldDocuments;
@@ -100,6 +101,7 @@ public class CVNGBackgroundMigrationList {
         .add(Pair.of(39, AddMonitoredServiceToActivityMigration.class))
         .add(Pair.of(40, AddMetricIdentifierInCVConfigsAndMetricPacks.class))
         .add(Pair.of(41, AddMetricIdentifierToTimeSeriesThreshold.class))
+        .add(Pair.of(42, BackfillSLIRecordRollups.class))
 
         .build();
   }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.migration.list;
+
+import io.harness.cvng.migration.CVNGMigration;
+import io.harness.cvng.migration.beans.ChecklistItem;
+import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
+import io.harness.persistence.HIterator;
+import io.harness.persistence.HPersistence;
+
+import com.google.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class BackfillSLIRecordRollups implements CVNGMigration {
+  @Inject private HPersistence hPersistence;
+  @Inject private SLIRecordService sliRecordService;
+
+  @Override
+  public void migrate() {
+    log.info("Begin migration for backfilling SLI record rollups");
+    try (HIterator<ServiceLevelIndicator> iterator =
+             new HIterator<>(hPersistence.createQuery(ServiceLevelIndicator.class).fetch())) {
+      while (iterator.hasNext()) {
+        ServiceLevelIndicator serviceLevelIndicator = iterator.next();
+        try {
+          sliRecordService.backfillRollups(serviceLevelIndicator.getUuid());
+        } catch (Exception ex) {
+          log.error("Exception occurred while backfilling rollups of SLI {}", serviceLevelIndicator.getUuid(), ex);
+        }
+      }
+    }
+  }
+
+  @Override
+  public ChecklistItem whatHappensOnRollback() {
+    return ChecklistItem.NA;
+  }
+
+  @Override
+  public ChecklistItem whatHappensIfOldVersionIteratorPicksMigratedEntity() {
+    return ChecklistItem.NA;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.CreatedAtAware;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UpdatedAtAware;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * Running good and bad counts of an SLI at the end of an hour, i.e. the counts of the last {@link SLIRecord} of the
+ * bucket. They are kept up to date with the SLI records so that long graphs can be drawn without reading the per
+ * minute records.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordRollupKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Entity(value = "sliRecordRollups", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+@StoreIn(DbAliases.CVNG)
+public class SLIRecordRollup implements PersistentEntity, UuidAware, UpdatedAtAware, CreatedAtAware {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("sli_resolution_bucket")
+                 .unique(true)
+                 .field(SLIRecordRollupKeys.sliId)
+                 .field(SLIRecordRollupKeys.resolution)
+                 .field(SLIRecordRollupKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String sliId;
+  private Resolution resolution;
+  private Instant bucketStartTime;
+  private Instant timestamp; // minute of the last SLI record of the bucket
+  private long runningBadCount;
+  private long runningGoodCount;
+  private int sliVersion;
+  private long lastUpdatedAt;
+  private long createdAt;
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(180).toInstant());
+
+  public SLIRecord toSLIRecord() {
+    return SLIRecord.builder()
+        .sliId(sliId)
+        .timestamp(timestamp)
+        .runningBadCount(runningBadCount)
+        .runningGoodCount(runningGoodCount)
+        .sliVersion(sliVersion)
+        .build();
+  }
+
+  public enum Resolution {
+    // Day buckets would only be used for windows longer than the TTL of the records
+    HOUR(ChronoUnit.HOURS);
+
+    @Getter private final ChronoUnit unit;
+
+    Resolution(ChronoUnit unit) {
+      this.unit = unit;
+    }
+
+    public Duration getDuration() {
+      return unit.getDuration();
+    }
+
+    public Instant getBucketStartTime(Instant timestamp) {
+      return timestamp.truncatedTo(unit);
+    }
+  }
+}
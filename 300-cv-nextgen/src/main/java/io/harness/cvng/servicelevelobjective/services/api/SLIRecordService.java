@@ -21,4 +21,5 @@ public interface SLIRecordService {
       SLIMissingDataType sliMissingDataType, int sliVersion);
   void delete(List<String> sliIds);
   List<SLIRecord> getLatestCountSLIRecords(String sliId, int count);
+  void backfillRollups(String sliId);
 }
@@ -8,6 +8,7 @@
 package io.harness.cvng.servicelevelobjective.services.impl;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
 import io.harness.annotations.retry.RetryOnException;
@@ -19,7 +20,11 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
+import io.harness.persistence.HIterator;
 import io.harness.persistence.HPersistence;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -31,16 +36,20 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.mongodb.morphia.query.FindOptions;
+import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 
 public class SLIRecordServiceImpl implements SLIRecordService {
   @VisibleForTesting static int MAX_NUMBER_OF_POINTS = 2000;
+  // Rollups are only used when they still fill this fraction of the points, so that short graphs keep every minute
+  private static final int MIN_ROLLUP_POINTS_DIVISOR = 4;
   private static final int RETRY_COUNT = 3;
   @Inject private HPersistence hPersistence;
 
@@ -91,6 +100,7 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       sliRecordList.add(sliRecord);
     }
     hPersistence.save(sliRecordList);
+    updateRollups(sliId, sliRecordList);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
@@ -129,6 +139,46 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       }
     }
     hPersistence.save(updateOrCreateSLIRecords);
+    updateRollups(sliId, updateOrCreateSLIRecords);
+  }
+
+  private void updateRollups(String sliId, List<SLIRecord> sliRecords) {
+    if (isEmpty(sliRecords)) {
+      return;
+    }
+    for (Resolution resolution : Resolution.values()) {
+      Map<Instant, SLIRecord> lastSLIRecordByBucket = new HashMap<>();
+      sliRecords.forEach(sliRecord
+          -> lastSLIRecordByBucket.merge(resolution.getBucketStartTime(sliRecord.getTimestamp()), sliRecord,
+              (current, other) -> other.getTimestamp().isAfter(current.getTimestamp()) ? other : current));
+      // Only the last bucket can have records after the saved ones, that were not updated
+      Instant lastBucketStartTime = Collections.max(lastSLIRecordByBucket.keySet());
+      SLIRecord lastSLIRecordOfLastBucket =
+          getLastSLIRecord(sliId, lastBucketStartTime.plus(resolution.getDuration()));
+      if (Objects.nonNull(lastSLIRecordOfLastBucket)) {
+        lastSLIRecordByBucket.put(lastBucketStartTime, lastSLIRecordOfLastBucket);
+      }
+      lastSLIRecordByBucket.forEach(
+          (bucketStartTime, sliRecord) -> upsertRollup(sliId, resolution, bucketStartTime, sliRecord));
+    }
+  }
+
+  private void upsertRollup(String sliId, Resolution resolution, SLIRecord sliRecord) {
+    upsertRollup(sliId, resolution, resolution.getBucketStartTime(sliRecord.getTimestamp()), sliRecord);
+  }
+
+  private void upsertRollup(String sliId, Resolution resolution, Instant bucketStartTime, SLIRecord sliRecord) {
+    hPersistence.upsert(hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority)
+                            .filter(SLIRecordRollupKeys.sliId, sliId)
+                            .filter(SLIRecordRollupKeys.resolution, resolution)
+                            .filter(SLIRecordRollupKeys.bucketStartTime, bucketStartTime),
+        hPersistence.createUpdateOperations(SLIRecordRollup.class)
+            .setOnInsert(SLIRecordRollupKeys.uuid, generateUuid())
+            .setOnInsert(SLIRecordRollupKeys.validUntil, SLIRecordRollup.builder().build().getValidUntil())
+            .set(SLIRecordRollupKeys.timestamp, sliRecord.getTimestamp())
+            .set(SLIRecordRollupKeys.runningBadCount, sliRecord.getRunningBadCount())
+            .set(SLIRecordRollupKeys.runningGoodCount, sliRecord.getRunningGoodCount())
+            .set(SLIRecordRollupKeys.sliVersion, sliRecord.getSliVersion()));
   }
 
   @Override
@@ -193,8 +243,12 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       startTime = firstRecordInRange.getTimestamp();
       endTime = lastRecordInRange.getTimestamp().plus(Duration.ofMinutes(1));
     }
-    List<Instant> minutes = new ArrayList<>();
     long totalMinutes = Duration.between(startTime, endTime).toMinutes();
+    Resolution rollupResolution = getRollupResolution(totalMinutes);
+    if (rollupResolution != null && isRolledUp(sliId, rollupResolution, firstRecordInRange)) {
+      return rollupSLIRecords(sliId, rollupResolution, firstRecordInRange, lastRecordInRange);
+    }
+    List<Instant> minutes = new ArrayList<>();
     long diff = totalMinutes / MAX_NUMBER_OF_POINTS;
     if (diff == 0) {
       diff = 1L;
@@ -215,6 +269,81 @@ public class SLIRecordServiceImpl implements SLIRecordService {
         .asList();
   }
 
+  // Picks the coarsest rollup that still gives enough points for the window, or null to sample the minute records
+  @VisibleForTesting
+  static Resolution getRollupResolution(long totalMinutes) {
+    Resolution rollupResolution = null;
+    for (Resolution resolution : Resolution.values()) {
+      if (totalMinutes / resolution.getDuration().toMinutes() >= MAX_NUMBER_OF_POINTS / MIN_ROLLUP_POINTS_DIVISOR) {
+        rollupResolution = resolution;
+      }
+    }
+    return rollupResolution;
+  }
+
+  // Records saved before they were backfilled, or outliving them, have no rollups and are sampled by minute instead
+  private boolean isRolledUp(String sliId, Resolution resolution, SLIRecord firstRecordInRange) {
+    Instant firstBucketStartTime = resolution.getBucketStartTime(firstRecordInRange.getTimestamp());
+    SLIRecordRollup firstRollupInRange = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority)
+                                             .filter(SLIRecordRollupKeys.sliId, sliId)
+                                             .filter(SLIRecordRollupKeys.resolution, resolution)
+                                             .filter(SLIRecordRollupKeys.bucketStartTime, firstBucketStartTime)
+                                             .get();
+    return firstRollupInRange != null;
+  }
+
+  private List<SLIRecord> rollupSLIRecords(
+      String sliId, Resolution resolution, SLIRecord firstRecordInRange, SLIRecord lastRecordInRange) {
+    List<SLIRecordRollup> rollups =
+        hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority)
+            .filter(SLIRecordRollupKeys.sliId, sliId)
+            .filter(SLIRecordRollupKeys.resolution, resolution)
+            .field(SLIRecordRollupKeys.bucketStartTime)
+            .greaterThanOrEq(resolution.getBucketStartTime(firstRecordInRange.getTimestamp()))
+            .field(SLIRecordRollupKeys.bucketStartTime)
+            .lessThanOrEq(lastRecordInRange.getTimestamp())
+            .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+            .asList()
+            .stream()
+            .filter(rollup
+                -> rollup.getTimestamp().isAfter(firstRecordInRange.getTimestamp())
+                    && rollup.getTimestamp().isBefore(lastRecordInRange.getTimestamp()))
+            .collect(Collectors.toList());
+    // always include start and end minute.
+    int maxNumberOfRollups = Math.max(MAX_NUMBER_OF_POINTS - 2, 1);
+    int step = Math.max((rollups.size() + maxNumberOfRollups - 1) / maxNumberOfRollups, 1);
+    List<SLIRecord> sliRecords = new ArrayList<>();
+    sliRecords.add(firstRecordInRange);
+    for (int i = step - 1; i < rollups.size(); i += step) {
+      sliRecords.add(rollups.get(i).toSLIRecord());
+    }
+    sliRecords.add(lastRecordInRange);
+    return sliRecords;
+  }
+
+  @Override
+  public void backfillRollups(String sliId) {
+    Query<SLIRecord> sliRecordQuery = hPersistence.createQuery(SLIRecord.class, excludeAuthority)
+                                          .filter(SLIRecordKeys.sliId, sliId)
+                                          .order(Sort.ascending(SLIRecordKeys.timestamp));
+    Map<Resolution, SLIRecord> lastSLIRecordByResolution = new HashMap<>();
+    try (HIterator<SLIRecord> iterator = new HIterator<>(sliRecordQuery.fetch())) {
+      while (iterator.hasNext()) {
+        SLIRecord sliRecord = iterator.next();
+        for (Resolution resolution : Resolution.values()) {
+          // Records are read in order, so the previous record is the last of its bucket once the bucket changes
+          SLIRecord previousSLIRecord = lastSLIRecordByResolution.put(resolution, sliRecord);
+          if (previousSLIRecord != null
+              && !resolution.getBucketStartTime(previousSLIRecord.getTimestamp())
+                      .equals(resolution.getBucketStartTime(sliRecord.getTimestamp()))) {
+            upsertRollup(sliId, resolution, previousSLIRecord);
+          }
+        }
+      }
+    }
+    lastSLIRecordByResolution.forEach((resolution, sliRecord) -> upsertRollup(sliId, resolution, sliRecord));
+  }
+
   @VisibleForTesting
   List<SLIRecord> getSLIRecords(String sliId, Instant startTimeStamp, Instant endTimeStamp) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthority)
@@ -230,6 +359,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   @Override
   public void delete(List<String> sliIds) {
     hPersistence.delete(hPersistence.createQuery(SLIRecord.class).field(SLIRecordKeys.sliId).in(sliIds));
+    hPersistence.delete(
+        hPersistence.createQuery(SLIRecordRollup.class).field(SLIRecordRollupKeys.sliId).in(sliIds));
   }
 
   private SLIRecord getLastSLIRecord(String sliId, Instant startTimeStamp) {
@@ -29,6 +29,9 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Resolution;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
@@ -40,7 +43,9 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -284,6 +289,108 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     testGraphCalculation(sliStates, SLIMissingDataType.BAD, expectedSLITrend, expectedBurndown, 98);
   }
 
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testCreate_updatesRollups() {
+    Instant startTime = Instant.parse("2020-07-27T10:30:00Z");
+    List<SLIState> sliStates = new ArrayList<>(Collections.nCopies(30, BAD));
+    sliStates.addAll(Collections.nCopies(30, GOOD));
+    createData(startTime, sliStates);
+
+    List<SLIRecordRollup> hourRollups = getRollups(Resolution.HOUR);
+    assertThat(hourRollups).hasSize(2);
+    assertThat(hourRollups.get(0).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T10:00:00Z"));
+    assertThat(hourRollups.get(0).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T10:59:00Z"));
+    assertThat(hourRollups.get(0).getRunningBadCount()).isEqualTo(30);
+    assertThat(hourRollups.get(0).getRunningGoodCount()).isEqualTo(0);
+    assertThat(hourRollups.get(1).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T11:29:00Z"));
+    assertThat(hourRollups.get(1).getRunningGoodCount()).isEqualTo(30);
+
+    createData(startTime.plus(Duration.ofMinutes(60)), Arrays.asList(GOOD, BAD));
+    hourRollups = getRollups(Resolution.HOUR);
+    assertThat(hourRollups).hasSize(2);
+    assertThat(hourRollups.get(1).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T11:31:00Z"));
+    assertThat(hourRollups.get(1).getRunningBadCount()).isEqualTo(31);
+    assertThat(hourRollups.get(1).getRunningGoodCount()).isEqualTo(31);
+  }
+
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testGetRollupResolution() {
+    assertThat(SLIRecordServiceImpl.getRollupResolution(59)).isNull();
+    assertThat(SLIRecordServiceImpl.getRollupResolution(60)).isEqualTo(Resolution.HOUR);
+    assertThat(SLIRecordServiceImpl.getRollupResolution(Duration.ofDays(2).toMinutes())).isEqualTo(Resolution.HOUR);
+  }
+
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testGetGraphData_fromHourRollups() {
+    Instant startTime = Instant.parse("2020-07-27T10:00:00Z");
+    List<SLIState> sliStates = new ArrayList<>(Collections.nCopies(60, BAD));
+    sliStates.addAll(Collections.nCopies(120, GOOD));
+    createData(startTime, sliStates);
+
+    SLOGraphData sloGraphData = sliRecordService.getGraphData(
+        sliId, startTime, startTime.plus(Duration.ofHours(3)), 100, SLIMissingDataType.GOOD, 0);
+
+    assertThat(sloGraphData.getSloPerformanceTrend().stream().map(Point::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(startTime.toEpochMilli(), Instant.parse("2020-07-27T10:59:00Z").toEpochMilli(),
+            Instant.parse("2020-07-27T11:59:00Z").toEpochMilli(), Instant.parse("2020-07-27T12:59:00Z").toEpochMilli());
+    List<Double> expectedSLITrend = Lists.newArrayList(0.0, 0.0, 50.0, 66.66);
+    List<Double> expectedBurndown = Lists.newArrayList(99.0, 40.0, 40.0, 40.0);
+    for (int i = 0; i < expectedSLITrend.size(); i++) {
+      assertThat(sloGraphData.getSloPerformanceTrend().get(i).getValue())
+          .isCloseTo(expectedSLITrend.get(i), offset(0.01));
+      assertThat(sloGraphData.getErrorBudgetBurndown().get(i).getValue())
+          .isCloseTo(expectedBurndown.get(i), offset(0.01));
+    }
+    assertThat(sloGraphData.getErrorBudgetRemaining()).isEqualTo(40);
+  }
+
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testGetGraphData_withoutRollupsUntilBackfilled() {
+    Instant startTime = Instant.parse("2020-07-27T10:00:00Z");
+    List<SLIState> sliStates = new ArrayList<>(Collections.nCopies(60, BAD));
+    sliStates.addAll(Collections.nCopies(120, GOOD));
+    createData(startTime, sliStates);
+    hPersistence.delete(
+        hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority).filter(SLIRecordRollupKeys.sliId, sliId));
+
+    SLOGraphData sloGraphData = sliRecordService.getGraphData(
+        sliId, startTime, startTime.plus(Duration.ofHours(3)), 100, SLIMissingDataType.GOOD, 0);
+    assertThat(sloGraphData.getSloPerformanceTrend().stream().map(Point::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(startTime.toEpochMilli(), Instant.parse("2020-07-27T10:36:00Z").toEpochMilli(),
+            Instant.parse("2020-07-27T11:12:00Z").toEpochMilli(), Instant.parse("2020-07-27T11:48:00Z").toEpochMilli(),
+            Instant.parse("2020-07-27T12:24:00Z").toEpochMilli(), Instant.parse("2020-07-27T12:59:00Z").toEpochMilli());
+
+    sliRecordService.backfillRollups(sliId);
+
+    List<SLIRecordRollup> hourRollups = getRollups(Resolution.HOUR);
+    assertThat(hourRollups.stream().map(SLIRecordRollup::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(Instant.parse("2020-07-27T10:59:00Z"), Instant.parse("2020-07-27T11:59:00Z"),
+            Instant.parse("2020-07-27T12:59:00Z"));
+    assertThat(hourRollups.get(2).getRunningBadCount()).isEqualTo(60);
+    assertThat(hourRollups.get(2).getRunningGoodCount()).isEqualTo(120);
+    sloGraphData = sliRecordService.getGraphData(
+        sliId, startTime, startTime.plus(Duration.ofHours(3)), 100, SLIMissingDataType.GOOD, 0);
+    assertThat(sloGraphData.getSloPerformanceTrend().stream().map(Point::getTimestamp).collect(Collectors.toList()))
+        .containsExactly(startTime.toEpochMilli(), Instant.parse("2020-07-27T10:59:00Z").toEpochMilli(),
+            Instant.parse("2020-07-27T11:59:00Z").toEpochMilli(), Instant.parse("2020-07-27T12:59:00Z").toEpochMilli());
+  }
+
+  private List<SLIRecordRollup> getRollups(Resolution resolution) {
+    return hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority)
+        .filter(SLIRecordRollupKeys.sliId, sliId)
+        .filter(SLIRecordRollupKeys.resolution, resolution)
+        .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+        .asList();
+  }
+
   private void createData(Instant startTime, List<SLIState> sliStates) {
     List<SLIRecordParam> sliRecordParams = getSLIRecordParam(startTime, sliStates);
     sliRecordService.create(sliRecordParams, sliId, verificationTaskId, 0);
@@ -38,6 +38,8 @@ import io.harness.delegate.SendTaskStatusResponse;
 import io.harness.delegate.SubmitTaskRequest;
 import io.harness.delegate.SubmitTaskResponse;
 import io.harness.delegate.TaskDetails;
+import io.harness.delegate.TaskEventsStreamRequest;
+import io.harness.delegate.TaskEventsStreamResponse;
 import io.harness.delegate.TaskExecutionStage;
 import io.harness.delegate.TaskId;
 import io.harness.delegate.TaskMode;
@@ -51,6 +53,7 @@ import io.harness.delegate.beans.DelegateResponseData;
 import io.harness.delegate.beans.DelegateTaskResponse;
 import io.harness.delegate.beans.TaskData;
 import io.harness.delegate.beans.executioncapability.ExecutionCapability;
+import io.harness.grpc.auth.DelegateAuthServerInterceptor;
 import io.harness.perpetualtask.PerpetualTaskClientContext;
 import io.harness.perpetualtask.PerpetualTaskClientContext.PerpetualTaskClientContextBuilder;
 import io.harness.perpetualtask.PerpetualTaskId;
@@ -67,6 +70,7 @@ import com.google.inject.Singleton;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -87,18 +91,20 @@ public class DelegateServiceGrpcImpl extends DelegateServiceImplBase {
   private KryoSerializer kryoSerializer;
   private DelegateTaskService delegateTaskService;
   private DelegateTaskServiceClassic delegateTaskServiceClassic;
+  private DelegateTaskEventStreamer delegateTaskEventStreamer;
 
   @Inject
   public DelegateServiceGrpcImpl(DelegateCallbackRegistry delegateCallbackRegistry,
       PerpetualTaskService perpetualTaskService, DelegateService delegateService,
       DelegateTaskService delegateTaskService, KryoSerializer kryoSerializer,
-      DelegateTaskServiceClassic delegateTaskServiceClassic) {
+      DelegateTaskServiceClassic delegateTaskServiceClassic, DelegateTaskEventStreamer delegateTaskEventStreamer) {
     this.delegateCallbackRegistry = delegateCallbackRegistry;
     this.perpetualTaskService = perpetualTaskService;
     this.delegateService = delegateService;
     this.kryoSerializer = kryoSerializer;
     this.delegateTaskService = delegateTaskService;
     this.delegateTaskServiceClassic = delegateTaskServiceClassic;
+    this.delegateTaskEventStreamer = delegateTaskEventStreamer;
   }
 
   @Override
@@ -298,6 +304,22 @@ public class DelegateServiceGrpcImpl extends DelegateServiceImplBase {
         "Temporarily removed the implementation until we find more effective way of doing this.");
   }
 
+  @Override
+  public void streamTaskEvents(
+      TaskEventsStreamRequest request, StreamObserver<TaskEventsStreamResponse> responseObserver) {
+    String accountId = request.getAccountId().getId();
+    String authenticatedAccountId = DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY.get();
+    if (authenticatedAccountId == null || !authenticatedAccountId.equals(accountId)) {
+      responseObserver.onError(io.grpc.Status.PERMISSION_DENIED
+                                   .withDescription("Task events can only be streamed to delegates of the account")
+                                   .asRuntimeException());
+      return;
+    }
+
+    delegateTaskEventStreamer.subscribe(accountId, request.getDelegateId(), request.getStreamId(),
+        request.getLastSequenceNumber(), (ServerCallStreamObserver<TaskEventsStreamResponse>) responseObserver);
+  }
+
   @Override
   public void registerCallback(
       RegisterCallbackRequest request, StreamObserver<RegisterCallbackResponse> responseObserver) {
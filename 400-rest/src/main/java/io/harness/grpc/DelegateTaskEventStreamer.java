@@ -0,0 +1,305 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.grpc;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTask;
+import io.harness.delegate.TaskEvent;
+import io.harness.delegate.TaskEventsStreamResponse;
+import io.harness.delegate.TaskId;
+import io.harness.delegate.beans.DelegateTaskAbortEvent;
+import io.harness.delegate.beans.DelegateTaskEvent;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams task events to the delegates connected to this manager. The events of a delegate are computed the same way as
+ * for polling delegates, but on the manager side: immediately when a task is broadcast or aborted, and periodically to
+ * catch the tasks broadcast by other managers. Each event is sent once and numbered, so that a delegate reconnecting
+ * to the same stream only receives the events it has missed. A delegate that stops reading its stream is disconnected
+ * instead of having its events buffered without bound.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+public class DelegateTaskEventStreamer {
+  private static final long REFRESH_INTERVAL_MS = TimeUnit.SECONDS.toMillis(3);
+  private static final long DETACHED_STREAM_EXPIRY_MS = TimeUnit.MINUTES.toMillis(10);
+  private static final int MAX_REPLAYED_EVENTS = 1000;
+  private static final int MAX_PENDING_EVENTS = 1000;
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private final Provider<DelegateTaskServiceClassic> delegateTaskServiceClassicProvider;
+  private final ExecutorService executorService;
+  private final ConcurrentMap<String, ConcurrentMap<String, DelegateEventStream>> streams = new ConcurrentHashMap<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  @Inject
+  public DelegateTaskEventStreamer(
+      Provider<DelegateTaskServiceClassic> delegateTaskServiceClassicProvider, ExecutorService executorService) {
+    this.delegateTaskServiceClassicProvider = delegateTaskServiceClassicProvider;
+    this.executorService = executorService;
+  }
+
+  public void subscribe(String accountId, String delegateId, String streamId, long lastSequenceNumber,
+      ServerCallStreamObserver<TaskEventsStreamResponse> observer) {
+    start();
+    ConcurrentMap<String, DelegateEventStream> accountStreams =
+        streams.computeIfAbsent(accountId, id -> new ConcurrentHashMap<>());
+    DelegateEventStream stream = accountStreams.compute(delegateId, (id, existing) -> {
+      if (existing != null && existing.streamId.equals(streamId)) {
+        existing.touch();
+        return existing;
+      }
+      if (existing != null) {
+        existing.close();
+      }
+      return new DelegateEventStream(accountId, delegateId);
+    });
+
+    observer.setOnReadyHandler(() -> stream.send(observer));
+    observer.setOnCancelHandler(() -> stream.detach(observer));
+    stream.attach(observer, lastSequenceNumber);
+    requestRefresh(stream);
+  }
+
+  public void onTaskBroadcast(DelegateTask delegateTask) {
+    Map<String, DelegateEventStream> accountStreams = streams.get(delegateTask.getAccountId());
+    if (accountStreams == null) {
+      return;
+    }
+    List<String> broadcastToDelegateIds = delegateTask.getBroadcastToDelegateIds();
+    accountStreams.values().forEach(stream -> {
+      if (isEmpty(broadcastToDelegateIds) || broadcastToDelegateIds.contains(stream.delegateId)) {
+        stream.forget(delegateTask.getUuid());
+        requestRefresh(stream);
+      }
+    });
+  }
+
+  public void onTaskAborted(String accountId) {
+    Map<String, DelegateEventStream> accountStreams = streams.get(accountId);
+    if (accountStreams != null) {
+      accountStreams.values().forEach(this::requestRefresh);
+    }
+  }
+
+  @VisibleForTesting
+  void refreshAll() {
+    long now = System.currentTimeMillis();
+    streams.values().forEach(accountStreams -> accountStreams.keySet().forEach(delegateId -> {
+      DelegateEventStream stream =
+          accountStreams.computeIfPresent(delegateId, (id, existing) -> existing.isExpired(now) ? null : existing);
+      if (stream != null && stream.isAttached()) {
+        requestRefresh(stream);
+      }
+    }));
+  }
+
+  private void start() {
+    if (started.compareAndSet(false, true)) {
+      ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("delegate-task-event-streamer").setDaemon(true).build());
+      refreshExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          refreshAll();
+        } catch (Exception e) {
+          log.error("Failed to refresh delegate task event streams", e);
+        }
+      }, REFRESH_INTERVAL_MS, REFRESH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void requestRefresh(DelegateEventStream stream) {
+    stream.refreshRequested.set(true);
+    if (stream.refreshing.compareAndSet(false, true)) {
+      executorService.submit(() -> refresh(stream));
+    }
+  }
+
+  // Runs until no refresh was requested while the previous one was running, so that no broadcast is missed.
+  private void refresh(DelegateEventStream stream) {
+    do {
+      try {
+        while (stream.refreshRequested.getAndSet(false)) {
+          if (stream.isAttached()) {
+            stream.publish(delegateTaskServiceClassicProvider.get().getDelegateTaskEvents(
+                stream.accountId, stream.delegateId, false));
+          }
+        }
+      } catch (Exception e) {
+        log.error("Failed to refresh task events of delegate {}", stream.delegateId, e);
+      } finally {
+        stream.refreshing.set(false);
+      }
+    } while (stream.refreshRequested.get() && stream.refreshing.compareAndSet(false, true));
+  }
+
+  private static class DelegateEventStream {
+    private final String accountId;
+    private final String delegateId;
+    private final String streamId = generateUuid();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final Deque<TaskEvent> replayedEvents = new ArrayDeque<>();
+    private final Deque<TaskEvent> pendingEvents = new ArrayDeque<>();
+    private final Set<String> announcedTaskIds = new HashSet<>();
+    private final Set<String> announcedAbortIds = new HashSet<>();
+    private long sequenceNumber;
+    private ServerCallStreamObserver<TaskEventsStreamResponse> observer;
+    private long detachedAt = System.currentTimeMillis();
+
+    DelegateEventStream(String accountId, String delegateId) {
+      this.accountId = accountId;
+      this.delegateId = delegateId;
+    }
+
+    synchronized void attach(ServerCallStreamObserver<TaskEventsStreamResponse> newObserver, long lastSequenceNumber) {
+      close();
+      observer = newObserver;
+      if (!replayedEvents.isEmpty() && replayedEvents.getFirst().getSequenceNumber() > lastSequenceNumber + 1) {
+        // Some of the missed events are not kept anymore, so every queued and aborted task is announced again
+        announcedTaskIds.clear();
+        announcedAbortIds.clear();
+      }
+      replayedEvents.stream()
+          .filter(event -> event.getSequenceNumber() > lastSequenceNumber)
+          .forEach(pendingEvents::addLast);
+      send(newObserver);
+    }
+
+    synchronized void detach(ServerCallStreamObserver<TaskEventsStreamResponse> oldObserver) {
+      if (observer == oldObserver) {
+        observer = null;
+        pendingEvents.clear();
+        detachedAt = System.currentTimeMillis();
+      }
+    }
+
+    synchronized void close() {
+      if (observer != null) {
+        ServerCallStreamObserver<TaskEventsStreamResponse> oldObserver = observer;
+        detach(oldObserver);
+        try {
+          oldObserver.onCompleted();
+        } catch (Exception e) {
+          log.debug("Failed to complete replaced task event stream of delegate {}", delegateId, e);
+        }
+      }
+    }
+
+    synchronized void touch() {
+      detachedAt = System.currentTimeMillis();
+    }
+
+    synchronized boolean isAttached() {
+      return observer != null;
+    }
+
+    synchronized boolean isExpired(long now) {
+      return observer == null && now - detachedAt > DETACHED_STREAM_EXPIRY_MS;
+    }
+
+    synchronized void forget(String taskId) {
+      announcedTaskIds.remove(taskId);
+    }
+
+    synchronized void publish(List<DelegateTaskEvent> delegateTaskEvents) {
+      Set<String> queuedTaskIds = new HashSet<>();
+      Set<String> abortedTaskIds = new HashSet<>();
+      for (DelegateTaskEvent delegateTaskEvent : delegateTaskEvents) {
+        String taskId = delegateTaskEvent.getDelegateTaskId();
+        boolean abort = delegateTaskEvent instanceof DelegateTaskAbortEvent;
+        if (abort) {
+          announcedTaskIds.remove(taskId);
+          if (!abortedTaskIds.add(taskId) || !announcedAbortIds.add(taskId)) {
+            continue;
+          }
+        } else if (!queuedTaskIds.add(taskId) || !announcedTaskIds.add(taskId)) {
+          continue;
+        }
+        TaskEvent.Builder event = TaskEvent.newBuilder()
+                                      .setSequenceNumber(++sequenceNumber)
+                                      .setTaskId(TaskId.newBuilder().setId(taskId).build())
+                                      .setSync(delegateTaskEvent.isSync())
+                                      .setAbort(abort);
+        if (delegateTaskEvent.getTaskType() != null) {
+          event.setTaskType(delegateTaskEvent.getTaskType());
+        }
+        append(event.build());
+      }
+      announcedAbortIds.retainAll(abortedTaskIds);
+      // Tasks that are not listed anymore are forgotten, so that they are announced again if they are listed again
+      announcedTaskIds.retainAll(queuedTaskIds);
+      if (observer != null) {
+        send(observer);
+      }
+    }
+
+    synchronized void send(ServerCallStreamObserver<TaskEventsStreamResponse> target) {
+      if (observer != target) {
+        return;
+      }
+      if (pendingEvents.size() > MAX_PENDING_EVENTS) {
+        log.warn("Delegate {} is not reading its task events, closing the stream", delegateId);
+        detach(target);
+        target.onError(Status.RESOURCE_EXHAUSTED.withDescription("Too many pending task events").asRuntimeException());
+        return;
+      }
+      try {
+        while (target.isReady() && !pendingEvents.isEmpty()) {
+          TaskEventsStreamResponse.Builder response = TaskEventsStreamResponse.newBuilder().setStreamId(streamId);
+          while (response.getEventsCount() < MAX_BATCH_SIZE && !pendingEvents.isEmpty()) {
+            response.addEvents(pendingEvents.removeFirst());
+          }
+          target.onNext(response.build());
+        }
+      } catch (Exception e) {
+        log.warn("Failed to send task events to delegate {}", delegateId, e);
+        detach(target);
+      }
+    }
+
+    private void append(TaskEvent event) {
+      replayedEvents.addLast(event);
+      if (replayedEvents.size() > MAX_REPLAYED_EVENTS) {
+        replayedEvents.removeFirst();
+      }
+      if (observer != null) {
+        pendingEvents.addLast(event);
+      }
+    }
+  }
+}
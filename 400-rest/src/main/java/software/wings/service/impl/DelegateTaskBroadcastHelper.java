@@ -14,6 +14,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
 import io.harness.ff.FeatureFlagService;
+import io.harness.grpc.DelegateTaskEventStreamer;
 import io.harness.persistence.HPersistence;
 
 import software.wings.beans.DelegateTaskBroadcast;
@@ -37,6 +38,7 @@ public class DelegateTaskBroadcastHelper {
   @Inject private HPersistence persistence;
   @Inject private ExecutorService executorService;
   @Inject private FeatureFlagService featureFlagService;
+  @Inject private DelegateTaskEventStreamer delegateTaskEventStreamer;
 
   public void broadcastNewDelegateTaskAsync(DelegateTask task) {
     executorService.submit(() -> {
@@ -58,10 +60,12 @@ public class DelegateTaskBroadcastHelper {
                                                       .accountId(delegateTask.getAccountId())
                                                       .taskId(delegateTask.getUuid())
                                                       .async(delegateTask.getData().isAsync())
+                                                      .taskType(delegateTask.getData().getTaskType())
                                                       .broadcastToDelegatesIds(delegateTask.getBroadcastToDelegateIds())
                                                       .build();
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    delegateTaskEventStreamer.onTaskBroadcast(delegateTask);
   }
 }
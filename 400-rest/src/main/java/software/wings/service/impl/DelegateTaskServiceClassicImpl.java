@@ -105,6 +105,7 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.expression.ExpressionEvaluator;
 import io.harness.expression.ExpressionReflectionUtils;
 import io.harness.ff.FeatureFlagService;
+import io.harness.grpc.DelegateTaskEventStreamer;
 import io.harness.lock.PersistentLocker;
 import io.harness.logging.AccountLogContext;
 import io.harness.logging.AutoLogContext;
@@ -249,6 +250,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private PersistentLocker persistentLocker;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskEventStreamer delegateTaskEventStreamer;
   @Inject private AuditServiceHelper auditServiceHelper;
   @Inject private SubdomainUrlHelperIntfc subdomainUrlHelper;
   @Inject private ConfigurationController configurationController;
@@ -1330,6 +1332,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
 
     broadcasterFactory.lookup(STREAM_DELEGATE + accountId, true)
         .broadcast(aDelegateTaskAbortEvent().withAccountId(accountId).withDelegateTaskId(delegateTaskId).build());
+    delegateTaskEventStreamer.onTaskAborted(accountId);
 
     return oldTask;
   }
@@ -1378,6 +1381,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
                    .withAccountId(accountId)
                    .withDelegateTaskId(delegateTask.getUuid())
                    .withSync(sync)
+                   .withTaskType(delegateTask.getData().getTaskType())
                    .build())
         .collect(toList());
   }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.grpc;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.delegate.beans.DelegateTaskAbortEvent.Builder.aDelegateTaskAbortEvent;
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.DelegateTask;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.TaskEvent;
+import io.harness.delegate.TaskEventsStreamResponse;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.rule.Owner;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class DelegateTaskEventStreamerTest extends CategoryTest {
+  private static final String ACCOUNT_ID = generateUuid();
+  private static final String DELEGATE_ID = generateUuid();
+  private static final String TASK_ID_1 = generateUuid();
+  private static final String TASK_ID_2 = generateUuid();
+
+  private final DelegateTaskServiceClassic delegateTaskServiceClassic = mock(DelegateTaskServiceClassic.class);
+  private DelegateTaskEventStreamer delegateTaskEventStreamer;
+
+  @Before
+  public void setUp() {
+    delegateTaskEventStreamer = new DelegateTaskEventStreamer(
+        () -> delegateTaskServiceClassic, MoreExecutors.newDirectExecutorService());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSendEachEventOnceAndResumeAfterLastSequenceNumber() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(singletonList(queuedEvent(TASK_ID_1)), asList(queuedEvent(TASK_ID_1), queuedEvent(TASK_ID_2)),
+            singletonList(aDelegateTaskAbortEvent().withAccountId(ACCOUNT_ID).withDelegateTaskId(TASK_ID_1).build()));
+
+    List<TaskEventsStreamResponse> firstResponses = new ArrayList<>();
+    ServerCallStreamObserver<TaskEventsStreamResponse> firstObserver = mockObserver(firstResponses, true);
+    delegateTaskEventStreamer.subscribe(ACCOUNT_ID, DELEGATE_ID, "", 0, firstObserver);
+    delegateTaskEventStreamer.refreshAll();
+
+    assertThat(sequenceNumbers(firstResponses)).containsExactly(1L, 2L);
+    assertThat(taskIds(firstResponses)).containsExactly(TASK_ID_1, TASK_ID_2);
+
+    List<TaskEventsStreamResponse> secondResponses = new ArrayList<>();
+    ServerCallStreamObserver<TaskEventsStreamResponse> secondObserver = mockObserver(secondResponses, true);
+    delegateTaskEventStreamer.subscribe(
+        ACCOUNT_ID, DELEGATE_ID, firstResponses.get(0).getStreamId(), 1, secondObserver);
+
+    verify(firstObserver).onCompleted();
+    assertThat(sequenceNumbers(secondResponses)).containsExactly(2L, 3L);
+    assertThat(taskIds(secondResponses)).containsExactly(TASK_ID_2, TASK_ID_1);
+    assertThat(secondResponses.get(1).getEvents(0).getAbort()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSendEventsOnlyWhenDelegateIsReady() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(singletonList(queuedEvent(TASK_ID_1)));
+
+    List<TaskEventsStreamResponse> responses = new ArrayList<>();
+    ServerCallStreamObserver<TaskEventsStreamResponse> observer = mockObserver(responses, false);
+    delegateTaskEventStreamer.subscribe(ACCOUNT_ID, DELEGATE_ID, "", 0, observer);
+
+    verify(observer, never()).onNext(any(TaskEventsStreamResponse.class));
+
+    ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+    verify(observer).setOnReadyHandler(onReadyHandler.capture());
+    when(observer.isReady()).thenReturn(true);
+    onReadyHandler.getValue().run();
+
+    assertThat(taskIds(responses)).containsExactly(TASK_ID_1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnnounceTaskAgainWhenRebroadcast() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(singletonList(queuedEvent(TASK_ID_1)));
+
+    List<TaskEventsStreamResponse> responses = new ArrayList<>();
+    delegateTaskEventStreamer.subscribe(ACCOUNT_ID, DELEGATE_ID, "", 0, mockObserver(responses, true));
+    delegateTaskEventStreamer.refreshAll();
+    delegateTaskEventStreamer.onTaskBroadcast(DelegateTask.builder().accountId(ACCOUNT_ID).uuid(TASK_ID_1).build());
+
+    assertThat(sequenceNumbers(responses)).containsExactly(1L, 2L);
+    assertThat(taskIds(responses)).containsExactly(TASK_ID_1, TASK_ID_1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAnnounceAbortOnceWhileTaskIsListed() {
+    DelegateTaskEvent abortEvent =
+        aDelegateTaskAbortEvent().withAccountId(ACCOUNT_ID).withDelegateTaskId(TASK_ID_1).build();
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(singletonList(abortEvent), singletonList(abortEvent), new ArrayList<>(),
+            singletonList(abortEvent));
+
+    List<TaskEventsStreamResponse> responses = new ArrayList<>();
+    delegateTaskEventStreamer.subscribe(ACCOUNT_ID, DELEGATE_ID, "", 0, mockObserver(responses, true));
+    delegateTaskEventStreamer.refreshAll();
+    assertThat(taskIds(responses)).containsExactly(TASK_ID_1);
+
+    delegateTaskEventStreamer.refreshAll();
+    delegateTaskEventStreamer.refreshAll();
+    assertThat(sequenceNumbers(responses)).containsExactly(1L, 2L);
+    assertThat(responses.get(1).getEvents(0).getAbort()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSendTaskType() {
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(asList(aDelegateTaskEvent()
+                               .withAccountId(ACCOUNT_ID)
+                               .withDelegateTaskId(TASK_ID_1)
+                               .withTaskType("SHELL_SCRIPT_TASK_NG")
+                               .build(),
+            queuedEvent(TASK_ID_2)));
+
+    List<TaskEventsStreamResponse> responses = new ArrayList<>();
+    delegateTaskEventStreamer.subscribe(ACCOUNT_ID, DELEGATE_ID, "", 0, mockObserver(responses, true));
+
+    assertThat(responses.get(0).getEvents(0).getTaskType()).isEqualTo("SHELL_SCRIPT_TASK_NG");
+    assertThat(responses.get(0).getEvents(1).getTaskType()).isEmpty();
+  }
+
+  private DelegateTaskEvent queuedEvent(String taskId) {
+    return aDelegateTaskEvent().withAccountId(ACCOUNT_ID).withDelegateTaskId(taskId).build();
+  }
+
+  private ServerCallStreamObserver<TaskEventsStreamResponse> mockObserver(
+      List<TaskEventsStreamResponse> responses, boolean ready) {
+    ServerCallStreamObserver<TaskEventsStreamResponse> observer = mock(ServerCallStreamObserver.class);
+    when(observer.isReady()).thenReturn(ready);
+    doAnswer(invocation -> responses.add((TaskEventsStreamResponse) invocation.getArguments()[0]))
+        .when(observer)
+        .onNext(any(TaskEventsStreamResponse.class));
+    return observer;
+  }
+
+  private List<Long> sequenceNumbers(List<TaskEventsStreamResponse> responses) {
+    return responses.stream()
+        .flatMap(response -> response.getEventsList().stream())
+        .map(TaskEvent::getSequenceNumber)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> taskIds(List<TaskEventsStreamResponse> responses) {
+    return responses.stream()
+        .flatMap(response -> response.getEventsList().stream())
+        .map(event -> event.getTaskId().getId())
+        .collect(Collectors.toList());
+  }
+}
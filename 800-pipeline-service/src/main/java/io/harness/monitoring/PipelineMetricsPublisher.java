@@ -10,15 +10,40 @@ package io.harness.monitoring;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.executions.plan.PlanExecutionMonitorService;
+import io.harness.expression.CompiledExpressionCache;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.pms.merger.helpers.MergeCache;
 
+import com.google.common.cache.CacheStats;
 import com.google.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PipelineMetricsPublisher implements MetricsPublisher {
+  private static final String MERGE_CACHE_YAML_CONFIG_HIT_RATIO = "merge_cache_yaml_config_hit_ratio";
+  private static final String MERGE_CACHE_MERGE_RESULT_HIT_RATIO = "merge_cache_merge_result_hit_ratio";
+  private static final String EXPRESSION_CACHE_HIT_RATIO = "compiled_expression_cache_hit_ratio";
+  private static final String SCRIPT_CACHE_HIT_RATIO = "compiled_script_cache_hit_ratio";
+
   @Inject PlanExecutionMonitorService planExecutionMonitorService;
+  @Inject MetricService metricService;
+
+  // Cache stats are cumulative since startup, the hit ratios are published for the last interval only
+  private final Map<String, CacheStats> previousCacheStats = new ConcurrentHashMap<>();
+
   @Override
   public void recordMetrics() {
     planExecutionMonitorService.registerActiveExecutionMetrics();
+    recordHitRatio(MERGE_CACHE_YAML_CONFIG_HIT_RATIO, MergeCache.getYamlConfigStats());
+    recordHitRatio(MERGE_CACHE_MERGE_RESULT_HIT_RATIO, MergeCache.getMergeResultStats());
+    recordHitRatio(EXPRESSION_CACHE_HIT_RATIO, CompiledExpressionCache.getExpressionStats());
+    recordHitRatio(SCRIPT_CACHE_HIT_RATIO, CompiledExpressionCache.getScriptStats());
+  }
+
+  private void recordHitRatio(String metricName, CacheStats stats) {
+    CacheStats previous = previousCacheStats.put(metricName, stats);
+    metricService.recordMetric(metricName, previous == null ? stats.hitRate() : stats.minus(previous).hitRate());
   }
 }
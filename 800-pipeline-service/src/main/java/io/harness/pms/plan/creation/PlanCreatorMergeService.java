@@ -18,6 +18,7 @@ import io.harness.exception.InvalidRequestException;
 import io.harness.exception.UnexpectedException;
 import io.harness.exception.YamlException;
 import io.harness.execution.PlanExecutionMetadata;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.pms.async.plan.PartialPlanResponseCallback;
 import io.harness.pms.contracts.plan.CreatePartialPlanEvent;
 import io.harness.pms.contracts.plan.Dependencies;
@@ -52,6 +53,7 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -59,6 +61,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  public static final String PLAN_CREATION_SERVICE_TIME_METRIC = "plan_creation_service_time";
 
   private final Executor executor;
 
@@ -66,6 +69,7 @@ public class PlanCreatorMergeService {
   private final WaitNotifyEngine waitNotifyEngine;
   PmsEventSender pmsEventSender;
   PlanCreationValidator planCreationValidator;
+  @Inject(optional = true) @Nullable MetricService metricService;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
@@ -164,7 +168,7 @@ public class PlanCreatorMergeService {
 
     for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
          i++) {
-      PlanCreationBlobResponse currIterationResponse = createPlanForDependencies(services, finalResponseBuilder);
+      PlanCreationBlobResponse currIterationResponse = createPlanForDependencies(services, finalResponseBuilder, i);
       PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
       PlanCreationBlobResponseUtils.mergeStartingNodeId(
           finalResponseBuilder, currIterationResponse.getStartingNodeId());
@@ -181,22 +185,27 @@ public class PlanCreatorMergeService {
   }
 
   private PlanCreationBlobResponse createPlanForDependencies(
-      Map<String, PlanCreatorServiceInfo> services, PlanCreationBlobResponse.Builder responseBuilder) {
+      Map<String, PlanCreatorServiceInfo> services, PlanCreationBlobResponse.Builder responseBuilder, int depth) {
     PlanCreationBlobResponse.Builder currIterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
+    YamlField fullYamlField = readDependenciesYaml(responseBuilder.getDeps());
 
     for (Map.Entry<String, PlanCreatorServiceInfo> serviceEntry : services.entrySet()) {
-      if (!pmsSdkHelper.containsSupportedDependencyByYamlPath(serviceEntry.getValue(), responseBuilder.getDeps())) {
+      // Each service is only sent the dependencies it can create the plan for
+      Dependencies serviceDependencies =
+          pmsSdkHelper.getSupportedDependencies(serviceEntry.getValue(), fullYamlField, responseBuilder.getDeps());
+      if (EmptyPredicate.isEmpty(serviceDependencies.getDependenciesMap())) {
         continue;
       }
+      PlanCreationBlobRequest request = PlanCreationBlobRequest.newBuilder()
+                                            .setDeps(serviceDependencies)
+                                            .putAllContext(responseBuilder.getContextMap())
+                                            .build();
 
       completableFutures.supplyAsync(() -> {
+        long startTs = System.currentTimeMillis();
         try {
-          return serviceEntry.getValue().getPlanCreationClient().createPlan(
-              PlanCreationBlobRequest.newBuilder()
-                  .setDeps(responseBuilder.getDeps())
-                  .putAllContext(responseBuilder.getContextMap())
-                  .build());
+          return serviceEntry.getValue().getPlanCreationClient().createPlan(request);
         } catch (StatusRuntimeException ex) {
           log.error(
               String.format("Error connecting with service: [%s]. Is this service Running?", serviceEntry.getKey()),
@@ -207,6 +216,8 @@ public class PlanCreatorMergeService {
                       .addMessages(String.format("Error connecting with service: [%s]", serviceEntry.getKey()))
                       .build())
               .build();
+        } finally {
+          recordServiceTime(serviceEntry.getKey(), depth, startTs);
         }
       });
     }
@@ -229,4 +240,26 @@ public class PlanCreatorMergeService {
     PmsExceptionUtils.checkAndThrowPlanCreatorException(errorResponses);
     return currIterationResponseBuilder.build();
   }
+
+  private YamlField readDependenciesYaml(Dependencies dependencies) {
+    try {
+      return YamlUtils.readTree(dependencies.getYaml());
+    } catch (IOException ex) {
+      String message = "Invalid yaml during plan creation";
+      log.error(message, ex);
+      throw new InvalidRequestException(message);
+    }
+  }
+
+  private void recordServiceTime(String serviceName, int depth, long startTs) {
+    if (metricService == null) {
+      return;
+    }
+    try (PlanCreationMetricContext ignore = new PlanCreationMetricContext(serviceName, depth)) {
+      metricService.recordDuration(
+          PLAN_CREATION_SERVICE_TIME_METRIC, Duration.ofMillis(System.currentTimeMillis() - startTs));
+    } catch (Exception ex) {
+      log.warn("Error while recording plan creation time of service {}", serviceName, ex);
+    }
+  }
 }
@@ -109,4 +109,33 @@ public class PmsSdkHelper {
         .findFirst()
         .isPresent();
   }
+
+  /**
+   * Keeps only the dependencies that the service supports, so that each service is sent its own share of them.
+   * @param serviceInfo
+   * @param fullYamlField the parsed yaml of the dependencies
+   * @param dependencies
+   * @return
+   */
+  public Dependencies getSupportedDependencies(
+      PlanCreatorServiceInfo serviceInfo, YamlField fullYamlField, Dependencies dependencies) {
+    Map<String, Set<String>> supportedTypes = serviceInfo.getSupportedTypes();
+    Dependencies.Builder supportedDependencies =
+        dependencies.toBuilder().clearDependencies().clearDependencyMetadata();
+    dependencies.getDependenciesMap().forEach((nodeId, yamlPath) -> {
+      try {
+        if (!PlanCreatorUtils.supportsField(supportedTypes, fullYamlField.fromYamlPath(yamlPath))) {
+          return;
+        }
+      } catch (Exception e) {
+        log.error("Invalid yaml field", e);
+        return;
+      }
+      supportedDependencies.putDependencies(nodeId, yamlPath);
+      if (dependencies.containsDependencyMetadata(nodeId)) {
+        supportedDependencies.putDependencyMetadata(nodeId, dependencies.getDependencyMetadataOrThrow(nodeId));
+      }
+    });
+    return supportedDependencies.build();
+  }
 }
@@ -10,6 +10,7 @@ package io.harness.pms.sdk;
 import static io.harness.rule.OwnerRule.BRIJESH;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 
@@ -17,9 +18,15 @@ import io.harness.ModuleType;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.contracts.plan.Dependency;
 import io.harness.pms.contracts.plan.PlanCreationServiceGrpc;
+import io.harness.pms.plan.creation.PlanCreatorServiceInfo;
+import io.harness.pms.yaml.YamlUtils;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -54,4 +61,33 @@ public class PmsSdkHelperTest {
     doReturn(true).when(planCreatorServices).containsKey(any());
     assertEquals(pmsSdkHelper.getServices().size(), 1);
   }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testGetSupportedDependencies() throws IOException {
+    String yaml = "pipeline:\n"
+        + "  identifier: p1\n"
+        + "  stages:\n"
+        + "    - stage:\n"
+        + "        identifier: s1\n"
+        + "        type: Deployment\n";
+    Dependency dependencyMetadata = Dependency.newBuilder().build();
+    Dependencies dependencies = Dependencies.newBuilder()
+                                    .setYaml(yaml)
+                                    .putDependencies("pipelineUuid", "pipeline")
+                                    .putDependencies("stagesUuid", "pipeline/stages")
+                                    .putDependencyMetadata("pipelineUuid", dependencyMetadata)
+                                    .putDependencyMetadata("stagesUuid", dependencyMetadata)
+                                    .build();
+    PlanCreatorServiceInfo serviceInfo =
+        new PlanCreatorServiceInfo(ImmutableMap.of("pipeline", Collections.singleton("__any__")), null);
+
+    Dependencies supportedDependencies =
+        pmsSdkHelper.getSupportedDependencies(serviceInfo, YamlUtils.readTree(yaml), dependencies);
+
+    assertThat(supportedDependencies.getYaml()).isEqualTo(yaml);
+    assertThat(supportedDependencies.getDependenciesMap()).containsOnlyKeys("pipelineUuid");
+    assertThat(supportedDependencies.getDependencyMetadataMap()).containsOnlyKeys("pipelineUuid");
+  }
 }
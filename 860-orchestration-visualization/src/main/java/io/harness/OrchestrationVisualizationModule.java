@@ -15,6 +15,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.events.PmsRedissonClientFactory;
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.eventsframework.EventsFrameworkConstants;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.impl.noop.NoOpConsumer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
@@ -32,6 +33,7 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import org.redisson.api.RedissonClient;
 
@@ -75,6 +77,14 @@ public class OrchestrationVisualizationModule extends AbstractModule {
     }
   }
 
+  @Provides
+  @Singleton
+  @Named(ORCHESTRATION_LOG)
+  public AcknowledgementBuffer orchestrationLogAcknowledgementBuffer(@Named(ORCHESTRATION_LOG) Consumer consumer) {
+    return new AcknowledgementBuffer(
+        consumer, EventsFrameworkConstants.ORCHESTRATION_LOG_READ_BATCH_SIZE, Duration.ofSeconds(1));
+  }
+
   @Provides
   @Singleton
   @Named("OrchestrationVisualizationExecutorService")
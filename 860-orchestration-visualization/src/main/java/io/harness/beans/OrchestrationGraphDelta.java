@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cache.SpringCacheEntity;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import com.google.common.collect.ImmutableList;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One kryo serialized {@link io.harness.beans.internal.OrchestrationGraphPatch} on top of the cached graph snapshot.
+ * The deltas of an execution are replayed in lastUpdatedAt order and folded back into the snapshot from time to time.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@EqualsAndHashCode(callSuper = false)
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@Entity(value = "orchestrationGraphDelta", noClassnameStored = true)
+@Document("orchestrationGraphDelta")
+@HarnessEntity(exportable = false)
+@TypeAlias("OrchestrationGraphDelta")
+@StoreIn(DbAliases.PMS)
+public class OrchestrationGraphDelta implements PersistentEntity {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt")
+                 .unique(false)
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+
+  @Id @org.mongodb.morphia.annotations.Id String id;
+  String planExecutionId;
+  // createdAt of the last event log folded into this delta
+  long lastUpdatedAt;
+  byte[] patch;
+  @Builder.Default
+  @FdTtlIndex
+  Date validUntil = Date.from(OffsetDateTime.now().plus(SpringCacheEntity.TTL).toInstant());
+}
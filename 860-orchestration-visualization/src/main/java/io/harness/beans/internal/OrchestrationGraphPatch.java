@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans.internal;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.pms.contracts.execution.Status;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The part of an {@link io.harness.beans.OrchestrationGraph} changed by one round of event processing: the new state
+ * of the touched vertices and edge lists, the removed vertices and the graph level fields.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphPatch {
+  Map<String, GraphVertex> vertices;
+  Map<String, EdgeListInternal> edges;
+  List<String> removedIds;
+
+  List<String> rootNodeIds;
+  Status status;
+  Long endTs;
+}
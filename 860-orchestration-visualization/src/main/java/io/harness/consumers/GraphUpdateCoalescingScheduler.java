@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.consumers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.eventsframework.EventsFrameworkConstants.ORCHESTRATION_LOG;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.service.GraphGenerationService;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps at most one running and one pending graph update per plan execution. Message batches that arrive while an
+ * update is running are merged into the pending one, which runs once the current update finishes and acks all of
+ * them together, instead of queueing one more update that would only contend on the graph lock.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+@Slf4j
+public class GraphUpdateCoalescingScheduler {
+  public static final String GRAPH_UPDATE_COALESCE_RATIO_METRIC = "graph_update_coalesce_ratio";
+
+  @Inject private GraphGenerationService graphGenerationService;
+  @Inject @Named("OrchestrationVisualizationExecutorService") private ExecutorService executorService;
+  @Inject @Named(ORCHESTRATION_LOG) private AcknowledgementBuffer acknowledgementBuffer;
+  @Inject(optional = true) @Nullable private MetricService metricService;
+
+  private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+  // Only touched inside the compute functions of the slots map, which serialize the access per plan execution
+  private static class Slot {
+    private List<String> pendingMessageIds = new ArrayList<>();
+    private int pendingBatches;
+    private long pendingSince;
+  }
+
+  @Value
+  private static class PendingUpdate {
+    List<String> messageIds;
+    int batches;
+    long pendingSince;
+  }
+
+  public void schedule(String planExecutionId, List<String> messageIds) {
+    PendingUpdate[] update = new PendingUpdate[1];
+    slots.compute(planExecutionId, (key, slot) -> {
+      if (slot == null) {
+        // Nothing is running for this plan execution, the update can start right away
+        update[0] = new PendingUpdate(new ArrayList<>(messageIds), 1, System.currentTimeMillis());
+        return new Slot();
+      }
+      if (slot.pendingBatches == 0) {
+        slot.pendingSince = System.currentTimeMillis();
+      }
+      slot.pendingMessageIds.addAll(messageIds);
+      slot.pendingBatches++;
+      return slot;
+    });
+    if (update[0] != null) {
+      submit(planExecutionId, update[0]);
+    }
+  }
+
+  private void onCompleted(String planExecutionId) {
+    PendingUpdate[] update = new PendingUpdate[1];
+    slots.computeIfPresent(planExecutionId, (key, slot) -> {
+      if (slot.pendingBatches == 0) {
+        return null;
+      }
+      update[0] = new PendingUpdate(slot.pendingMessageIds, slot.pendingBatches, slot.pendingSince);
+      return new Slot();
+    });
+    if (update[0] != null) {
+      submit(planExecutionId, update[0]);
+    }
+  }
+
+  private void submit(String planExecutionId, PendingUpdate update) {
+    recordCoalesceRatio(update.getBatches());
+    GraphUpdateDispatcher dispatcher = GraphUpdateDispatcher.builder()
+                                           .planExecutionId(planExecutionId)
+                                           .startTs(update.getPendingSince())
+                                           .graphGenerationService(graphGenerationService)
+                                           .messageIds(update.getMessageIds())
+                                           .acknowledgementBuffer(acknowledgementBuffer)
+                                           .build();
+    try {
+      executorService.submit(() -> {
+        try {
+          dispatcher.run();
+        } finally {
+          onCompleted(planExecutionId);
+        }
+      });
+    } catch (RuntimeException exception) {
+      // The messages stay unacked and are delivered again, drop the slot so that they are not blocked behind it
+      log.error("Failed to submit graph update for planExecutionId {}", planExecutionId, exception);
+      slots.remove(planExecutionId);
+    }
+  }
+
+  private void recordCoalesceRatio(int batches) {
+    if (metricService == null) {
+      return;
+    }
+    try {
+      metricService.recordMetric(GRAPH_UPDATE_COALESCE_RATIO_METRIC, batches);
+    } catch (Exception ex) {
+      log.warn("Error while recording graph update coalesce ratio", ex);
+    }
+  }
+}
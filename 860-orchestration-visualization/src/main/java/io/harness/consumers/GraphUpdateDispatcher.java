@@ -1,6 +1,6 @@
 package io.harness.consumers;
 
-import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.logging.AutoLogContext;
 import io.harness.service.GraphGenerationService;
 
@@ -18,16 +18,16 @@ public class GraphUpdateDispatcher implements Runnable {
   private final GraphGenerationService graphGenerationService;
   private final long startTs;
   private final List<String> messageIds;
-  private final Consumer consumer;
+  private final AcknowledgementBuffer acknowledgementBuffer;
 
   @Builder
   public GraphUpdateDispatcher(String planExecutionId, GraphGenerationService graphGenerationService, long startTs,
-      List<String> messageIds, Consumer consumer) {
+      List<String> messageIds, AcknowledgementBuffer acknowledgementBuffer) {
     this.planExecutionId = planExecutionId;
     this.graphGenerationService = graphGenerationService;
     this.startTs = startTs;
     this.messageIds = messageIds;
-    this.consumer = consumer;
+    this.acknowledgementBuffer = acknowledgementBuffer;
   }
 
   @Override
@@ -38,8 +38,8 @@ public class GraphUpdateDispatcher implements Runnable {
       checkAndLogSchedulingDelays(planExecutionId, startTs);
       boolean shouldAck = graphGenerationService.updateGraph(planExecutionId);
       if (shouldAck) {
-        messageIds.forEach(consumer::acknowledge);
-        log.info("Successfully acked the messageIds: {}", messageIds);
+        acknowledgementBuffer.acknowledge(messageIds);
+        log.info("Queued the ack of the messageIds: {}", messageIds);
         return;
       }
       log.info("Graph update failed not acking: {}", messageIds);
@@ -16,13 +16,13 @@ import static io.harness.threading.Morpheus.sleep;
 import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.pms.contracts.visualisation.log.OrchestrationLogEvent;
 import io.harness.pms.events.base.PmsRedisConsumer;
 import io.harness.queue.QueueController;
-import io.harness.service.GraphGenerationService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -34,7 +34,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
@@ -46,19 +45,19 @@ public class GraphUpdateRedisConsumer implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 30;
 
   Consumer eventConsumer;
-  GraphGenerationService graphGenerationService;
   QueueController queueController;
-  ExecutorService executorService;
+  GraphUpdateCoalescingScheduler graphUpdateScheduler;
+  AcknowledgementBuffer acknowledgementBuffer;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
 
   @Inject
-  public GraphUpdateRedisConsumer(@Named(ORCHESTRATION_LOG) Consumer redisConsumer,
-      GraphGenerationService graphGenerationService, QueueController queueController,
-      @Named("OrchestrationVisualizationExecutorService") ExecutorService executorService) {
+  public GraphUpdateRedisConsumer(@Named(ORCHESTRATION_LOG) Consumer redisConsumer, QueueController queueController,
+      GraphUpdateCoalescingScheduler graphUpdateScheduler,
+      @Named(ORCHESTRATION_LOG) AcknowledgementBuffer acknowledgementBuffer) {
     this.eventConsumer = redisConsumer;
-    this.graphGenerationService = graphGenerationService;
     this.queueController = queueController;
-    this.executorService = executorService;
+    this.graphUpdateScheduler = graphUpdateScheduler;
+    this.acknowledgementBuffer = acknowledgementBuffer;
   }
 
   @Override
@@ -100,13 +99,7 @@ public class GraphUpdateRedisConsumer implements PmsRedisConsumer {
     List<Message> messages = eventConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
     Map<String, List<String>> planExIdToMessageMap = mapPlanExecutionToMessages(messages);
     for (Map.Entry<String, List<String>> entry : planExIdToMessageMap.entrySet()) {
-      executorService.submit(GraphUpdateDispatcher.builder()
-                                 .planExecutionId(entry.getKey())
-                                 .startTs(System.currentTimeMillis())
-                                 .graphGenerationService(graphGenerationService)
-                                 .messageIds(entry.getValue())
-                                 .consumer(eventConsumer)
-                                 .build());
+      graphUpdateScheduler.schedule(entry.getKey(), entry.getValue());
     }
   }
 
@@ -141,5 +134,7 @@ public class GraphUpdateRedisConsumer implements PmsRedisConsumer {
   @Override
   public void shutDown() {
     shouldStop.set(true);
+    // Updates that are still running ack right away from now on
+    acknowledgementBuffer.close();
   }
 }
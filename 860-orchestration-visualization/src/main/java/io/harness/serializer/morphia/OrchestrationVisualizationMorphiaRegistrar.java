@@ -8,6 +8,7 @@
 package io.harness.serializer.morphia;
 
 import io.harness.beans.OrchestrationEventLog;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.morphia.MorphiaRegistrarHelperPut;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
@@ -18,6 +19,7 @@ public class OrchestrationVisualizationMorphiaRegistrar implements MorphiaRegist
   @Override
   public void registerClasses(Set<Class> set) {
     set.add(OrchestrationEventLog.class);
+    set.add(OrchestrationGraphDelta.class);
     set.add(PipelineExecutionSummaryEntity.class);
   }
 
@@ -15,7 +15,9 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
@@ -34,6 +36,7 @@ import io.harness.execution.PlanExecution;
 import io.harness.generator.OrchestrationAdjacencyListGenerator;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.plan.NodeType;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.execution.utils.StatusUtils;
@@ -47,11 +50,13 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.query.Update;
 
@@ -61,6 +66,9 @@ import org.springframework.data.mongodb.core.query.Update;
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   private static final long THRESHOLD_LOG = 50;
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  public static final String GRAPH_LOCK_WAIT_TIME_METRIC = "graph_update_lock_wait_time";
+  // Number of deltas on top of a snapshot after which the graph is written back as a whole
+  private static final int DELTA_COMPACTION_THRESHOLD = 50;
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
@@ -73,11 +81,15 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private StepDetailsUpdateEventHandler stepDetailsUpdateEventHandler;
   @Inject private PmsExecutionSummaryService pmsExecutionSummaryService;
   @Inject private PersistentLocker persistentLocker;
+  @Inject private OrchestrationGraphDeltaStore orchestrationGraphDeltaStore;
+  @Inject(optional = true) @Nullable private MetricService metricService;
 
   @Override
   public boolean updateGraph(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
+    long lockStartTs = System.currentTimeMillis();
     try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockName, Duration.ofSeconds(10))) {
+      recordLockWaitTime(lockStartTs);
       if (lock == null) {
         log.debug(String.format(
             "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
@@ -95,8 +107,10 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Override
   public boolean updateGraphWithWaitLock(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
+    long lockStartTs = System.currentTimeMillis();
     try (AcquiredLock<?> lock =
              persistentLocker.waitToAcquireLock(lockName, Duration.ofSeconds(10), Duration.ofSeconds(30))) {
+      recordLockWaitTime(lockStartTs);
       if (lock == null) {
         log.debug(String.format(
             "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
@@ -111,11 +125,23 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     }
   }
 
+  private void recordLockWaitTime(long lockStartTs) {
+    if (metricService == null) {
+      return;
+    }
+    try {
+      metricService.recordMetric(GRAPH_LOCK_WAIT_TIME_METRIC, System.currentTimeMillis() - lockStartTs);
+    } catch (Exception ex) {
+      log.warn("Error while recording graph lock wait time", ex);
+    }
+  }
+
   // This must always be called after acquiring the lock
   private boolean updateGraphUnderLock(String planExecutionId) {
     long startTs = System.currentTimeMillis();
-    Long lastUpdatedAt = mongoStore.getEntityUpdatedAt(
-        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    Long lastUpdatedAt = orchestrationGraphDeltaStore.obtainLastUpdatedAt(planExecutionId,
+        mongoStore.getEntityUpdatedAt(
+            OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null));
     if (lastUpdatedAt == null) {
       return true;
     }
@@ -126,11 +152,16 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       return true;
     }
 
-    OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
     if (orchestrationGraph == null) {
       log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
       return true;
     }
+    List<OrchestrationGraphDelta> deltas =
+        orchestrationGraphDeltaStore.fetchDeltas(planExecutionId, orchestrationGraph.getLastUpdatedAt());
+    orchestrationGraph = orchestrationGraphDeltaStore.applyDeltas(orchestrationGraph, deltas);
+    OrchestrationAdjacencyListInternal initialAdjacencyList = orchestrationGraph.getAdjacencyList();
 
     if (unprocessedEventLogs.size() > THRESHOLD_LOG) {
       log.warn("[PMS_GRAPH] Found [{}] unprocessed event logs", unprocessedEventLogs.size());
@@ -138,8 +169,10 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
     Update executionSummaryUpdate = new Update();
     Set<String> processedNodeExecutionIds = new HashSet<>();
+    Set<String> dirtyIds = new HashSet<>();
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
+      collectDirtyIds(orchestrationGraph, nodeExecutionId, dirtyIds);
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
       switch (orchestrationEventType) {
         case PLAN_EXECUTION_STATUS_UPDATE:
@@ -173,21 +206,65 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       }
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    saveGraphUpdate(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), initialAdjacencyList, deltas.size(),
+        dirtyIds, lastUpdatedAt);
     pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     log.info("[PMS_GRAPH] Processing of [{}] orchestration event logs completed in [{}ms]", unprocessedEventLogs.size(),
         System.currentTimeMillis() - startTs);
     return true;
   }
 
+  // Marks the vertex of the event and the vertices whose edges can change with it, taken both before and after
+  // the event is applied, so that added and removed vertices update their parent and previous vertices too
+  private void collectDirtyIds(OrchestrationGraph orchestrationGraph, String nodeExecutionId, Set<String> dirtyIds) {
+    if (isEmpty(nodeExecutionId)) {
+      return;
+    }
+    dirtyIds.add(nodeExecutionId);
+    EdgeListInternal edgeList = orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(nodeExecutionId);
+    if (edgeList != null) {
+      if (edgeList.getParentId() != null) {
+        dirtyIds.add(edgeList.getParentId());
+      }
+      if (edgeList.getPrevIds() != null) {
+        dirtyIds.addAll(edgeList.getPrevIds());
+      }
+    }
+  }
+
+  private void saveGraphUpdate(OrchestrationGraph orchestrationGraph,
+      OrchestrationAdjacencyListInternal initialAdjacencyList, int deltaCount, Set<String> dirtyIds,
+      long lastUpdatedAt) {
+    // A handler that regenerated the graph from scratch or a finished execution leaves nothing to diff against
+    if (orchestrationGraph.getAdjacencyList() != initialAdjacencyList || deltaCount + 1 >= DELTA_COMPACTION_THRESHOLD
+        || StatusUtils.isFinalStatus(orchestrationGraph.getStatus())) {
+      cachePartialOrchestrationGraph(orchestrationGraph, lastUpdatedAt);
+      orchestrationGraphDeltaStore.deleteDeltas(orchestrationGraph.getPlanExecutionId(), lastUpdatedAt);
+      return;
+    }
+
+    for (String id : new ArrayList<>(dirtyIds)) {
+      collectDirtyIds(orchestrationGraph, id, dirtyIds);
+    }
+    orchestrationGraphDeltaStore.append(orchestrationGraph, dirtyIds, lastUpdatedAt);
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    return orchestrationGraphDeltaStore.applyDeltas(orchestrationGraph,
+        orchestrationGraphDeltaStore.fetchDeltas(planExecutionId, orchestrationGraph.getLastUpdatedAt()));
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    orchestrationGraphDeltaStore.deleteDeltas(
+        orchestrationGraph.getPlanExecutionId(), orchestrationGraph.getLastUpdatedAt());
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
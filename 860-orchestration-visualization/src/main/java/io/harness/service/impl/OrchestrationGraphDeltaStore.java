@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDelta.OrchestrationGraphDeltaKeys;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.beans.internal.OrchestrationGraphPatch;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Append log of {@link OrchestrationGraphPatch}es for the cached orchestration graphs. A graph is read as its snapshot
+ * from {@link io.harness.cache.SpringMongoStore} with the deltas written after it replayed on top, so an update only
+ * has to store the vertices it touched instead of the whole graph.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class OrchestrationGraphDeltaStore {
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private KryoSerializer kryoSerializer;
+
+  public List<OrchestrationGraphDelta> fetchDeltas(String planExecutionId, long snapshotUpdatedAt) {
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .gt(snapshotUpdatedAt))
+                      .with(Sort.by(Sort.Order.asc(OrchestrationGraphDeltaKeys.lastUpdatedAt)));
+    return mongoTemplate.find(query, OrchestrationGraphDelta.class);
+  }
+
+  /**
+   * Returns the createdAt of the last event log stored in a delta, or the given snapshot value if no delta is newer.
+   */
+  public Long obtainLastUpdatedAt(String planExecutionId, Long snapshotUpdatedAt) {
+    if (snapshotUpdatedAt == null) {
+      return null;
+    }
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .gt(snapshotUpdatedAt))
+                      .with(Sort.by(Sort.Order.desc(OrchestrationGraphDeltaKeys.lastUpdatedAt)));
+    query.fields().include(OrchestrationGraphDeltaKeys.lastUpdatedAt);
+    OrchestrationGraphDelta latest = mongoTemplate.findOne(query, OrchestrationGraphDelta.class);
+    return latest == null ? snapshotUpdatedAt : latest.getLastUpdatedAt();
+  }
+
+  public OrchestrationGraph applyDeltas(OrchestrationGraph snapshot, List<OrchestrationGraphDelta> deltas) {
+    OrchestrationGraph orchestrationGraph = snapshot;
+    for (OrchestrationGraphDelta delta : deltas) {
+      OrchestrationGraphPatch patch = (OrchestrationGraphPatch) kryoSerializer.asInflatedObject(delta.getPatch());
+      orchestrationGraph = applyPatch(orchestrationGraph, patch).withLastUpdatedAt(delta.getLastUpdatedAt());
+    }
+    return orchestrationGraph;
+  }
+
+  public void append(OrchestrationGraph orchestrationGraph, Set<String> dirtyIds, long lastUpdatedAt) {
+    OrchestrationGraphPatch patch = createPatch(orchestrationGraph, dirtyIds);
+    mongoTemplate.insert(OrchestrationGraphDelta.builder()
+                             .planExecutionId(orchestrationGraph.getPlanExecutionId())
+                             .lastUpdatedAt(lastUpdatedAt)
+                             .patch(kryoSerializer.asDeflatedBytes(patch))
+                             .build());
+  }
+
+  /**
+   * Drops the deltas already contained in a snapshot taken at the given time.
+   */
+  public void deleteDeltas(String planExecutionId, long snapshotUpdatedAt) {
+    mongoTemplate.remove(new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                       .is(planExecutionId)
+                                       .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                       .lte(snapshotUpdatedAt)),
+        OrchestrationGraphDelta.class);
+  }
+
+  OrchestrationGraphPatch createPatch(OrchestrationGraph orchestrationGraph, Set<String> dirtyIds) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    Map<String, GraphVertex> vertices = new HashMap<>();
+    Map<String, EdgeListInternal> edges = new HashMap<>();
+    List<String> removedIds = new ArrayList<>();
+    for (String id : dirtyIds) {
+      GraphVertex graphVertex = adjacencyList.getGraphVertexMap().get(id);
+      EdgeListInternal edgeList = adjacencyList.getAdjacencyMap().get(id);
+      if (graphVertex == null && edgeList == null) {
+        removedIds.add(id);
+        continue;
+      }
+      if (graphVertex != null) {
+        vertices.put(id, graphVertex);
+      }
+      if (edgeList != null) {
+        edges.put(id, edgeList);
+      }
+    }
+    return OrchestrationGraphPatch.builder()
+        .vertices(vertices)
+        .edges(edges)
+        .removedIds(removedIds)
+        .rootNodeIds(new ArrayList<>(orchestrationGraph.getRootNodeIds()))
+        .status(orchestrationGraph.getStatus())
+        .endTs(orchestrationGraph.getEndTs())
+        .build();
+  }
+
+  OrchestrationGraph applyPatch(OrchestrationGraph orchestrationGraph, OrchestrationGraphPatch patch) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    adjacencyList.getGraphVertexMap().putAll(patch.getVertices());
+    adjacencyList.getAdjacencyMap().putAll(patch.getEdges());
+    for (String id : patch.getRemovedIds()) {
+      adjacencyList.getGraphVertexMap().remove(id);
+      adjacencyList.getAdjacencyMap().remove(id);
+    }
+    if (isNotEmpty(patch.getRootNodeIds()) && !patch.getRootNodeIds().equals(orchestrationGraph.getRootNodeIds())) {
+      orchestrationGraph.getRootNodeIds().clear();
+      orchestrationGraph.getRootNodeIds().addAll(patch.getRootNodeIds());
+    }
+    return orchestrationGraph.withStatus(patch.getStatus()).withEndTs(patch.getEndTs());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.consumers;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.PRASHANT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
+import io.harness.rule.Owner;
+import io.harness.service.GraphGenerationService;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class GraphUpdateCoalescingSchedulerTest extends CategoryTest {
+  @Mock private GraphGenerationService graphGenerationService;
+  @Mock private ExecutorService executorService;
+  @Mock private AcknowledgementBuffer acknowledgementBuffer;
+  @InjectMocks private GraphUpdateCoalescingScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldCoalesceBatchesWhileUpdateIsRunning() {
+    String planExecutionId = generateUuid();
+    when(graphGenerationService.updateGraph(planExecutionId)).thenReturn(true);
+
+    scheduler.schedule(planExecutionId, ImmutableList.of("m1"));
+    scheduler.schedule(planExecutionId, ImmutableList.of("m2"));
+    scheduler.schedule(planExecutionId, ImmutableList.of("m3", "m4"));
+
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executorService, times(1)).submit(runnableCaptor.capture());
+
+    // Finishing the running update starts a single one for everything that came in meanwhile
+    runnableCaptor.getValue().run();
+    verify(executorService, times(2)).submit(runnableCaptor.capture());
+    runnableCaptor.getValue().run();
+    verify(executorService, times(2)).submit(any(Runnable.class));
+
+    ArgumentCaptor<List> ackCaptor = ArgumentCaptor.forClass(List.class);
+    verify(acknowledgementBuffer, times(2)).acknowledge(ackCaptor.capture());
+    assertThat(ackCaptor.getAllValues().get(0)).containsExactly("m1");
+    assertThat(ackCaptor.getAllValues().get(1)).containsExactly("m2", "m3", "m4");
+    verify(graphGenerationService, times(2)).updateGraph(planExecutionId);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldNotCoalesceAcrossPlanExecutions() {
+    scheduler.schedule(generateUuid(), ImmutableList.of("m1"));
+    scheduler.schedule(generateUuid(), ImmutableList.of("m2"));
+
+    verify(executorService, times(2)).submit(any(Runnable.class));
+  }
+}
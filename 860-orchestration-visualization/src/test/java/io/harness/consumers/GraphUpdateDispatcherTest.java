@@ -11,7 +11,7 @@ import static org.mockito.Mockito.when;
 
 import io.harness.OrchestrationVisualizationTestBase;
 import io.harness.category.element.UnitTests;
-import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.rule.Owner;
 import io.harness.service.GraphGenerationService;
 
@@ -23,7 +23,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 public class GraphUpdateDispatcherTest extends OrchestrationVisualizationTestBase {
-  @Mock private Consumer consumer;
+  @Mock private AcknowledgementBuffer acknowledgementBuffer;
   @Mock private GraphGenerationService graphGenerationService;
 
   @Test
@@ -39,14 +39,14 @@ public class GraphUpdateDispatcherTest extends OrchestrationVisualizationTestBas
                                            .planExecutionId(planExecutionId)
                                            .messageIds(messageIds)
                                            .startTs(System.currentTimeMillis())
-                                           .consumer(consumer)
+                                           .acknowledgementBuffer(acknowledgementBuffer)
                                            .graphGenerationService(graphGenerationService)
                                            .build();
     when(graphGenerationService.updateGraph(planExecutionId)).thenReturn(true);
     dispatcher.run();
-    ArgumentCaptor<String> stringArgumentCaptor = ArgumentCaptor.forClass(String.class);
-    verify(consumer, times(3)).acknowledge(stringArgumentCaptor.capture());
-    assertThat(stringArgumentCaptor.getAllValues()).containsExactlyInAnyOrder(mid1, mid2, mid3);
+    ArgumentCaptor<List> listArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(acknowledgementBuffer, times(1)).acknowledge(listArgumentCaptor.capture());
+    assertThat(listArgumentCaptor.getValue()).containsExactlyInAnyOrder(mid1, mid2, mid3);
   }
 
   @Test
@@ -62,11 +62,11 @@ public class GraphUpdateDispatcherTest extends OrchestrationVisualizationTestBas
                                            .planExecutionId(planExecutionId)
                                            .messageIds(messageIds)
                                            .startTs(System.currentTimeMillis())
-                                           .consumer(consumer)
+                                           .acknowledgementBuffer(acknowledgementBuffer)
                                            .graphGenerationService(graphGenerationService)
                                            .build();
     when(graphGenerationService.updateGraph(planExecutionId)).thenReturn(false);
     dispatcher.run();
-    verifyZeroInteractions(consumer);
+    verifyZeroInteractions(acknowledgementBuffer);
   }
 }
\ No newline at end of file
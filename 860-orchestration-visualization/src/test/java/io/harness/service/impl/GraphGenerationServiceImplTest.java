@@ -9,6 +9,7 @@ package io.harness.service.impl;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.ALEXEI;
+import static io.harness.rule.OwnerRule.PRASHANT;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
@@ -42,6 +43,7 @@ import io.harness.service.GraphGenerationService;
 import io.harness.testlib.RealMongo;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import java.time.Duration;
@@ -66,6 +68,7 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Inject @InjectMocks private NodeExecutionService nodeExecutionService;
   @Inject @InjectMocks private SpringMongoStore mongoStore;
   @Inject private GraphVertexConverter graphVertexConverter;
+  @Inject private OrchestrationGraphDeltaStore orchestrationGraphDeltaStore;
   @InjectMocks @Inject private GraphGenerationService graphGenerationService;
   @Mock private OrchestrationEventEmitter eventEmitter;
 
@@ -384,6 +387,43 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
         .isEmpty();
   }
 
+  @Test
+  @RealMongo
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldMergeDeltasIntoCachedOrchestrationGraph() {
+    GraphVertex dummyStart = GraphVertex.builder()
+                                 .uuid(generateUuid())
+                                 .planNodeId("node1_plan")
+                                 .name("dummyStart")
+                                 .status(Status.RUNNING)
+                                 .build();
+    GraphVertex dummyFinish =
+        GraphVertex.builder().uuid(generateUuid()).planNodeId("node2_plan").name("dummyFinish").build();
+
+    OrchestrationGraph orchestrationGraph =
+        constructOrchestrationGraphForPartialTest(Lists.newArrayList(dummyStart, dummyFinish));
+    graphGenerationService.cacheOrchestrationGraph(orchestrationGraph);
+
+    orchestrationGraph.getAdjacencyList().getGraphVertexMap().put(
+        dummyStart.getUuid(), dummyStart.toBuilder().status(Status.SUCCEEDED).build());
+    orchestrationGraph.getAdjacencyList().getGraphVertexMap().remove(dummyFinish.getUuid());
+    orchestrationGraph.getAdjacencyList().getAdjacencyMap().remove(dummyFinish.getUuid());
+    orchestrationGraphDeltaStore.append(orchestrationGraph,
+        ImmutableSet.of(dummyStart.getUuid(), dummyFinish.getUuid()), orchestrationGraph.getLastUpdatedAt() + 1);
+
+    OrchestrationGraph merged = graphGenerationService.getCachedOrchestrationGraph(orchestrationGraph.getCacheKey());
+    assertThat(merged.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(dummyStart.getUuid());
+    assertThat(merged.getAdjacencyList().getGraphVertexMap().get(dummyStart.getUuid()).getStatus())
+        .isEqualTo(Status.SUCCEEDED);
+    assertThat(merged.getAdjacencyList().getAdjacencyMap()).doesNotContainKey(dummyFinish.getUuid());
+    assertThat(merged.getLastUpdatedAt()).isEqualTo(orchestrationGraph.getLastUpdatedAt() + 1);
+
+    // Writing the whole graph again folds the deltas into the snapshot
+    graphGenerationService.cacheOrchestrationGraph(merged);
+    assertThat(orchestrationGraphDeltaStore.fetchDeltas(orchestrationGraph.getCacheKey(), 0)).isEmpty();
+  }
+
   private OrchestrationGraph constructOrchestrationGraphForPartialTest(List<GraphVertex> graphVertices) {
     PlanExecution planExecution = planExecutionService.save(PlanExecution.builder().build());
 
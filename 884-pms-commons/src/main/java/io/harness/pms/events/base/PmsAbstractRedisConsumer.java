@@ -15,6 +15,7 @@ import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
@@ -34,7 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListener> implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
   private static final String CACHE_KEY = "%s_%s";
+  private static final int ACK_BATCH_SIZE = 100;
+  private static final Duration ACK_FLUSH_INTERVAL = Duration.ofSeconds(1);
   private final Consumer redisConsumer;
+  private final AcknowledgementBuffer acknowledgementBuffer;
   private final T messageListener;
   private final QueueController queueController;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
@@ -43,6 +47,7 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
   public PmsAbstractRedisConsumer(
       Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache, QueueController queueController) {
     this.redisConsumer = redisConsumer;
+    this.acknowledgementBuffer = new AcknowledgementBuffer(redisConsumer, ACK_BATCH_SIZE, ACK_FLUSH_INTERVAL);
     this.messageListener = messageListener;
     this.eventsCache = eventsCache;
     this.queueController = queueController;
@@ -70,6 +75,8 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
       } while (!Thread.currentThread().isInterrupted() && !shouldStop.get());
     } catch (Exception ex) {
       log.error("Consumer {} unexpectedly stopped", this.getClass().getSimpleName(), ex);
+    } finally {
+      acknowledgementBuffer.close();
     }
   }
 
@@ -92,7 +99,7 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
       messageId = message.getId();
       messageProcessed = handleMessage(message);
       if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
+        acknowledgementBuffer.acknowledge(messageId);
       }
     }
   }
@@ -18,6 +18,7 @@ import io.harness.pms.yaml.YamlUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +42,12 @@ public class YamlConfig {
     fqnToValueMap = FQNMapGenerator.generateFQNMap(yamlMap);
   }
 
+  private YamlConfig(String yaml, JsonNode yamlMap, Map<FQN, Object> fqnToValueMap) {
+    this.yaml = yaml;
+    this.yamlMap = yamlMap;
+    this.fqnToValueMap = fqnToValueMap;
+  }
+
   public YamlConfig(Map<FQN, Object> fqnToValueMap, JsonNode originalYaml) {
     this.fqnToValueMap = fqnToValueMap;
     yamlMap = YamlMapGenerator.generateYamlMap(fqnToValueMap, originalYaml);
@@ -48,4 +55,15 @@ public class YamlConfig {
       yaml = YamlUtils.write(yamlMap).replace("---\n", "");
     }
   }
+
+  /**
+   * Copies the tree and the FQN map, including the json nodes held as values, so the copy can be changed without
+   * affecting this config. The FQN keys are shared, they are not changed once the map is generated.
+   */
+  public YamlConfig deepCopy() {
+    Map<FQN, Object> fqnToValueMapCopy = new LinkedHashMap<>();
+    fqnToValueMap.forEach(
+        (fqn, value) -> fqnToValueMapCopy.put(fqn, value instanceof JsonNode ? ((JsonNode) value).deepCopy() : value));
+    return new YamlConfig(yaml, yamlMap == null ? null : yamlMap.deepCopy(), fqnToValueMapCopy);
+  }
 }
@@ -23,10 +23,9 @@ import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Set;
 import lombok.experimental.UtilityClass;
 
 @OwnedBy(PIPELINE)
@@ -34,9 +33,7 @@ import lombok.experimental.UtilityClass;
 public class FQNMapGenerator {
   public Map<FQN, Object> generateFQNMap(JsonNode yamlMap) {
     HashSet<String> expressions = new HashSet<>();
-    Set<String> fieldNames = new LinkedHashSet<>();
-    yamlMap.fieldNames().forEachRemaining(fieldNames::add);
-    String topKey = fieldNames.iterator().next();
+    String topKey = yamlMap.fieldNames().next();
 
     FQNNode startNode = FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(topKey).build();
     FQN currentFQN = FQN.builder().fqnList(Collections.singletonList(startNode)).build();
@@ -48,10 +45,10 @@ public class FQNMapGenerator {
   }
 
   public void generateFQNMap(JsonNode map, FQN baseFQN, Map<FQN, Object> res, HashSet<String> expressions) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    map.fieldNames().forEachRemaining(fieldNames::add);
-    for (String key : fieldNames) {
-      JsonNode value = map.get(key);
+    for (Iterator<Map.Entry<String, JsonNode>> it = map.fields(); it.hasNext();) {
+      Map.Entry<String, JsonNode> field = it.next();
+      String key = field.getKey();
+      JsonNode value = field.getValue();
       FQN currFQN = FQN.duplicateAndAddNode(baseFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
       if (value.getNodeType() == JsonNodeType.ARRAY) {
         if (value.size() == 0) {
@@ -109,10 +106,9 @@ public class FQNMapGenerator {
         ArrayNode listOfMaps = (ArrayNode) element.get(YAMLFieldNameConstants.PARALLEL);
         generateFQNMapFromList(listOfMaps, currFQN, res, expressions);
       } else {
-        Set<String> fieldNames = new LinkedHashSet<>();
-        element.fieldNames().forEachRemaining(fieldNames::add);
-        String topKey = fieldNames.iterator().next();
-        JsonNode innerMap = element.get(topKey);
+        Map.Entry<String, JsonNode> topField = element.fields().next();
+        String topKey = topField.getKey();
+        JsonNode innerMap = topField.getValue();
         String identifier = innerMap.get(YAMLFieldNameConstants.IDENTIFIER).asText();
         FQN currFQN = FQN.duplicateAndAddNode(baseFQN,
             FQNNode.builder()
@@ -144,12 +140,11 @@ public class FQNMapGenerator {
       if (uuidKey.equals(YAMLFieldNameConstants.IDENTIFIER)) {
         generateFQNMap(element, currFQN, res, expressions);
       } else {
-        Set<String> fieldNames = new LinkedHashSet<>();
-        element.fieldNames().forEachRemaining(fieldNames::add);
-        for (String key : fieldNames) {
-          FQN finalFQN =
-              FQN.duplicateAndAddNode(currFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
-          FQNHelper.validateUniqueFqn(finalFQN, element.get(key), res, expressions);
+        for (Iterator<Map.Entry<String, JsonNode>> it = element.fields(); it.hasNext();) {
+          Map.Entry<String, JsonNode> field = it.next();
+          FQN finalFQN = FQN.duplicateAndAddNode(
+              currFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(field.getKey()).build());
+          FQNHelper.validateUniqueFqn(finalFQN, field.getValue(), res, expressions);
         }
       }
     });
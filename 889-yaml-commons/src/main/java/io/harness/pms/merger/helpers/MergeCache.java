@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.merger.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.hash.HashUtils;
+import io.harness.pms.merger.YamlConfig;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Bounded caches for {@link MergeHelper}, keyed by the hash of the yaml content. The same pipeline version is merged
+ * over and over by the input set list, the runtime input form and the execution start paths, and each of them used
+ * to parse it and walk it into an FQN map from scratch.
+ *
+ * {@link YamlConfig} is mutable, so every caller gets its own deep copy of the cached one. Copying the tree is still
+ * much cheaper than parsing the yaml and generating the FQN map again.
+ */
+@OwnedBy(PIPELINE)
+@UtilityClass
+public class MergeCache {
+  // Bounded by the estimated size of the entries in chars, a handful of large pipelines can weigh more than thousands
+  // of small ones.
+  private static final long MAX_YAML_CONFIG_CHARS = 32 * 1024 * 1024;
+  private static final long MAX_MERGE_RESULT_CHARS = 16 * 1024 * 1024;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 30;
+  // A parsed config holds every scalar of the yaml a second time in its tree, and an FQN per leaf, which is a list of
+  // nodes with their own key strings. Both are estimated, measuring them exactly would cost more than the cache saves.
+  private static final int TREE_CHARS_PER_YAML_CHAR = 2;
+  private static final int CHARS_PER_FQN_ENTRY = 256;
+
+  private final Cache<String, YamlConfig> yamlConfigs = newCache(MAX_YAML_CONFIG_CHARS, MergeCache::weigh);
+  private final Cache<String, String> mergeResults = newCache(MAX_MERGE_RESULT_CHARS, MergeCache::length);
+
+  private <T> Cache<String, T> newCache(long maximumChars, ToIntFunction<T> chars) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maximumChars)
+        .weigher((String key, T value) -> chars.applyAsInt(value))
+        .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+        .recordStats()
+        .build();
+  }
+
+  private int length(String yaml) {
+    return yaml == null ? 0 : yaml.length();
+  }
+
+  private int weigh(YamlConfig yamlConfig) {
+    long fqnEntries = yamlConfig.getFqnToValueMap() == null ? 0 : yamlConfig.getFqnToValueMap().size();
+    long chars = (1L + TREE_CHARS_PER_YAML_CHAR) * length(yamlConfig.getYaml()) + fqnEntries * CHARS_PER_FQN_ENTRY;
+    return (int) Math.min(chars, Integer.MAX_VALUE);
+  }
+
+  public YamlConfig getYamlConfig(String yaml) {
+    // Failures are not cached, they are rethrown to the caller as they are
+    return getOrCompute(yamlConfigs, HashUtils.calculateSha256(yaml), () -> new YamlConfig(yaml)).deepCopy();
+  }
+
+  public String getMergeResult(String originalYaml, String inputSetYaml, boolean appendInputSetValidator,
+      Supplier<String> merger) {
+    String key = HashUtils.calculateSha256(originalYaml) + ":" + HashUtils.calculateSha256(inputSetYaml) + ":"
+        + appendInputSetValidator;
+    return getOrCompute(mergeResults, key, merger);
+  }
+
+  private <T> T getOrCompute(Cache<String, T> cache, String key, Supplier<T> supplier) {
+    T value = cache.getIfPresent(key);
+    if (value == null) {
+      value = supplier.get();
+      if (value != null) {
+        cache.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  public CacheStats getYamlConfigStats() {
+    return yamlConfigs.stats();
+  }
+
+  public CacheStats getMergeResultStats() {
+    return mergeResults.stats();
+  }
+
+  @VisibleForTesting
+  void invalidateAll() {
+    yamlConfigs.invalidateAll();
+    mergeResults.invalidateAll();
+  }
+}
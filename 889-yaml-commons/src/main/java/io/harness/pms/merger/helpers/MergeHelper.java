@@ -42,10 +42,17 @@ public class MergeHelper {
 
   public String mergeRuntimeInputValuesIntoOriginalYaml(
       String originalYaml, String inputSetPipelineCompYaml, boolean appendInputSetValidator) {
-    YamlConfig inputSetConfig = new YamlConfig(inputSetPipelineCompYaml);
+    return MergeCache.getMergeResult(originalYaml, inputSetPipelineCompYaml, appendInputSetValidator,
+        () -> mergeRuntimeInputValuesIntoOriginalYamlInternal(
+            originalYaml, inputSetPipelineCompYaml, appendInputSetValidator));
+  }
+
+  private String mergeRuntimeInputValuesIntoOriginalYamlInternal(
+      String originalYaml, String inputSetPipelineCompYaml, boolean appendInputSetValidator) {
+    YamlConfig inputSetConfig = MergeCache.getYamlConfig(inputSetPipelineCompYaml);
     Map<FQN, Object> inputSetFQNMap = inputSetConfig.getFqnToValueMap();
 
-    YamlConfig originalYamlConfig = new YamlConfig(originalYaml);
+    YamlConfig originalYamlConfig = MergeCache.getYamlConfig(originalYaml);
 
     Map<FQN, Object> mergedYamlFQNMap = new LinkedHashMap<>(originalYamlConfig.getFqnToValueMap());
     originalYamlConfig.getFqnToValueMap().keySet().forEach(key -> {
@@ -20,14 +20,12 @@ import io.harness.pms.yaml.YamlUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,19 +41,18 @@ public class YamlMapGenerator {
    * refers to the pipeline of this input set
    */
   public JsonNode generateYamlMap(Map<FQN, Object> fqnMap, JsonNode originalYaml) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    originalYaml.fieldNames().forEachRemaining(fieldNames::add);
-    String topKey = fieldNames.iterator().next();
+    String topKey = originalYaml.fieldNames().next();
 
     FQNNode startNode = FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(topKey).build();
     FQN currentFQN = FQN.builder().fqnList(Collections.singletonList(startNode)).build();
 
+    // The walk below only ever looks up fqns under the node it is visiting, so the full map can be passed down as is
+    // instead of extracting the matching sub map at every level
     Map<String, Object> tempMap = new LinkedHashMap<>();
-    generateYamlMap(YamlSubMapExtractor.getFQNToObjectSubMap(fqnMap, currentFQN), currentFQN, originalYaml.get(topKey),
-        tempMap, topKey);
+    generateYamlMap(fqnMap, currentFQN, originalYaml.get(topKey), tempMap, topKey);
     try {
-      return YamlUtils.readTree(YamlUtils.write(tempMap).replace("---\n", "")).getNode().getCurrJsonNode();
-    } catch (IOException e) {
+      return YamlUtils.toJsonNode(tempMap);
+    } catch (IllegalArgumentException e) {
       log.error("Could not generate JsonNode from FQN Map.", e);
       throw new InvalidRequestException("Could not generate JsonNode from FQN Map: " + e.getMessage());
     }
@@ -63,11 +60,11 @@ public class YamlMapGenerator {
 
   private void generateYamlMap(
       Map<FQN, Object> fqnMap, FQN baseFQN, JsonNode originalYaml, Map<String, Object> res, String topKey) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    originalYaml.fieldNames().forEachRemaining(fieldNames::add);
     Map<String, Object> tempMap = new LinkedHashMap<>();
-    for (String key : fieldNames) {
-      JsonNode value = originalYaml.get(key);
+    for (Iterator<Map.Entry<String, JsonNode>> it = originalYaml.fields(); it.hasNext();) {
+      Map.Entry<String, JsonNode> field = it.next();
+      String key = field.getKey();
+      JsonNode value = field.getValue();
       FQN currFQN = FQN.duplicateAndAddNode(baseFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
       if (fqnMap.containsKey(currFQN)) {
         tempMap.put(key, fqnMap.get(currFQN));
@@ -75,12 +72,12 @@ public class YamlMapGenerator {
         ArrayNode arrayNode = (ArrayNode) value;
         generateYamlMapFromList(arrayNode, currFQN, fqnMap, tempMap, key);
       } else if (value.getNodeType() == JsonNodeType.OBJECT) {
-        generateYamlMap(YamlSubMapExtractor.getFQNToObjectSubMap(fqnMap, currFQN), currFQN, value, tempMap, key);
+        generateYamlMap(fqnMap, currFQN, value, tempMap, key);
       }
     }
     if (!tempMap.isEmpty()) {
       Map<String, Object> newTempMap = new LinkedHashMap<>();
-      if (fieldNames.contains(YAMLFieldNameConstants.IDENTIFIER)) {
+      if (originalYaml.has(YAMLFieldNameConstants.IDENTIFIER)) {
         newTempMap.put(YAMLFieldNameConstants.IDENTIFIER, originalYaml.get(YAMLFieldNameConstants.IDENTIFIER));
       }
       if (originalYaml.has(YAMLFieldNameConstants.TYPE)) {
@@ -126,16 +123,14 @@ public class YamlMapGenerator {
         FQN currFQN = FQN.duplicateAndAddNode(baseFQN, FQNNode.builder().nodeType(FQNNode.NodeType.PARALLEL).build());
         ArrayNode listOfMaps = (ArrayNode) element.get(YAMLFieldNameConstants.PARALLEL);
         Map<String, Object> tempMap = new LinkedHashMap<>();
-        generateYamlMapFromList(listOfMaps, currFQN, YamlSubMapExtractor.getFQNToObjectSubMap(fqnMap, currFQN), tempMap,
-            YAMLFieldNameConstants.PARALLEL);
+        generateYamlMapFromList(listOfMaps, currFQN, fqnMap, tempMap, YAMLFieldNameConstants.PARALLEL);
         if (!tempMap.isEmpty()) {
           topKeyList.add(tempMap);
         }
       } else {
-        Set<String> fieldNames = new LinkedHashSet<>();
-        element.fieldNames().forEachRemaining(fieldNames::add);
-        String topKeyOfInnerMap = fieldNames.iterator().next();
-        JsonNode innerMap = element.get(topKeyOfInnerMap);
+        Map.Entry<String, JsonNode> topField = element.fields().next();
+        String topKeyOfInnerMap = topField.getKey();
+        JsonNode innerMap = topField.getValue();
         String identifier = innerMap.get(YAMLFieldNameConstants.IDENTIFIER).asText();
         FQN currFQN = FQN.duplicateAndAddNode(baseFQN,
             FQNNode.builder()
@@ -145,8 +140,7 @@ public class YamlMapGenerator {
                 .uuidValue(identifier)
                 .build());
         Map<String, Object> tempMap = new LinkedHashMap<>();
-        generateYamlMap(
-            YamlSubMapExtractor.getFQNToObjectSubMap(fqnMap, currFQN), currFQN, innerMap, tempMap, topKeyOfInnerMap);
+        generateYamlMap(fqnMap, currFQN, innerMap, tempMap, topKeyOfInnerMap);
         if (!tempMap.isEmpty()) {
           topKeyList.add(tempMap);
         }
@@ -183,9 +177,8 @@ public class YamlMapGenerator {
         }
       } else {
         Map<String, Object> tempMap = new LinkedHashMap<>();
-        Set<String> fieldNames = new LinkedHashSet<>();
-        element.fieldNames().forEachRemaining(fieldNames::add);
-        for (String key : fieldNames) {
+        for (Iterator<String> fieldNames = element.fieldNames(); fieldNames.hasNext();) {
+          String key = fieldNames.next();
           FQN finalFQN =
               FQN.duplicateAndAddNode(currFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
           if (fqnMap.containsKey(finalFQN)) {
@@ -72,6 +72,14 @@ public class YamlUtils {
     }
   }
 
+  /**
+   * Converts the given object to a tree directly, the same as writing it with {@link #write} and reading it back with
+   * {@link #readTree} but without going through the yaml text.
+   */
+  public JsonNode toJsonNode(Object object) {
+    return mapper.valueToTree(object);
+  }
+
   public YamlField readTree(String content) throws IOException {
     JsonNode rootJsonNode = mapper.readTree(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.merger.helpers;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.pms.merger.helpers.MergeHelper.mergeRuntimeInputValuesIntoOriginalYaml;
+import static io.harness.rule.OwnerRule.NAMAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.InvalidRequestException;
+import io.harness.pms.merger.YamlConfig;
+import io.harness.pms.merger.fqn.FQN;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class MergeCacheTest extends CategoryTest {
+  private String readFile(String filename) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    try {
+      return Resources.toString(Objects.requireNonNull(classLoader.getResource(filename)), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new InvalidRequestException("Could not read resource file: " + filename);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    MergeCache.invalidateAll();
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testRepeatedMergeIsServedFromCache() {
+    String yaml = readFile("pipeline-extensive.yml");
+    String inputSetYaml = readFile("runtimeInput1.yml");
+
+    CacheStats before = MergeCache.getMergeResultStats();
+    String first = mergeRuntimeInputValuesIntoOriginalYaml(yaml, inputSetYaml, false);
+    String second = mergeRuntimeInputValuesIntoOriginalYaml(yaml, inputSetYaml, false);
+    CacheStats stats = MergeCache.getMergeResultStats().minus(before);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testYamlConfigIsServedFromCache() {
+    String yaml = readFile("pipeline-extensive.yml");
+
+    CacheStats before = MergeCache.getYamlConfigStats();
+    YamlConfig first = MergeCache.getYamlConfig(yaml);
+    YamlConfig second = MergeCache.getYamlConfig(yaml);
+    MergeCache.getYamlConfig(yaml + "\n");
+    CacheStats stats = MergeCache.getYamlConfigStats().minus(before);
+
+    assertThat(second.getFqnToValueMap()).isEqualTo(first.getFqnToValueMap());
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testCachedYamlConfigIsNotChangedByCallers() {
+    String yaml = readFile("pipeline-extensive.yml");
+
+    YamlConfig first = MergeCache.getYamlConfig(yaml);
+    assertThat(MergeCache.getYamlConfig(yaml)).isNotSameAs(first);
+    Map<FQN, Object> fqnToValueMap = new LinkedHashMap<>(first.getFqnToValueMap());
+    JsonNode yamlMap = first.getYamlMap().deepCopy();
+
+    first.getFqnToValueMap().clear();
+    ((ObjectNode) first.getYamlMap()).removeAll();
+
+    YamlConfig second = MergeCache.getYamlConfig(yaml);
+    assertThat(second.getFqnToValueMap()).isEqualTo(fqnToValueMap);
+    assertThat(second.getYamlMap()).isEqualTo(yamlMap);
+  }
+}
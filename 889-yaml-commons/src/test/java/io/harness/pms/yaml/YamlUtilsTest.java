@@ -19,11 +19,14 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.api.client.util.Charsets;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
@@ -261,4 +264,22 @@ public class YamlUtilsTest extends CategoryTest {
     YamlNode step1Node = stepsNode.asArray().get(0).getField("step").getNode();
     assertThat(YamlUtils.getStageFqnPath(step1Node)).isEqualTo("pipeline.stages.qaStage");
   }
+
+  @Test
+  @Owner(developers = PRASHANTSHARMA)
+  @Category(UnitTests.class)
+  public void testToJsonNodeMatchesYamlRoundTrip() throws IOException {
+    ClassLoader classLoader = this.getClass().getClassLoader();
+    final URL testFile = classLoader.getResource("pipeline.yaml");
+    String yamlContent = Resources.toString(testFile, Charsets.UTF_8);
+    JsonNode pipelineNode = YamlUtils.readTree(yamlContent).getNode().getCurrJsonNode();
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("pipeline", pipelineNode.get("pipeline"));
+    map.put("empty", new LinkedHashMap<>());
+    map.put("count", 3);
+
+    JsonNode expected = YamlUtils.readTree(YamlUtils.write(map).replace("---\n", "")).getNode().getCurrJsonNode();
+    assertThat(YamlUtils.toJsonNode(map)).isEqualTo(expected);
+  }
 }
@@ -23,6 +23,7 @@ public class DelegateTaskEvent {
   private String accountId;
   private String delegateTaskId;
   private boolean sync;
+  private String taskType;
 
   /**
    * Getter for property 'accountId'.
@@ -78,11 +79,30 @@ public class DelegateTaskEvent {
     this.sync = sync;
   }
 
+  /**
+   * Getter for property 'taskType'.
+   *
+   * @return Value for property 'taskType'.
+   */
+  public String getTaskType() {
+    return taskType;
+  }
+
+  /**
+   * Setter for property 'taskType'.
+   *
+   * @param taskType Value to set for property 'taskType'.
+   */
+  public void setTaskType(String taskType) {
+    this.taskType = taskType;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
         .add("delegateTaskId", delegateTaskId)
         .add("sync", sync)
+        .add("taskType", taskType)
         .add("accountId", accountId)
         .toString();
   }
@@ -91,6 +111,7 @@ public class DelegateTaskEvent {
     private String accountId;
     private String delegateTaskId;
     private boolean sync;
+    private String taskType;
 
     private DelegateTaskEventBuilder() {}
 
@@ -113,8 +134,17 @@ public class DelegateTaskEvent {
       return this;
     }
 
+    public DelegateTaskEventBuilder withTaskType(String taskType) {
+      this.taskType = taskType;
+      return this;
+    }
+
     public DelegateTaskEventBuilder but() {
-      return aDelegateTaskEvent().withAccountId(accountId).withDelegateTaskId(delegateTaskId).withSync(sync);
+      return aDelegateTaskEvent()
+          .withAccountId(accountId)
+          .withDelegateTaskId(delegateTaskId)
+          .withSync(sync)
+          .withTaskType(taskType);
     }
 
     public DelegateTaskEvent build() {
@@ -122,6 +152,7 @@ public class DelegateTaskEvent {
       delegateTaskEvent.setAccountId(accountId);
       delegateTaskEvent.setDelegateTaskId(delegateTaskId);
       delegateTaskEvent.setSync(sync);
+      delegateTaskEvent.setTaskType(taskType);
       return delegateTaskEvent;
     }
   }
@@ -7,10 +7,9 @@
 
 package software.wings.delegatetasks;
 
-import static io.harness.data.structure.EmptyPredicate.isEmpty;
-
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.expression.SecretMasker;
 
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +22,11 @@ import org.apache.commons.lang3.StringUtils;
 @TargetModule(HarnessModule._930_DELEGATE_TASKS)
 public class ActivityBasedLogSanitizer extends LogSanitizer {
   private final String activityId;
-  private final Set<String> secretLines;
+  private final SecretMasker secretLineMasker;
 
   public ActivityBasedLogSanitizer(String activityId, Set<String> secrets) {
     this.activityId = activityId;
-    secretLines = calculateSecretLines(secrets);
+    secretLineMasker = SecretMasker.compile(calculateSecretLines(secrets));
   }
 
   /**
@@ -39,10 +38,10 @@ public class ActivityBasedLogSanitizer extends LogSanitizer {
   @Override
   public String sanitizeLog(String activityId, String message) {
     if (StringUtils.equals(activityId, this.activityId)) {
-      if (isEmpty(secretLines)) {
+      if (secretLineMasker.isEmpty()) {
         return message;
       }
-      return sanitizeLogInternal(message, secretLines);
+      return sanitizeLogInternal(message, secretLineMasker);
     }
     return message;
   }
@@ -16,6 +16,9 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.AccessDeniedException;
 import io.harness.exception.UnexpectedException;
 
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nullable;
@@ -28,15 +31,52 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
   private static final String ACCOUNT_RESOURCE_TYPE = "ACCOUNT";
   private static final String PROJECT_RESOURCE_TYPE = "PROJECT";
 
-  public AbstractAccessControlClient() {}
+  private final AccessControlDecisionCache decisionCache;
+
+  public AbstractAccessControlClient() {
+    this.decisionCache = null;
+  }
+
+  protected AbstractAccessControlClient(Duration decisionCacheTTL) {
+    this.decisionCache = new AccessControlDecisionCache(decisionCacheTTL);
+  }
 
   protected abstract AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO);
 
+  protected abstract BatchAccessCheckResponseDTO checkForAccess(BatchAccessCheckRequestDTO batchAccessCheckRequestDTO);
+
   @Override
   public AccessCheckResponseDTO checkForAccess(Principal principal, List<PermissionCheckDTO> permissionCheckDTOList) {
     AccessCheckRequestDTO accessCheckRequestDTO =
         AccessCheckRequestDTO.builder().principal(principal).permissions(permissionCheckDTOList).build();
-    return checkForAccess(accessCheckRequestDTO);
+    if (decisionCache == null) {
+      return checkForAccess(accessCheckRequestDTO);
+    }
+    return decisionCache
+        .checkForAccess(Collections.singletonList(accessCheckRequestDTO),
+            accessCheckRequestDTOs -> Collections.singletonList(checkForAccess(accessCheckRequestDTOs.get(0))))
+        .get(0);
+  }
+
+  @Override
+  public List<AccessCheckResponseDTO> checkForAccessInBatch(List<AccessCheckRequestDTO> accessCheckRequestDTOs) {
+    if (decisionCache == null) {
+      return checkForAccessInBatchInternal(accessCheckRequestDTOs);
+    }
+    return decisionCache.checkForAccess(accessCheckRequestDTOs, this::checkForAccessInBatchInternal);
+  }
+
+  private List<AccessCheckResponseDTO> checkForAccessInBatchInternal(
+      List<AccessCheckRequestDTO> accessCheckRequestDTOs) {
+    // The service takes a limited number of checks per batch, larger batches are sent as consecutive requests
+    List<AccessCheckResponseDTO> accessCheckResponseDTOs = new ArrayList<>();
+    for (List<AccessCheckRequestDTO> partition :
+        Lists.partition(accessCheckRequestDTOs, BatchAccessCheckRequestDTO.MAX_ACCESS_CHECKS)) {
+      accessCheckResponseDTOs.addAll(
+          checkForAccess(BatchAccessCheckRequestDTO.builder().accessChecks(partition).build())
+              .getAccessCheckResults());
+    }
+    return accessCheckResponseDTOs;
   }
 
   @Override
@@ -19,6 +19,12 @@ public interface AccessControlClient {
 
   AccessCheckResponseDTO checkForAccess(List<PermissionCheckDTO> permissionCheckDTOList);
 
+  /**
+   * Checks the permissions of several principals in a single call, returns the results in the order of the requests.
+   * A request without a principal checks the permissions of the principal in the security context.
+   */
+  List<AccessCheckResponseDTO> checkForAccessInBatch(List<AccessCheckRequestDTO> accessCheckRequestDTOs);
+
   boolean hasAccess(Principal principal, ResourceScope resourceScope, Resource resource, String permission);
 
   boolean hasAccess(ResourceScope resourceScope, Resource resource, String permission);
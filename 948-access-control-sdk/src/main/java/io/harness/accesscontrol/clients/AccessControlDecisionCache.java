@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.accesscontrol.clients.AccessControlClientUtils.getAccessControlDTO;
+
+import io.harness.accesscontrol.Principal;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.security.SecurityContextBuilder;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Short lived cache of access decisions, so that the same checks made while serving a request or a page of requests
+ * go to the access control service once. Decisions are cached per principal and, for checks made without a principal,
+ * per principal of the security context, as the access control service then checks the caller itself.
+ *
+ * Decisions are served for up to the ttl after they were made, so a permission change can take that long to be
+ * visible to the client.
+ */
+@OwnedBy(HarnessTeam.PL)
+class AccessControlDecisionCache {
+  private static final long MAX_DECISIONS = 20000;
+
+  private final Cache<DecisionKey, Decision> decisions;
+
+  @Value
+  private static class DecisionKey {
+    String principal;
+    String permission;
+    String resourceType;
+    String resourceIdentifier;
+    String accountIdentifier;
+    String orgIdentifier;
+    String projectIdentifier;
+  }
+
+  @Value
+  private static class Decision {
+    Principal principal;
+    boolean permitted;
+  }
+
+  AccessControlDecisionCache(Duration ttl) {
+    this(ttl, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  AccessControlDecisionCache(Duration ttl, Ticker ticker) {
+    this.decisions = CacheBuilder.newBuilder()
+                         .maximumSize(MAX_DECISIONS)
+                         .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                         .ticker(ticker)
+                         .build();
+  }
+
+  /**
+   * Answers the checks from the cache where possible, and sends the rest to the access control service with a single
+   * call of the given function. The function gets one request per request with uncached checks, holding only the
+   * uncached checks, and must return one response per request in the same order.
+   */
+  List<AccessCheckResponseDTO> checkForAccess(List<AccessCheckRequestDTO> accessCheckRequestDTOs,
+      Function<List<AccessCheckRequestDTO>, List<AccessCheckResponseDTO>> accessControlService) {
+    List<String> principalKeys = new ArrayList<>();
+    List<List<Decision>> cachedDecisions = new ArrayList<>();
+    List<AccessCheckRequestDTO> uncachedRequestDTOs = new ArrayList<>();
+    for (AccessCheckRequestDTO accessCheckRequestDTO : accessCheckRequestDTOs) {
+      String principalKey = getPrincipalKey(accessCheckRequestDTO.getPrincipal()).orElse(null);
+      List<Decision> decisionsForRequest = new ArrayList<>();
+      List<PermissionCheckDTO> uncachedPermissionCheckDTOs = new ArrayList<>();
+      for (PermissionCheckDTO permissionCheckDTO : accessCheckRequestDTO.getPermissions()) {
+        Decision decision =
+            principalKey == null ? null : decisions.getIfPresent(getDecisionKey(principalKey, permissionCheckDTO));
+        decisionsForRequest.add(decision);
+        if (decision == null) {
+          uncachedPermissionCheckDTOs.add(permissionCheckDTO);
+        }
+      }
+      if (!uncachedPermissionCheckDTOs.isEmpty() || accessCheckRequestDTO.getPermissions().isEmpty()) {
+        uncachedRequestDTOs.add(AccessCheckRequestDTO.builder()
+                                    .principal(accessCheckRequestDTO.getPrincipal())
+                                    .permissions(uncachedPermissionCheckDTOs)
+                                    .build());
+      }
+      principalKeys.add(principalKey);
+      cachedDecisions.add(decisionsForRequest);
+    }
+
+    List<AccessCheckResponseDTO> uncachedResponseDTOs =
+        uncachedRequestDTOs.isEmpty() ? Collections.emptyList() : accessControlService.apply(uncachedRequestDTOs);
+
+    List<AccessCheckResponseDTO> accessCheckResponseDTOs = new ArrayList<>();
+    int uncachedIndex = 0;
+    for (int i = 0; i < accessCheckRequestDTOs.size(); i++) {
+      List<PermissionCheckDTO> permissionCheckDTOs = accessCheckRequestDTOs.get(i).getPermissions();
+      List<Decision> decisionsForRequest = cachedDecisions.get(i);
+      AccessCheckResponseDTO uncachedResponseDTO = null;
+      if (decisionsForRequest.contains(null) || permissionCheckDTOs.isEmpty()) {
+        uncachedResponseDTO = uncachedResponseDTOs.get(uncachedIndex++);
+      }
+
+      Principal principal = uncachedResponseDTO == null ? decisionsForRequest.get(0).getPrincipal()
+                                                         : uncachedResponseDTO.getPrincipal();
+      List<AccessControlDTO> accessControlDTOs = new ArrayList<>();
+      int uncachedCheckIndex = 0;
+      for (int j = 0; j < permissionCheckDTOs.size(); j++) {
+        Decision decision = decisionsForRequest.get(j);
+        if (decision != null) {
+          accessControlDTOs.add(getAccessControlDTO(permissionCheckDTOs.get(j), decision.isPermitted()));
+          continue;
+        }
+        AccessControlDTO accessControlDTO = uncachedResponseDTO.getAccessControlList().get(uncachedCheckIndex++);
+        accessControlDTOs.add(accessControlDTO);
+        if (principalKeys.get(i) != null) {
+          decisions.put(getDecisionKey(principalKeys.get(i), permissionCheckDTOs.get(j)),
+              new Decision(principal, accessControlDTO.isPermitted()));
+        }
+      }
+      accessCheckResponseDTOs.add(
+          AccessCheckResponseDTO.builder().principal(principal).accessControlList(accessControlDTOs).build());
+    }
+    return accessCheckResponseDTOs;
+  }
+
+  private static Optional<String> getPrincipalKey(Principal principal) {
+    if (principal != null && !StringUtils.isEmpty(principal.getPrincipalIdentifier())) {
+      return Optional.of(principal.getPrincipalType() + ":" + principal.getPrincipalIdentifier());
+    }
+    io.harness.security.dto.Principal contextPrincipal = SecurityContextBuilder.getPrincipal();
+    if (contextPrincipal == null || contextPrincipal.getType() == null || contextPrincipal.getName() == null) {
+      return Optional.empty();
+    }
+    return Optional.of("CONTEXT:" + contextPrincipal.getType() + ":" + contextPrincipal.getName());
+  }
+
+  private static DecisionKey getDecisionKey(String principalKey, PermissionCheckDTO permissionCheckDTO) {
+    ResourceScope resourceScope = permissionCheckDTO.getResourceScope();
+    return new DecisionKey(principalKey, permissionCheckDTO.getPermission(), permissionCheckDTO.getResourceType(),
+        permissionCheckDTO.getResourceIdentifier(), resourceScope == null ? null : resourceScope.getAccountIdentifier(),
+        resourceScope == null ? null : resourceScope.getOrgIdentifier(),
+        resourceScope == null ? null : resourceScope.getProjectIdentifier());
+  }
+}
@@ -21,4 +21,8 @@ public interface AccessControlHttpClient {
 
   @POST(ACL_API)
   Call<ResponseDTO<AccessCheckResponseDTO>> checkForAccess(@Body AccessCheckRequestDTO accessCheckRequestDTO);
+
+  @POST(ACL_API + "/batch")
+  Call<ResponseDTO<BatchAccessCheckResponseDTO>> checkForAccessInBatch(
+      @Body BatchAccessCheckRequestDTO batchAccessCheckRequestDTO);
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.annotations.ApiModel;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@ApiModel(value = "BatchAccessCheckRequest")
+@Schema(name = "BatchAccessCheckRequest")
+@OwnedBy(HarnessTeam.PL)
+public class BatchAccessCheckRequestDTO {
+  public static final int MAX_ACCESS_CHECKS = 100;
+
+  @Schema(description = "Access checks to perform, each for a single principal", required = true)
+  @Size(max = MAX_ACCESS_CHECKS)
+  @Valid
+  @NotNull
+  List<AccessCheckRequestDTO> accessChecks;
+}
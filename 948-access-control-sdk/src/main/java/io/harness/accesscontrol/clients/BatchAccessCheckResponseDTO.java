@@ -0,0 +1,27 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@OwnedBy(HarnessTeam.PL)
+@Data
+@Builder
+@ApiModel(value = "BatchAccessCheckResponse")
+@Schema(name = "BatchAccessCheckResponse")
+public class BatchAccessCheckResponseDTO {
+  @Schema(description = "Results of the access checks, in the order of the request")
+  private List<AccessCheckResponseDTO> accessCheckResults;
+}
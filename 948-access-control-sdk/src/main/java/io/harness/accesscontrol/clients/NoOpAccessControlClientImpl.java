@@ -31,4 +31,14 @@ public class NoOpAccessControlClientImpl extends AbstractAccessControlClient {
                                .collect(Collectors.toList()))
         .build();
   }
+
+  @Override
+  protected BatchAccessCheckResponseDTO checkForAccess(BatchAccessCheckRequestDTO batchAccessCheckRequestDTO) {
+    return BatchAccessCheckResponseDTO.builder()
+        .accessCheckResults(batchAccessCheckRequestDTO.getAccessChecks()
+                                .stream()
+                                .map(accessCheckRequestDTO -> checkForAccess(accessCheckRequestDTO))
+                                .collect(Collectors.toList()))
+        .build();
+  }
 }
@@ -13,14 +13,17 @@ import io.harness.remote.client.NGRestUtils;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import java.time.Duration;
 
 @OwnedBy(HarnessTeam.PL)
 public class NonPrivilegedAccessControlClientImpl extends AbstractAccessControlClient {
+  private static final Duration DECISION_CACHE_TTL = Duration.ofSeconds(5);
   private final AccessControlHttpClient accessControlHttpClient;
 
   @Inject
   public NonPrivilegedAccessControlClientImpl(
       @Named("NON_PRIVILEGED") AccessControlHttpClient accessControlHttpClient) {
+    super(DECISION_CACHE_TTL);
     this.accessControlHttpClient = accessControlHttpClient;
   }
 
@@ -28,4 +31,9 @@ public class NonPrivilegedAccessControlClientImpl extends AbstractAccessControlC
   protected AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO) {
     return NGRestUtils.getResponse(accessControlHttpClient.checkForAccess(accessCheckRequestDTO));
   }
+
+  @Override
+  protected BatchAccessCheckResponseDTO checkForAccess(BatchAccessCheckRequestDTO batchAccessCheckRequestDTO) {
+    return NGRestUtils.getResponse(accessControlHttpClient.checkForAccessInBatch(batchAccessCheckRequestDTO));
+  }
 }
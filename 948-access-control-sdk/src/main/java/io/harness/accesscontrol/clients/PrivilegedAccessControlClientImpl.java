@@ -14,14 +14,17 @@ import io.harness.remote.client.NGRestUtils;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.time.Duration;
 
 @Singleton
 @OwnedBy(HarnessTeam.PL)
 public class PrivilegedAccessControlClientImpl extends AbstractAccessControlClient {
+  private static final Duration DECISION_CACHE_TTL = Duration.ofSeconds(5);
   private final AccessControlHttpClient accessControlHttpClient;
 
   @Inject
   public PrivilegedAccessControlClientImpl(@Named("PRIVILEGED") AccessControlHttpClient accessControlHttpClient) {
+    super(DECISION_CACHE_TTL);
     this.accessControlHttpClient = accessControlHttpClient;
   }
 
@@ -29,4 +32,9 @@ public class PrivilegedAccessControlClientImpl extends AbstractAccessControlClie
   protected AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO) {
     return NGRestUtils.getResponse(accessControlHttpClient.checkForAccess(accessCheckRequestDTO));
   }
+
+  @Override
+  protected BatchAccessCheckResponseDTO checkForAccess(BatchAccessCheckRequestDTO batchAccessCheckRequestDTO) {
+    return NGRestUtils.getResponse(accessControlHttpClient.checkForAccessInBatch(batchAccessCheckRequestDTO));
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class AbstractAccessControlClientTest extends CategoryTest {
+  private final List<Integer> batchSizes = new ArrayList<>();
+
+  private final AbstractAccessControlClient accessControlClient = new AbstractAccessControlClient() {
+    @Override
+    protected AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected BatchAccessCheckResponseDTO checkForAccess(BatchAccessCheckRequestDTO batchAccessCheckRequestDTO) {
+      batchSizes.add(batchAccessCheckRequestDTO.getAccessChecks().size());
+      return BatchAccessCheckResponseDTO.builder()
+          .accessCheckResults(batchAccessCheckRequestDTO.getAccessChecks()
+                                  .stream()
+                                  .map(accessCheckRequestDTO
+                                      -> AccessCheckResponseDTO.builder()
+                                             .principal(accessCheckRequestDTO.getPrincipal())
+                                             .accessControlList(Collections.emptyList())
+                                             .build())
+                                  .collect(Collectors.toList()))
+          .build();
+    }
+  };
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSplitsLargeBatches() {
+    List<AccessCheckRequestDTO> accessCheckRequestDTOs = new ArrayList<>();
+    for (int i = 0; i < 2 * BatchAccessCheckRequestDTO.MAX_ACCESS_CHECKS + 1; i++) {
+      accessCheckRequestDTOs.add(AccessCheckRequestDTO.builder()
+                                     .principal(Principal.of(PrincipalType.USER, "user" + i))
+                                     .permissions(Collections.emptyList())
+                                     .build());
+    }
+
+    List<AccessCheckResponseDTO> accessCheckResponseDTOs =
+        accessControlClient.checkForAccessInBatch(accessCheckRequestDTOs);
+
+    assertThat(batchSizes)
+        .containsExactly(BatchAccessCheckRequestDTO.MAX_ACCESS_CHECKS, BatchAccessCheckRequestDTO.MAX_ACCESS_CHECKS, 1);
+    assertThat(accessCheckResponseDTOs).hasSize(accessCheckRequestDTOs.size());
+    for (int i = 0; i < accessCheckRequestDTOs.size(); i++) {
+      assertThat(accessCheckResponseDTOs.get(i).getPrincipal()).isEqualTo(accessCheckRequestDTOs.get(i).getPrincipal());
+    }
+  }
+}
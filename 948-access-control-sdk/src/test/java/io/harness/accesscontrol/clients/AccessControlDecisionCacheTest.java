@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.security.SecurityContextBuilder;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class AccessControlDecisionCacheTest extends CategoryTest {
+  private static final Duration TTL = Duration.ofSeconds(5);
+  private static final Principal USER = Principal.of(PrincipalType.USER, "user");
+  private static final Principal OTHER_USER = Principal.of(PrincipalType.USER, "otherUser");
+  private static final PermissionCheckDTO VIEW = permissionCheck("core_pipeline_view");
+  private static final PermissionCheckDTO EDIT = permissionCheck("core_pipeline_edit");
+
+  private AtomicLong nanos;
+  private AccessControlDecisionCache decisionCache;
+  private List<List<AccessCheckRequestDTO>> serviceCalls;
+
+  @Before
+  public void setup() {
+    SecurityContextBuilder.unsetCompleteContext();
+    nanos = new AtomicLong();
+    decisionCache = new AccessControlDecisionCache(TTL, new Ticker() {
+      @Override
+      public long read() {
+        return nanos.get();
+      }
+    });
+    serviceCalls = new ArrayList<>();
+  }
+
+  private static PermissionCheckDTO permissionCheck(String permission) {
+    return PermissionCheckDTO.builder()
+        .permission(permission)
+        .resourceType("PIPELINE")
+        .resourceIdentifier("pipeline")
+        .resourceScope(ResourceScope.builder().accountIdentifier("account").build())
+        .build();
+  }
+
+  private static AccessCheckRequestDTO request(Principal principal, PermissionCheckDTO... permissionCheckDTOs) {
+    return AccessCheckRequestDTO.builder().principal(principal).permissions(Arrays.asList(permissionCheckDTOs)).build();
+  }
+
+  // Permits the view permission only, and records the checks sent to it
+  private Function<List<AccessCheckRequestDTO>, List<AccessCheckResponseDTO>> service() {
+    return accessCheckRequestDTOs -> {
+      serviceCalls.add(accessCheckRequestDTOs);
+      return accessCheckRequestDTOs.stream()
+          .map(accessCheckRequestDTO
+              -> AccessCheckResponseDTO.builder()
+                     .principal(accessCheckRequestDTO.getPrincipal())
+                     .accessControlList(accessCheckRequestDTO.getPermissions()
+                                            .stream()
+                                            .map(permissionCheckDTO
+                                                -> AccessControlClientUtils.getAccessControlDTO(permissionCheckDTO,
+                                                    VIEW.getPermission().equals(permissionCheckDTO.getPermission())))
+                                            .collect(Collectors.toList()))
+                     .build())
+          .collect(Collectors.toList());
+    };
+  }
+
+  private List<Boolean> permitted(AccessCheckResponseDTO accessCheckResponseDTO) {
+    return accessCheckResponseDTO.getAccessControlList()
+        .stream()
+        .map(AccessControlDTO::isPermitted)
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testServesRepeatedChecksFromCache() {
+    decisionCache.checkForAccess(Collections.singletonList(request(USER, VIEW)), service());
+
+    List<AccessCheckResponseDTO> responses =
+        decisionCache.checkForAccess(Collections.singletonList(request(USER, VIEW, EDIT)), service());
+
+    assertThat(serviceCalls).hasSize(2);
+    assertThat(serviceCalls.get(1)).hasSize(1);
+    assertThat(serviceCalls.get(1).get(0).getPermissions()).containsExactly(EDIT);
+    assertThat(responses.get(0).getPrincipal()).isEqualTo(USER);
+    assertThat(permitted(responses.get(0))).containsExactly(true, false);
+
+    responses = decisionCache.checkForAccess(Collections.singletonList(request(USER, EDIT, VIEW)), service());
+    assertThat(serviceCalls).hasSize(2);
+    assertThat(permitted(responses.get(0))).containsExactly(false, true);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testExpiresDecisionsAfterTtl() {
+    decisionCache.checkForAccess(Collections.singletonList(request(USER, VIEW)), service());
+    nanos.addAndGet(TTL.minusMillis(1).toNanos());
+    decisionCache.checkForAccess(Collections.singletonList(request(USER, VIEW)), service());
+    assertThat(serviceCalls).hasSize(1);
+
+    nanos.addAndGet(Duration.ofMillis(1).toNanos());
+    decisionCache.checkForAccess(Collections.singletonList(request(USER, VIEW)), service());
+    assertThat(serviceCalls).hasSize(2);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testKeysDecisionsPerPrincipal() {
+    List<AccessCheckResponseDTO> responses = decisionCache.checkForAccess(
+        Arrays.asList(request(USER, VIEW), request(OTHER_USER, VIEW), request(USER, VIEW)), service());
+    assertThat(serviceCalls).hasSize(1);
+    assertThat(serviceCalls.get(0).stream().map(AccessCheckRequestDTO::getPrincipal).collect(Collectors.toList()))
+        .containsExactly(USER, OTHER_USER, USER);
+    assertThat(responses.stream().map(AccessCheckResponseDTO::getPrincipal).collect(Collectors.toList()))
+        .containsExactly(USER, OTHER_USER, USER);
+
+    decisionCache.checkForAccess(Arrays.asList(request(USER, VIEW), request(OTHER_USER, VIEW)), service());
+    assertThat(serviceCalls).hasSize(1);
+
+    // Without a principal in the check or in the context there is nothing to key the decision by
+    decisionCache.checkForAccess(Collections.singletonList(request(null, VIEW)), service());
+    decisionCache.checkForAccess(Collections.singletonList(request(null, VIEW)), service());
+    assertThat(serviceCalls).hasSize(3);
+  }
+}
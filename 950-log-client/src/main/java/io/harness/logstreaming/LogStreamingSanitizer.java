@@ -7,33 +7,24 @@
 
 package io.harness.logstreaming;
 
-import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
+import io.harness.expression.SecretMasker;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
-
-import java.util.ArrayList;
 import java.util.Set;
 import lombok.Builder;
 
-@Builder
 public class LogStreamingSanitizer {
-  private final Set<String> secrets;
+  private final SecretMasker secretMasker;
+
+  @Builder
+  public LogStreamingSanitizer(Set<String> secrets) {
+    this.secretMasker = SecretMasker.compile(secrets);
+  }
 
   public void sanitizeLogMessage(LogLine logLine) {
-    if (isEmpty(secrets)) {
+    if (secretMasker.isEmpty()) {
       return;
     }
 
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    String sanitizedLogMessage =
-        replaceEach(logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
-
-    logLine.setMessage(sanitizedLogMessage);
+    logLine.setMessage(secretMasker.mask(logLine.getMessage()));
   }
 }
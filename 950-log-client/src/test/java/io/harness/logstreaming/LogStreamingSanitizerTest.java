@@ -53,4 +53,19 @@ public class LogStreamingSanitizerTest extends CategoryTest {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     Assertions.assertThat(logLine.getMessage()).isEqualTo(sanitizedMessage);
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSanitizeOverlappingSecrets() {
+    io.harness.logstreaming.LogLine logLine = LogLine.builder().message("token=abc123def and abc").build();
+
+    Set<String> secrets = new HashSet<>();
+    secrets.add("abc");
+    secrets.add("abc123");
+    secrets.add("123def");
+
+    LogStreamingSanitizer.builder().secrets(secrets).build().sanitizeLogMessage(logLine);
+    Assertions.assertThat(logLine.getMessage()).isEqualTo("token=" + SECRET_MASK + " and " + SECRET_MASK);
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.waiter.persistence.PersistenceWrapper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Groups the correlation ids of the notify responses stored by {@link WaitNotifyEngine#doneWith} over a short window.
+ * Each affected {@link WaitInstance} is released with a single update for all of the correlation ids of the batch,
+ * instead of one round trip per correlation id. The responses are already stored when they are submitted, so a batch
+ * that fails or is lost on shutdown is picked up by the {@link NotifyResponseCleaner}.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseBatcher {
+  public static final String NOTIFY_BATCH_SIZE_METRIC = "wait_engine_notify_batch_size";
+  public static final String NOTIFY_BATCH_LATENCY_METRIC = "wait_engine_notify_batch_latency";
+
+  @Inject private PersistenceWrapper persistenceWrapper;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private WaitNotifyEngine waitNotifyEngine;
+  @Inject(optional = true) @Nullable private MetricService metricService;
+
+  // Not shared with the notifier executor, so that the batches do not queue behind the response cleaner
+  private ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("notify-response-batcher").setDaemon(true).build());
+
+  private final Queue<PendingResponse> pendingResponses = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  @Value
+  private static class PendingResponse {
+    String correlationId;
+    long enqueuedAt;
+  }
+
+  /**
+   * Enqueues the correlation id of a stored notify response for the next batch.
+   */
+  public void submit(String correlationId) {
+    pendingResponses.add(new PendingResponse(correlationId, currentTimeMillis()));
+
+    int count = pendingCount.incrementAndGet();
+    if (count % waiterConfiguration.getNotifyResponseBatchSize() == 0) {
+      executorService.execute(this::flush);
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      executorService.schedule(
+          this::flush, waiterConfiguration.getNotifyResponseBatchWindowMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  void flush() {
+    // Reset the flag before draining so a concurrent submit schedules a new flush rather than getting lost
+    flushScheduled.set(false);
+    List<PendingResponse> batch;
+    while (!(batch = drain()).isEmpty()) {
+      process(batch);
+    }
+  }
+
+  private List<PendingResponse> drain() {
+    List<PendingResponse> batch = new ArrayList<>();
+    PendingResponse pendingResponse;
+    while (batch.size() < waiterConfiguration.getNotifyResponseBatchSize()
+        && (pendingResponse = pendingResponses.poll()) != null) {
+      pendingCount.decrementAndGet();
+      batch.add(pendingResponse);
+    }
+    return batch;
+  }
+
+  private void process(List<PendingResponse> batch) {
+    try {
+      List<String> correlationIds =
+          batch.stream().map(PendingResponse::getCorrelationId).distinct().collect(toList());
+      WaitInstance waitInstance;
+      while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstanceForCorrelationIds(correlationIds))
+          != null) {
+        if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+          waitNotifyEngine.sendNotification(waitInstance);
+        }
+      }
+    } catch (Exception exception) {
+      log.error("Failed to process batch of {} notify responses", batch.size(), exception);
+    } finally {
+      recordMetrics(batch);
+    }
+  }
+  private void recordMetrics(List<PendingResponse> batch) {
+    if (metricService == null) {
+      return;
+    }
+    long oldest = batch.stream().mapToLong(PendingResponse::getEnqueuedAt).min().orElse(currentTimeMillis());
+    metricService.recordMetric(NOTIFY_BATCH_SIZE_METRIC, batch.size());
+    metricService.recordMetric(NOTIFY_BATCH_LATENCY_METRIC, currentTimeMillis() - oldest);
+  }
+}
@@ -55,6 +55,8 @@ public class WaitNotifyEngine {
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private NotifyResponseBatcher notifyResponseBatcher;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -158,7 +160,11 @@ public class WaitNotifyEngine {
       if (log.isDebugEnabled()) {
         log.debug("Process NotifyResponse mongo queryTime {}", queryEndTime - doneWithStartTime);
       }
-      handleNotifyResponse(correlationId);
+      if (waiterConfiguration.isBatchNotifyResponses()) {
+        notifyResponseBatcher.submit(correlationId);
+      } else {
+        handleNotifyResponse(correlationId);
+      }
       return correlationId;
     } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
       log.warn("Unexpected rate of DuplicateKeyException per correlation", exception);
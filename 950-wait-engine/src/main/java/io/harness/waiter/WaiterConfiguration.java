@@ -20,4 +20,9 @@ import lombok.Value;
 public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+
+  // When enabled the wait instances of the stored responses are released in batches, see NotifyResponseBatcher
+  @Default boolean batchNotifyResponses = false;
+  @Default int notifyResponseBatchSize = 200;
+  @Default long notifyResponseBatchWindowMillis = 20;
 }
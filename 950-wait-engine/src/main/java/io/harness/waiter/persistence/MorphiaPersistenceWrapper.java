@@ -197,6 +197,18 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstanceForCorrelationIds(List<String> waitingOnCorrelationIds) {
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                          .in(waitingOnCorrelationIds);
+
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+    return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
@@ -28,6 +28,12 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Removes all the given correlation ids from a single wait instance waiting on any of them and returns it in its
+   * updated state. Keep calling until null is returned to release every affected wait instance.
+   */
+  WaitInstance modifyAndFetchWaitInstanceForCorrelationIds(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -135,6 +135,14 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstanceForCorrelationIds(List<String> waitingOnCorrelationIds) {
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    Update update =
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0]));
+    return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.PRASHANT;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.waiter.persistence.PersistenceWrapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class NotifyResponseBatcherTest extends CategoryTest {
+  @Mock private PersistenceWrapper persistenceWrapper;
+  @Mock private WaitNotifyEngine waitNotifyEngine;
+  @InjectMocks private NotifyResponseBatcher notifyResponseBatcher;
+  private ScheduledExecutorService executorService;
+
+  @Before
+  public void setUp() throws IllegalAccessException {
+    MockitoAnnotations.initMocks(this);
+    WaiterConfiguration waiterConfiguration = WaiterConfiguration.builder()
+                                                  .batchNotifyResponses(true)
+                                                  .notifyResponseBatchSize(10)
+                                                  .notifyResponseBatchWindowMillis(20)
+                                                  .build();
+    executorService = mock(ScheduledExecutorService.class);
+    FieldUtils.writeField(notifyResponseBatcher, "waiterConfiguration", waiterConfiguration, true);
+    FieldUtils.writeField(notifyResponseBatcher, "executorService", executorService, true);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldReleaseWaitInstancesOncePerBatch() {
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    WaitInstance released = WaitInstance.builder()
+                                .uuid(generateUuid())
+                                .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                .waitingOnCorrelationIds(Collections.emptyList())
+                                .build();
+    when(persistenceWrapper.modifyAndFetchWaitInstanceForCorrelationIds(anyList()))
+        .thenReturn(released)
+        .thenReturn(null);
+
+    notifyResponseBatcher.submit(correlationId1);
+    notifyResponseBatcher.submit(correlationId2);
+    verify(executorService, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    notifyResponseBatcher.flush();
+
+    verify(persistenceWrapper, times(2))
+        .modifyAndFetchWaitInstanceForCorrelationIds(Arrays.asList(correlationId1, correlationId2));
+    verify(waitNotifyEngine, times(1)).sendNotification(released);
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldFlushRightAwayWhenBatchIsFull() {
+    for (int i = 0; i < 10; i++) {
+      notifyResponseBatcher.submit(generateUuid());
+    }
+    verify(executorService, times(1)).execute(any(Runnable.class));
+  }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldKeepFlushingAfterFailedBatch() {
+    when(persistenceWrapper.modifyAndFetchWaitInstanceForCorrelationIds(anyList()))
+        .thenThrow(new RuntimeException("boom"))
+        .thenReturn(null);
+
+    notifyResponseBatcher.submit(generateUuid());
+    notifyResponseBatcher.flush();
+    notifyResponseBatcher.submit(generateUuid());
+    notifyResponseBatcher.flush();
+
+    verify(persistenceWrapper, times(2)).modifyAndFetchWaitInstanceForCorrelationIds(anyList());
+    verify(waitNotifyEngine, never()).sendNotification(any());
+  }
+}
@@ -141,6 +141,33 @@ public class MorphiaPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(modifiedWaitInstance.getWaitingOnCorrelationIds()).isEmpty();
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testModifyAndFetchWaitInstanceForCorrelationIds() {
+    String waitInstanceId = generateUuid();
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    String correlationId3 = generateUuid();
+    final WaitInstance waitInstance =
+        WaitInstance.builder()
+            .uuid(waitInstanceId)
+            .callback(new TestNotifyCallback())
+            .publisher(TEST_PUBLISHER)
+            .correlationIds(Arrays.asList(correlationId1, correlationId2, correlationId3))
+            .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2, correlationId3))
+            .build();
+    hPersistence.save(waitInstance);
+
+    WaitInstance modifiedWaitInstance =
+        persistenceWrapper.modifyAndFetchWaitInstanceForCorrelationIds(Arrays.asList(correlationId1, correlationId2));
+    assertThat(modifiedWaitInstance.getWaitingOnCorrelationIds()).containsExactly(correlationId3);
+    assertThat(
+        persistenceWrapper.modifyAndFetchWaitInstanceForCorrelationIds(Arrays.asList(correlationId1, correlationId2)))
+        .isNull();
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
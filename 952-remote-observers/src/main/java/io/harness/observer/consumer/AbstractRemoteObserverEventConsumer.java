@@ -7,6 +7,7 @@
 
 package io.harness.observer.consumer;
 
+import io.harness.eventsframework.api.AcknowledgementBuffer;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
@@ -25,7 +26,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractRemoteObserverEventConsumer implements Runnable {
   private static final int WAIT_TIME_IN_SECONDS = 10;
+  private static final int ACK_BATCH_SIZE = 100;
+  private static final Duration ACK_FLUSH_INTERVAL = Duration.ofSeconds(1);
   private final Consumer redisConsumer;
+  private final AcknowledgementBuffer acknowledgementBuffer;
   private final Set<RemoteObserver> remoteObservers;
   private final QueueController queueController;
   private final RemoteObserverProcessor remoteObserverProcessor;
@@ -34,6 +38,7 @@ public abstract class AbstractRemoteObserverEventConsumer implements Runnable {
   public AbstractRemoteObserverEventConsumer(Consumer redisConsumer, Set<RemoteObserver> remoteObservers,
       QueueController queueController, RemoteObserverProcessor remoteObserverProcessor) {
     this.redisConsumer = redisConsumer;
+    this.acknowledgementBuffer = new AcknowledgementBuffer(redisConsumer, ACK_BATCH_SIZE, ACK_FLUSH_INTERVAL);
     this.remoteObservers = remoteObservers;
     this.queueController = queueController;
     this.remoteObserverProcessor = remoteObserverProcessor;
@@ -62,6 +67,7 @@ public abstract class AbstractRemoteObserverEventConsumer implements Runnable {
       log.error("Remote observer event consumer unexpectedly stopped", ex);
     } finally {
       SecurityContextBuilder.unsetCompleteContext();
+      acknowledgementBuffer.close();
     }
   }
 
@@ -83,7 +89,7 @@ public abstract class AbstractRemoteObserverEventConsumer implements Runnable {
       messageId = message.getId();
       messageProcessed = handleMessage(message);
       if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
+        acknowledgementBuffer.acknowledge(messageId);
       }
     }
   }
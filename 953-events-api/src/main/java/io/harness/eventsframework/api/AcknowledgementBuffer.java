@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.api;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects acknowledgements and sends them to the consumer in batches, once the buffer reaches its size or on every
+ * flush interval, whichever comes first. Acknowledging late is safe, a message that was not acknowledged is only
+ * redelivered after the consumer's max processing time. Once closed, acknowledgements go to the consumer right away.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class AcknowledgementBuffer implements Closeable {
+  private final Consumer consumer;
+  private final int maxSize;
+  private final ScheduledExecutorService executorService;
+  private List<String> pending = new ArrayList<>();
+  private boolean flushScheduled;
+  private boolean closed;
+
+  public AcknowledgementBuffer(Consumer consumer, int maxSize, Duration flushInterval) {
+    this.consumer = consumer;
+    this.maxSize = maxSize;
+    this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ack-buffer-" + consumer.getClass().getSimpleName());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executorService.scheduleWithFixedDelay(
+        this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public void acknowledge(String messageId) {
+    acknowledge(Collections.singletonList(messageId));
+  }
+
+  public void acknowledge(List<String> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    synchronized (this) {
+      if (!closed) {
+        pending.addAll(messageIds);
+        // The executor is only shut down after closing, which takes the same lock
+        if (pending.size() >= maxSize && !flushScheduled) {
+          flushScheduled = true;
+          executorService.execute(this::flush);
+        }
+        return;
+      }
+    }
+    send(new ArrayList<>(messageIds));
+  }
+
+  public void flush() {
+    List<String> batch;
+    synchronized (this) {
+      flushScheduled = false;
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = pending;
+      pending = new ArrayList<>();
+    }
+    send(batch);
+  }
+
+  private void send(List<String> batch) {
+    try {
+      consumer.acknowledge(batch);
+    } catch (Exception exception) {
+      log.error("Failed to acknowledge {} messages, they will be redelivered", batch.size(), exception);
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    executorService.shutdown();
+    flush();
+  }
+}
@@ -19,5 +19,14 @@ import java.util.List;
 public interface Consumer {
   List<Message> read(Duration maxWaitTime);
   void acknowledge(String messageId);
+
+  /**
+   * Acknowledges all the given messages at once. Implementations that can do it in a single round trip should
+   * override this, the default falls back to one acknowledge per message.
+   */
+  default void acknowledge(List<String> messageIds) {
+    messageIds.forEach(this::acknowledge);
+  }
+
   void shutdown();
 }
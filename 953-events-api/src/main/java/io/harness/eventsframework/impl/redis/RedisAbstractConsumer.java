@@ -8,6 +8,7 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractConsumer;
@@ -245,6 +246,31 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
   }
 
+  @Override
+  public void acknowledge(List<String> messageIds) {
+    if (isEmpty(messageIds)) {
+      return;
+    }
+    Supplier<Void> acknowledgeSupplier = () -> {
+      acknowledgeInternal(messageIds);
+      return null;
+    };
+
+    Supplier<Void> retryingAckMessages = Retry.decorateSupplier(retry, acknowledgeSupplier);
+    Try.ofSupplier(retryingAckMessages)
+        .recover(throwable -> {
+          createConsumerGroupIfNotPresent(throwable);
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private void acknowledgeInternal(List<String> messageIds) {
+    // XACK takes any number of ids, so the whole batch costs a single command
+    stream.ack(getGroupName(), messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new));
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
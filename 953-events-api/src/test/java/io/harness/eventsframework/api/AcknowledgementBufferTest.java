@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.api;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AcknowledgementBufferTest extends CategoryTest {
+  private final Consumer consumer = mock(Consumer.class);
+  private AcknowledgementBuffer acknowledgementBuffer;
+
+  @After
+  public void tearDown() {
+    acknowledgementBuffer.close();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFlushOnceFull() {
+    acknowledgementBuffer = new AcknowledgementBuffer(consumer, 3, Duration.ofHours(1));
+
+    acknowledgementBuffer.acknowledge("1");
+    acknowledgementBuffer.acknowledge(Arrays.asList("2", "3"));
+
+    verify(consumer, timeout(5000)).acknowledge(Arrays.asList("1", "2", "3"));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFlushOnInterval() {
+    acknowledgementBuffer = new AcknowledgementBuffer(consumer, 100, Duration.ofMillis(50));
+
+    acknowledgementBuffer.acknowledge("1");
+
+    verify(consumer, timeout(5000)).acknowledge(Collections.singletonList("1"));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldFlushOnCloseAndAcknowledgeRightAwayAfterwards() {
+    acknowledgementBuffer = new AcknowledgementBuffer(consumer, 100, Duration.ofHours(1));
+
+    acknowledgementBuffer.acknowledge("1");
+    verify(consumer, never()).acknowledge(anyListOf(String.class));
+
+    acknowledgementBuffer.close();
+    verify(consumer).acknowledge(Collections.singletonList("1"));
+
+    acknowledgementBuffer.acknowledge("2");
+    verify(consumer).acknowledge(Collections.singletonList("2"));
+  }
+}
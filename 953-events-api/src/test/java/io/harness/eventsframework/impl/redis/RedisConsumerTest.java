@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Matchers;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+
+public class RedisConsumerTest extends CategoryTest {
+  private static final String GROUP = "group";
+
+  private RStream<String, String> stream;
+  private RedisConsumer redisConsumer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    stream = mock(RStream.class);
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    when(redissonClient.<String, String>getStream(anyString(), any(Codec.class))).thenReturn(stream);
+    redisConsumer = RedisConsumer.of("topic", GROUP, redissonClient, Duration.ofMinutes(1), 10, "");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgeAllTheMessagesWithOneCommand() {
+    redisConsumer.acknowledge(Arrays.asList("1-0", "1-1", "2-0"));
+
+    verify(stream, times(1))
+        .ack(eq(GROUP), eq(new StreamMessageId(1, 0)), eq(new StreamMessageId(1, 1)), eq(new StreamMessageId(2, 0)));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotAcknowledgeAnEmptyBatch() {
+    redisConsumer.acknowledge(Collections.emptyList());
+
+    verify(stream, never()).ack(anyString(), Matchers.<StreamMessageId>anyVararg());
+  }
+}
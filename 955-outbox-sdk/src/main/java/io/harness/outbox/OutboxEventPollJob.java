@@ -10,25 +10,55 @@ package io.harness.outbox;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENTS_FAILED_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENTS_HANDLED_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_LAG_METRIC_NAME;
+import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.monitor.context.OutboxContext;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Handles the events of the outbox. With a partition count greater than one, the polled events are partitioned by
+ * their resource and the partitions are handled in parallel, each under its own lock, so that the events of a
+ * resource are still handled one after the other in the order they were created. Once an event of a resource fails,
+ * the later events of the resource are blocked along with it instead of being handled, and the events of the resource
+ * polled by later runs are left alone until the blocked event is due for another attempt.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
@@ -37,9 +67,19 @@ public class OutboxEventPollJob implements Runnable {
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
   private final OutboxEventFilter outboxEventFilter;
+  private final OutboxEventFilter blockedOutboxEventFilter;
   private final Retry retry;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private static final Duration PARTITION_LOCK_TIMEOUT = Duration.ofMinutes(2);
+  // Leaves the rest of the partition to the next run well before the lock of the partition expires
+  private static final Duration PARTITION_HANDLING_TIMEOUT = Duration.ofSeconds(90);
+  private static final int DELETE_BATCH_SIZE = 10;
   private final String outboxLockId;
+  private final int partitionCount;
+  private final ExecutorService partitionExecutor;
+
+  @Inject(optional = true) @Nullable private MetricService metricService;
+  @Inject(optional = true) @Named(SERVICE_ID_FOR_OUTBOX) @Nullable private String serviceId;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
@@ -49,7 +89,17 @@ public class OutboxEventPollJob implements Runnable {
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
+    this.partitionCount = Math.max(this.outboxPollConfiguration.getPartitionCount(), 1);
+    this.outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED * partitionCount).build();
+    this.blockedOutboxEventFilter = OutboxEventFilter.builder()
+                                        .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED * partitionCount)
+                                        .blockedOnly(true)
+                                        .build();
+    this.partitionExecutor = partitionCount > 1
+        ? Executors.newFixedThreadPool(partitionCount,
+            new ThreadFactoryBuilder().setNameFormat("outbox-partition-%d").setDaemon(true).build())
+        : null;
     RetryConfig retryConfig = RetryConfig.custom()
                                   .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
@@ -60,7 +110,11 @@ public class OutboxEventPollJob implements Runnable {
   @Override
   public void run() {
     try {
-      pollAndHandleOutboxEvents();
+      if (partitionCount > 1) {
+        pollAndHandleOutboxEventsInPartitions();
+      } else {
+        pollAndHandleOutboxEvents();
+      }
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
@@ -82,18 +136,12 @@ public class OutboxEventPollJob implements Runnable {
 
       for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
         OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+        boolean success = handleAndRecord(outbox);
         try {
           if (success) {
             outboxService.delete(outbox.getId());
           } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
+            block(outbox);
           }
         } catch (Exception exception) {
           log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
@@ -104,6 +152,139 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  private void pollAndHandleOutboxEventsInPartitions() {
+    List<OutboxEvent> outboxEvents;
+    try {
+      outboxEvents = outboxService.list(outboxEventFilter);
+    } catch (InstantiationError error) {
+      log.error("InstantiationError occurred while fetching entries from the outbox", error);
+      return;
+    }
+
+    // The events of a resource whose older event is blocked wait for it, the blocked event is not polled meanwhile
+    Set<List<Object>> blockedResources =
+        outboxService.list(blockedOutboxEventFilter).stream().map(this::getResourceKey).collect(toSet());
+    Map<Integer, List<OutboxEvent>> outboxEventsByPartition =
+        outboxEvents.stream()
+            .filter(outboxEvent -> !blockedResources.contains(getResourceKey(outboxEvent)))
+            .collect(groupingBy(this::getPartition, LinkedHashMap::new, toList()));
+    List<Future<?>> futures = new ArrayList<>();
+    for (Map.Entry<Integer, List<OutboxEvent>> entry : outboxEventsByPartition.entrySet()) {
+      futures.add(partitionExecutor.submit(() -> handlePartition(entry.getKey(), entry.getValue())));
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException exception) {
+        futures.forEach(pendingFuture -> pendingFuture.cancel(true));
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException exception) {
+        log.error("Unexpected error occurred while handling a partition of the outbox", exception.getCause());
+      }
+    }
+  }
+
+  private void handlePartition(int partition, List<OutboxEvent> polledEvents) {
+    try (AcquiredLock<?> lock =
+             persistentLocker.tryToAcquireLock(outboxLockId + "_" + partition, PARTITION_LOCK_TIMEOUT)) {
+      if (lock == null) {
+        log.warn("Could not acquire lock for partition {} of the outbox", partition);
+        return;
+      }
+      // another poller could have handled some of these events before the lock of the partition was acquired
+      List<OutboxEvent> outboxEvents =
+          outboxService.list(OutboxEventFilter.builder()
+                                 .maximumEventsPolled(polledEvents.size())
+                                 .eventIds(polledEvents.stream().map(OutboxEvent::getId).collect(toList()))
+                                 .build());
+
+      long deadline = System.currentTimeMillis() + PARTITION_HANDLING_TIMEOUT.toMillis();
+      Set<List<Object>> failedResources = new HashSet<>();
+      List<String> handledEventIds = new ArrayList<>();
+      for (OutboxEvent outbox : outboxEvents) {
+        if (Thread.currentThread().isInterrupted() || System.currentTimeMillis() >= deadline) {
+          break;
+        }
+        List<Object> resourceKey = getResourceKey(outbox);
+        if (!failedResources.contains(resourceKey) && handleAndRecord(outbox)) {
+          handledEventIds.add(outbox.getId());
+          // deleted as we go, so that a poller taking over the partition does not handle them again
+          if (handledEventIds.size() >= DELETE_BATCH_SIZE) {
+            deleteAll(handledEventIds);
+          }
+          continue;
+        }
+        // the later events of the resource stay behind this one
+        failedResources.add(resourceKey);
+        try {
+          block(outbox);
+        } catch (Exception exception) {
+          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                        outbox.getId(), outbox.getEventType()),
+              exception);
+        }
+      }
+      deleteAll(handledEventIds);
+    }
+  }
+
+  private void deleteAll(List<String> eventIds) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    try {
+      outboxService.deleteAll(new ArrayList<>(eventIds));
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred while deleting handled outbox events with ids %s", eventIds), exception);
+    }
+    eventIds.clear();
+  }
+
+  private int getPartition(OutboxEvent outboxEvent) {
+    return Math.floorMod(getResourceKey(outboxEvent).hashCode(), partitionCount);
+  }
+
+  private List<Object> getResourceKey(OutboxEvent outboxEvent) {
+    String resourceType = outboxEvent.getResource() == null ? null : outboxEvent.getResource().getType();
+    String resourceIdentifier = outboxEvent.getResource() == null ? null : outboxEvent.getResource().getIdentifier();
+    return Arrays.asList(outboxEvent.getResourceScope(), resourceType, resourceIdentifier);
+  }
+
+  private void block(OutboxEvent outbox) {
+    outbox.setBlocked(true);
+    outbox.setNextUnblockAttemptAt(Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
+    outboxService.update(outbox);
+  }
+
+  private boolean handleAndRecord(OutboxEvent outbox) {
+    long startTime = System.currentTimeMillis();
+    boolean success = handle(outbox);
+    log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+        System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+    recordMetrics(outbox, success);
+    return success;
+  }
+
+  private void recordMetrics(OutboxEvent outbox, boolean success) {
+    if (metricService == null) {
+      return;
+    }
+    try (OutboxContext ignore = new OutboxContext(serviceId, outbox.getEventType())) {
+      if (success) {
+        metricService.incCounter(OUTBOX_EVENTS_HANDLED_METRIC_NAME);
+        if (outbox.getCreatedAt() != null) {
+          metricService.recordDuration(
+              OUTBOX_EVENT_LAG_METRIC_NAME, Duration.ofMillis(System.currentTimeMillis() - outbox.getCreatedAt()));
+        }
+      } else {
+        metricService.incCounter(OUTBOX_EVENTS_FAILED_METRIC_NAME);
+      }
+    } catch (Exception exception) {
+      log.warn("Could not record metrics of outbox event with id {}", outbox.getId(), exception);
+    }
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
     boolean success = false;
     try {
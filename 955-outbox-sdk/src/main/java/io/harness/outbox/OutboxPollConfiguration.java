@@ -27,4 +27,6 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  // Number of partitions handled in parallel, events of the same resource always go to the same partition
+  int partitionCount;
 }
@@ -45,5 +45,11 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_EVENT_LAG_METRIC_NAME = "outbox_event_lag";
+
+  public static final String OUTBOX_EVENTS_HANDLED_METRIC_NAME = "outbox_events_handled";
+
+  public static final String OUTBOX_EVENTS_FAILED_METRIC_NAME = "outbox_events_failed";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
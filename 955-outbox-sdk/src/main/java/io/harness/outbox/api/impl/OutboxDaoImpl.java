@@ -99,6 +99,12 @@ public class OutboxDaoImpl implements OutboxDao {
   }
 
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
+    if (outboxEventFilter.isBlockedOnly()) {
+      return Criteria.where(OutboxEventKeys.blocked)
+          .is(Boolean.TRUE)
+          .and(OutboxEventKeys.nextUnblockAttemptAt)
+          .gte(Instant.now());
+    }
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
     Criteria blockedTrueCriteria = Criteria.where(OutboxEventKeys.blocked)
@@ -106,6 +112,9 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
     criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (outboxEventFilter.getEventIds() != null) {
+      criteria.and(OutboxEventKeys.id).in(outboxEventFilter.getEventIds());
+    }
     return criteria;
   }
 
@@ -114,4 +123,12 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds == null || outboxEventIds.isEmpty()) {
+      return 0;
+    }
+    return outboxRepository.delete(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
 }
@@ -74,4 +74,9 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxDao.deleteAll(outboxEventIds);
+  }
 }
@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +23,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  List<String> eventIds;
+  // Lists only the blocked events that are not due for another attempt yet, instead of the events to be handled
+  boolean blockedOnly;
 }
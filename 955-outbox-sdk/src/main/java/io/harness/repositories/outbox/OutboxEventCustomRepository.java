@@ -23,4 +23,5 @@ public interface OutboxEventCustomRepository {
   List<OutboxEvent> findAll(Criteria criteria, Pageable pageable);
   long count(Criteria criteria);
   <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn);
+  long delete(Criteria criteria);
 }
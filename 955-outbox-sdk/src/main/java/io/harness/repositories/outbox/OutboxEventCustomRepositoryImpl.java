@@ -43,4 +43,9 @@ public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomReposit
   public <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn) {
     return mongoTemplate.aggregate(aggregation, OutboxEvent.class, classToFillResultIn);
   }
+
+  @Override
+  public long delete(Criteria criteria) {
+    return mongoTemplate.remove(new Query(criteria), OutboxEvent.class).getDeletedCount();
+  }
 }
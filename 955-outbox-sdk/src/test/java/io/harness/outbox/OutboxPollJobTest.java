@@ -10,13 +10,20 @@ package io.harness.outbox;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,14 +34,20 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 @OwnedBy(PL)
 public class OutboxPollJobTest extends CategoryTest {
@@ -95,4 +108,124 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    OutboxEventPollJob partitionedPollJob = partitionedPollJob(4, 2);
+    OutboxEvent firstEvent = outboxEvent("connector1");
+    OutboxEvent secondEvent = outboxEvent("connector2");
+    OutboxEvent thirdEvent = outboxEvent("connector1");
+    stubOutbox(asList(firstEvent, secondEvent, thirdEvent), emptyList());
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+
+    partitionedPollJob.run();
+
+    InOrder inOrder = inOrder(outboxEventHandler);
+    inOrder.verify(outboxEventHandler).handle(firstEvent);
+    inOrder.verify(outboxEventHandler).handle(thirdEvent);
+    verify(outboxEventHandler, times(1)).handle(secondEvent);
+    final ArgumentCaptor<List> deletedIdsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService, times(0)).delete(any());
+    verify(outboxService, times(0)).update(any());
+    verify(outboxService, atLeastOnce()).deleteAll(deletedIdsCaptor.capture());
+    List<Object> deletedIds =
+        deletedIdsCaptor.getAllValues().stream().flatMap(ids -> ((List<?>) ids).stream()).collect(toList());
+    assertThat(deletedIds).containsExactlyInAnyOrder(firstEvent.getId(), secondEvent.getId(), thirdEvent.getId());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingKeepsLaterEventsOfFailedResourceBehind() {
+    OutboxEventPollJob partitionedPollJob = partitionedPollJob(4, 1);
+    OutboxEvent firstEvent = outboxEvent("connector1");
+    OutboxEvent secondEvent = outboxEvent("connector2");
+    OutboxEvent thirdEvent = outboxEvent("connector1");
+    stubOutbox(asList(firstEvent, secondEvent, thirdEvent), emptyList());
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+    when(outboxEventHandler.handle(firstEvent)).thenReturn(false);
+
+    partitionedPollJob.run();
+
+    verify(outboxEventHandler, times(0)).handle(thirdEvent);
+    verify(outboxService).update(firstEvent);
+    verify(outboxService).update(thirdEvent);
+    assertTrue(thirdEvent.getBlocked());
+    verify(outboxService).deleteAll(singletonList(secondEvent.getId()));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingDeletesHandledEventsInBatches() {
+    OutboxEventPollJob partitionedPollJob = partitionedPollJob(2, 1);
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      outboxEvents.add(outboxEvent("connector1"));
+    }
+    stubOutbox(outboxEvents, emptyList());
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+
+    partitionedPollJob.run();
+
+    final ArgumentCaptor<List> deletedIdsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService, times(3)).deleteAll(deletedIdsCaptor.capture());
+    assertThat(deletedIdsCaptor.getAllValues().stream().map(List::size).collect(toList())).containsExactly(10, 10, 5);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandlingSkipsEventsOfBlockedResource() {
+    OutboxEventPollJob partitionedPollJob = partitionedPollJob(4, 1);
+    OutboxEvent blockedEvent = outboxEvent("connector1");
+    blockedEvent.setBlocked(true);
+    OutboxEvent laterEvent = outboxEvent("connector1");
+    OutboxEvent otherEvent = outboxEvent("connector2");
+    stubOutbox(asList(laterEvent, otherEvent), singletonList(blockedEvent));
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+
+    partitionedPollJob.run();
+
+    verify(outboxEventHandler, times(0)).handle(laterEvent);
+    verify(outboxEventHandler, times(1)).handle(otherEvent);
+    verify(outboxService, times(0)).update(any());
+    verify(outboxService).deleteAll(singletonList(otherEvent.getId()));
+  }
+
+  private OutboxEventPollJob partitionedPollJob(int partitionCount, int maximumRetryAttempts) {
+    when(persistentLocker.tryToAcquireLock(anyString(), any())).thenReturn(mock(AcquiredLock.class));
+    return new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder()
+            .maximumRetryAttemptsForAnEvent(maximumRetryAttempts)
+            .lockId("LOCK_ID")
+            .partitionCount(partitionCount)
+            .build());
+  }
+
+  // Answers the polls with the events to be handled, and the lookup of the blocked events with the blocked ones
+  private void stubOutbox(List<OutboxEvent> outboxEvents, List<OutboxEvent> blockedEvents) {
+    when(outboxService.list(any())).thenAnswer(invocation -> {
+      OutboxEventFilter filter = (OutboxEventFilter) invocation.getArguments()[0];
+      if (filter.isBlockedOnly()) {
+        return blockedEvents;
+      }
+      if (filter.getEventIds() == null) {
+        return outboxEvents;
+      }
+      return outboxEvents.stream().filter(event -> filter.getEventIds().contains(event.getId())).collect(toList());
+    });
+  }
+
+  private OutboxEvent outboxEvent(String resourceIdentifier) {
+    return OutboxEvent.builder()
+        .id(randomAlphabetic(10))
+        .eventType("emptyEvent")
+        .blocked(false)
+        .resourceScope(new AccountScope("accountId"))
+        .resource(Resource.builder().type("CONNECTOR").identifier(resourceIdentifier).build())
+        .build();
+  }
 }
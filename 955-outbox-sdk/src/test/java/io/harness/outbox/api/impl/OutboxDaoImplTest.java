@@ -82,4 +82,20 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListBlockedOnly() {
+    OutboxEventFilter outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(50).blockedOnly(true).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    assertEquals(2, criteriaObject.size());
+    assertTrue(criteriaObject.getBoolean(OutboxEventKeys.blocked));
+    Document gte = (Document) criteriaObject.get(OutboxEventKeys.nextUnblockAttemptAt);
+    assertNotNull(gte.get("$gte"));
+  }
 }
@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.DEL;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.Map;
 import lombok.Builder;
 import lombok.Data;
 
@@ -29,6 +30,12 @@ public class DelegateConfiguration {
   private boolean doUpgrade;
   private Integer maxCachedArtifacts;
   private boolean pollForTasks;
+  private boolean streamTaskEvents;
+
+  // Runs tasks on threads created on demand, bounded by the concurrency limits of the task types instead
+  private boolean elasticTaskExecutor;
+  private int taskConcurrencyLimit;
+  private Map<String, Integer> taskTypeConcurrencyLimits;
   private String description;
 
   private String kubectlPath;
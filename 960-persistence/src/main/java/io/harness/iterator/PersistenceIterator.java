@@ -13,7 +13,8 @@ import io.harness.annotations.dev.OwnedBy;
 
 @OwnedBy(PL)
 public interface PersistenceIterator<T extends PersistentIterable> {
-  enum ProcessMode { LOOP, PUMP }
+  // REACTIVE behaves like LOOP, but is woken up by a change stream instead of polling while it is alive
+  enum ProcessMode { LOOP, PUMP, REACTIVE }
 
   void wakeup();
   void process();
@@ -10,12 +10,14 @@ package io.harness.iterator;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.REACTIVE;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.iterator.IteratorChangeStreamWatcher;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
@@ -84,6 +86,10 @@ public final class PersistenceIteratorFactory {
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
+    if (processMode == REACTIVE) {
+      builder.changeStreamWatcher(injector.getInstance(IteratorChangeStreamWatcher.class));
+    }
+
     MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
                                                   .executorService(instrumentedExecutorService)
                                                   .semaphore(new Semaphore(options.getPoolSize()))
@@ -112,4 +118,10 @@ public final class PersistenceIteratorFactory {
       PumpExecutorOptions options, Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
     return createIteratorWithDedicatedThreadPool(PUMP, options, cls, builder);
   }
+
+  public <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
+  createReactiveIteratorWithDedicatedThreadPool(
+      PumpExecutorOptions options, Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
+    return createIteratorWithDedicatedThreadPool(REACTIVE, options, cls, builder);
+  }
 }
@@ -32,6 +32,7 @@ import com.mongodb.client.model.changestream.OperationType;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -101,19 +102,22 @@ public class ChangeTracker {
   private void createChangeStreamTasks(Set<ChangeTrackingInfo<?>> changeTrackingInfos, CountDownLatch latch) {
     changeTrackingTasks = new HashSet<>();
     for (ChangeTrackingInfo<?> changeTrackingInfo : changeTrackingInfos) {
-      MongoCollection<DBObject> collection =
-          mongoDatabase.getCollection(getCollectionName(changeTrackingInfo.getMorphiaClass()))
-              .withDocumentClass(DBObject.class)
-              .withReadPreference(readPreference);
-      log.info("Connection details for mongo collection {}", collection.getReadPreference());
-
-      ChangeStreamSubscriber changeStreamSubscriber = getChangeStreamSubscriber(changeTrackingInfo);
-      ChangeTrackingTask changeTrackingTask = new ChangeTrackingTask(changeStreamSubscriber, collection, clientSession,
-          latch, changeTrackingInfo.getResumeToken(), changeTrackingInfo.getPipeline());
-      changeTrackingTasks.add(changeTrackingTask);
+      changeTrackingTasks.add(createChangeStreamTask(changeTrackingInfo, latch));
     }
   }
 
+  private ChangeTrackingTask createChangeStreamTask(ChangeTrackingInfo<?> changeTrackingInfo, CountDownLatch latch) {
+    MongoCollection<DBObject> collection =
+        mongoDatabase.getCollection(getCollectionName(changeTrackingInfo.getMorphiaClass()))
+            .withDocumentClass(DBObject.class)
+            .withReadPreference(readPreference);
+    log.info("Connection details for mongo collection {}", collection.getReadPreference());
+
+    ChangeStreamSubscriber changeStreamSubscriber = getChangeStreamSubscriber(changeTrackingInfo);
+    return new ChangeTrackingTask(changeStreamSubscriber, collection, clientSession, latch,
+        changeTrackingInfo.getResumeToken(), changeTrackingInfo.getPipeline());
+  }
+
   private void openChangeStreams(Set<ChangeTrackingInfo<?>> changeTrackingInfos) {
     executorService =
         Executors.newFixedThreadPool(8, new ThreadFactoryBuilder().setNameFormat("change-tracker-%d").build());
@@ -150,6 +154,23 @@ public class ChangeTracker {
     openChangeStreams(changeTrackingInfos);
   }
 
+  /**
+   * Opens one more change stream, connecting on first use. Unlike start, the streams are added one by one and each
+   * can be cancelled through the returned future, while all of them share the mongo client of the tracker.
+   */
+  public synchronized Future<?> track(ChangeTrackingInfo<?> changeTrackingInfo) {
+    if (mongoClient == null) {
+      connectToMongoDatabase();
+      executorService = Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("change-tracker-%d").setDaemon(true).build());
+      changeTrackingTasksFuture = ConcurrentHashMap.newKeySet();
+    }
+    changeTrackingTasksFuture.removeIf(Future::isDone);
+    Future<?> future = executorService.submit(createChangeStreamTask(changeTrackingInfo, new CountDownLatch(1)));
+    changeTrackingTasksFuture.add(future);
+    return future;
+  }
+
   public boolean checkIfAnyChangeTrackerIsAlive() {
     for (Future<?> f : changeTrackingTasksFuture) {
       if (!f.isDone()) {
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static java.time.Duration.ofMinutes;
+import static java.util.Arrays.asList;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.iterator.PersistentIterable;
+import io.harness.mongo.MongoConfig;
+import io.harness.mongo.changestreams.ChangeEvent;
+import io.harness.mongo.changestreams.ChangeEventFactory;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.annotations.Entity;
+
+/**
+ * Opens one change stream per iterable collection and next iteration field and wakes up the reactive iterators
+ * registered for it when an entity becomes due earlier than they planned to look again. All the streams share a single
+ * change tracker, and so a single mongo client. A stream that is lost is reopened in the background once per backoff
+ * period, the iterators poll in the meantime.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+@Slf4j
+public class IteratorChangeStreamWatcher {
+  private static final Duration RESTART_BACKOFF = ofMinutes(1);
+
+  @Inject private MongoConfig mongoConfig;
+  @Inject private ChangeEventFactory changeEventFactory;
+
+  private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+  private ChangeTracker changeTracker;
+  private ScheduledExecutorService restartExecutor;
+
+  private static class Watch {
+    private final Class<? extends PersistentIterable> clazz;
+    private final String fieldName;
+    private final Set<MongoPersistenceIterator<?, ?>> iterators = ConcurrentHashMap.newKeySet();
+    private volatile Future<?> changeStream;
+
+    Watch(Class<? extends PersistentIterable> clazz, String fieldName) {
+      this.clazz = clazz;
+      this.fieldName = fieldName;
+    }
+
+    boolean isAlive() {
+      Future<?> current = changeStream;
+      return current != null && !current.isDone();
+    }
+  }
+
+  private static String key(Class<?> clazz, String fieldName) {
+    return clazz.getName() + ":" + fieldName;
+  }
+
+  public <T extends PersistentIterable> void register(
+      MongoPersistenceIterator<T, ?> iterator, Class<T> clazz, String fieldName) {
+    if (clazz.getAnnotation(Entity.class) == null) {
+      log.warn("Change streams are supported only for morphia entities, {} will keep polling", clazz.getName());
+      return;
+    }
+    ensureRestarting();
+    watches.compute(key(clazz, fieldName), (key, watch) -> {
+      if (watch == null) {
+        watch = new Watch(clazz, fieldName);
+        start(watch);
+      }
+      watch.iterators.add(iterator);
+      return watch;
+    });
+  }
+
+  /**
+   * Forgets the iterator, the change stream is closed together with the last iterator registered for it.
+   */
+  public void unregister(MongoPersistenceIterator<?, ?> iterator, Class<?> clazz, String fieldName) {
+    watches.computeIfPresent(key(clazz, fieldName), (key, watch) -> {
+      watch.iterators.remove(iterator);
+      if (!watch.iterators.isEmpty()) {
+        return watch;
+      }
+      if (watch.changeStream != null) {
+        watch.changeStream.cancel(true);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Tells if the change stream for the given iterable is alive.
+   */
+  public boolean isWatching(Class<?> clazz, String fieldName) {
+    Watch watch = watches.get(key(clazz, fieldName));
+    return watch != null && watch.isAlive();
+  }
+
+  private synchronized void ensureRestarting() {
+    if (restartExecutor != null) {
+      return;
+    }
+    restartExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("iterator-change-stream-watcher").setDaemon(true).build());
+    restartExecutor.scheduleWithFixedDelay(
+        this::restartLost, RESTART_BACKOFF.toMillis(), RESTART_BACKOFF.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void restartLost() {
+    watches.keySet().forEach(key -> watches.computeIfPresent(key, (k, watch) -> {
+      if (!watch.isAlive()) {
+        log.warn("Change stream for {} on {} is lost, reopening it", watch.clazz.getName(), watch.fieldName);
+        start(watch);
+      }
+      return watch;
+    }));
+  }
+
+  private synchronized ChangeTracker changeTracker() {
+    if (changeTracker == null) {
+      changeTracker = new ChangeTracker(mongoConfig, changeEventFactory, null);
+    }
+    return changeTracker;
+  }
+
+  private void start(Watch watch) {
+    try {
+      watch.changeStream = changeTracker().track(changeTrackingInfo(watch, watch.clazz));
+    } catch (RuntimeException exception) {
+      log.error("Failed to open change stream for {} on {}", watch.clazz.getName(), watch.fieldName, exception);
+    }
+  }
+
+  private <T extends PersistentIterable> ChangeTrackingInfo<T> changeTrackingInfo(Watch watch, Class<T> clazz) {
+    String fieldName = watch.fieldName;
+    // We care only about new entities and updates of the next iteration field, anything else cannot move it earlier
+    return new ChangeTrackingInfo<>(clazz, changeEvent -> onChange(watch, changeEvent, fieldName), null,
+        Collections.singletonList(Aggregates.match(
+            Filters.or(Filters.in("operationType", asList("insert", "replace")),
+                Filters.exists("updateDescription.updatedFields." + fieldName)))));
+  }
+
+  private <T extends PersistentIterable> void onChange(Watch watch, ChangeEvent<T> changeEvent, String fieldName) {
+    T entity = changeEvent.getFullDocument();
+    Long nextIteration = entity == null ? null : entity.obtainNextIteration(fieldName);
+    watch.iterators.forEach(iterator -> iterator.wakeupIfDueBefore(nextIteration));
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.mongo.iterator;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.REACTIVE;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
@@ -18,6 +19,7 @@ import static io.harness.threading.Morpheus.sleep;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ZERO;
 import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -51,6 +53,8 @@ import lombok.extern.slf4j.Slf4j;
 public class MongoPersistenceIterator<T extends PersistentIterable, F extends FilterExpander>
     implements PersistenceIterator<T> {
   private static final Duration QUERY_TIME = ofMillis(200);
+  // While the change stream is alive we still look once in a while, just in case an event was missed
+  private static final Duration REACTIVE_SAFETY_CHECK = ofMinutes(5);
 
   @Inject private final QueueController queueController;
 
@@ -75,8 +79,15 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private Semaphore semaphore;
   private boolean redistribute;
   private EntityProcessController<T> entityProcessController;
+  private IteratorChangeStreamWatcher changeStreamWatcher;
+  // When above 1 due entities are leased in bulk, see PersistenceProvider.obtainNextInstances
+  private int claimBatchSize;
   @Getter private SchedulingType schedulingType;
 
+  // Time when the loop is going to look again, Long.MAX_VALUE while it is not waiting
+  private volatile long plannedWakeupAt;
+  private boolean wakeupRequested;
+
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
   }
@@ -92,6 +103,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         executorService.submit(this::process);
         break;
       case LOOP:
+      case REACTIVE:
+        wakeupRequested = true;
         notifyAll();
         break;
       default:
@@ -99,12 +112,36 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Wakes up a reactive iterator only if the changed entity is due before the time the iterator already plans to look.
+   * This keeps the updates the iterator does itself on the next iteration field from triggering new queries.
+   */
+  public void wakeupIfDueBefore(Long nextIteration) {
+    if (nextIteration == null || nextIteration < plannedWakeupAt) {
+      wakeup();
+    }
+  }
+
   @Override
+  public void process() {
+    if (mode != REACTIVE) {
+      iterate();
+      return;
+    }
+    changeStreamWatcher.register(this, clazz, fieldName);
+    try {
+      iterate();
+    } finally {
+      changeStreamWatcher.unregister(this, clazz, fieldName);
+    }
+  }
+
   // The theory is that ERROR type exception are unrecoverable, that is not exactly true.
   @SuppressWarnings({"PMD", "squid:S1181"})
-  public void process() {
+  private void iterate() {
     long movingAverage = 0;
     long previous = 0;
+    plannedWakeupAt = Long.MAX_VALUE;
     while (true) {
       if (!shouldProcess()) {
         if (mode == PUMP) {
@@ -127,43 +164,61 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         previous = base;
 
-        T entity = null;
-        try {
-          entity = persistenceProvider.obtainNextInstance(
-              base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
-        } finally {
-          semaphore.release();
-        }
-
-        if (entity != null) {
-          // Make sure that if the object is updated we reset the scheduler for it
-          if (schedulingType != REGULAR) {
-            Long nextIteration = entity.obtainNextIteration(fieldName);
-
-            List<Long> nextIterations =
-                ((PersistentIrregularIterable) entity)
-                    .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
-            if (isNotEmpty(nextIterations)) {
-              persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
-            }
-
-            if (nextIteration == null) {
-              continue;
+        if (claimBatchSize > 1) {
+          // Lease only as many entities as there are handler permits, the permits are handed over to the submitted
+          // tasks so that the leased entities never wait in the executor queue for a free handler
+          int permits = 1;
+          while (permits < claimBatchSize && semaphore.tryAcquire()) {
+            permits++;
+          }
+          List<T> entities = null;
+          try {
+            entities = persistenceProvider.obtainNextInstances(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, permits);
+            if (isNotEmpty(entities)) {
+              for (T entity : entities) {
+                // A failure with one entity must not drop the rest of the batch, they are already leased.
+                // The failed entity is picked up again at its next iteration.
+                try {
+                  if (prepareForProcessing(entity, throttled)) {
+                    executorService.submit(() -> processAcquiredEntity(entity));
+                    permits--;
+                  }
+                } catch (Exception exception) {
+                  log.error("Failed to hand over leased entity {}", entity.getUuid(), exception);
+                }
+              }
             }
+          } finally {
+            semaphore.release(permits);
           }
 
-          if (entityProcessController != null && !entityProcessController.shouldProcessEntity(entity)) {
+          if (isNotEmpty(entities)) {
             continue;
           }
+        } else {
+          T entity = null;
+          try {
+            entity = persistenceProvider.obtainNextInstance(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+          } finally {
+            semaphore.release();
+          }
 
-          T finalEntity = entity;
-          synchronized (finalEntity) {
-            executorService.submit(() -> processEntity(finalEntity));
-            // it might take some time until the submitted task is actually triggered.
-            // lets wait for awhile until for this to happen
-            finalEntity.wait(10000);
+          if (entity != null) {
+            if (!prepareForProcessing(entity, throttled)) {
+              continue;
+            }
+
+            T finalEntity = entity;
+            synchronized (finalEntity) {
+              executorService.submit(() -> processEntity(finalEntity));
+              // it might take some time until the submitted task is actually triggered.
+              // lets wait for awhile until for this to happen
+              finalEntity.wait(10000);
+            }
+            continue;
           }
-          continue;
         }
 
         if (mode == PUMP) {
@@ -178,7 +233,12 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
           // set previous to 0 to reset base after notify() is called
           previous = 0;
           synchronized (this) {
-            wait(sleepMillis);
+            if (!wakeupRequested) {
+              plannedWakeupAt = currentTimeMillis() + sleepMillis;
+              wait(sleepMillis);
+            }
+            plannedWakeupAt = Long.MAX_VALUE;
+            wakeupRequested = false;
           }
         }
       } catch (InterruptedException exception) {
@@ -191,13 +251,38 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private boolean prepareForProcessing(T entity, long throttled) {
+    // Make sure that if the object is updated we reset the scheduler for it
+    if (schedulingType != REGULAR) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+
+      List<Long> nextIterations =
+          ((PersistentIrregularIterable) entity)
+              .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
+      if (isNotEmpty(nextIterations)) {
+        persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
+      }
+
+      if (nextIteration == null) {
+        return false;
+      }
+    }
+
+    return entityProcessController == null || entityProcessController.shouldProcessEntity(entity);
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
 
   public Duration calculateSleepDuration(T next) {
+    Duration maximumDelay = maximumDelayForCheck;
+    if (mode == REACTIVE && changeStreamWatcher.isWatching(clazz, fieldName)) {
+      maximumDelay = REACTIVE_SAFETY_CHECK;
+    }
+
     if (next == null) {
-      return maximumDelayForCheck == null ? targetInterval : maximumDelayForCheck;
+      return maximumDelay == null ? targetInterval : maximumDelay;
     }
 
     Long nextIteration = next.obtainNextIteration(fieldName);
@@ -206,11 +291,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
 
     Duration nextEntity = ofMillis(nextIteration - currentTimeMillis());
-    if (maximumDelayForCheck == null || nextEntity.compareTo(maximumDelayForCheck) < 0) {
+    if (maximumDelay == null || nextEntity.compareTo(maximumDelay) < 0) {
       return nextEntity;
     }
 
-    return maximumDelayForCheck;
+    return maximumDelay;
   }
 
   // We are aware that the entity will be different object every time the method is
@@ -227,49 +312,60 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         Thread.currentThread().interrupt();
         return;
       }
+      handleEntity(entity);
+    }
+  }
+
+  private void processAcquiredEntity(T entity) {
+    try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
+      handleEntity(entity);
+    }
+  }
 
-      long startTime = currentTimeMillis();
+  // Expects a permit of the semaphore to be held for the entity and releases it once the entity is handled.
+  @SuppressWarnings({"squid:S2445", "PMD", "squid:S1181"})
+  private void handleEntity(T entity) {
+    long startTime = currentTimeMillis();
 
-      try {
-        synchronized (entity) {
-          entity.notify();
-        }
-        Long nextIteration = entity.obtainNextIteration(fieldName);
-        if (schedulingType == REGULAR) {
-          ((PersistentRegularIterable) entity).updateNextIteration(fieldName, 0L);
-        }
+    try {
+      synchronized (entity) {
+        entity.notify();
+      }
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+      if (schedulingType == REGULAR) {
+        ((PersistentRegularIterable) entity).updateNextIteration(fieldName, 0L);
+      }
 
-        long delay = nextIteration == null || nextIteration == 0 ? 0 : startTime - nextIteration;
+      long delay = nextIteration == null || nextIteration == 0 ? 0 : startTime - nextIteration;
 
-        try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
-          if (delay < acceptableNoAlertDelay.toMillis()) {
-            log.info("Working on entity");
-          } else {
-            log.error(
-                "Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
-          }
+      try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
+        if (delay < acceptableNoAlertDelay.toMillis()) {
+          log.info("Working on entity");
+        } else {
+          log.error(
+              "Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
         }
+      }
 
-        try {
-          handler.handle(entity);
-        } catch (RuntimeException exception) {
-          log.error("Catch and handle all exceptions in the entity handler", exception);
+      try {
+        handler.handle(entity);
+      } catch (RuntimeException exception) {
+        log.error("Catch and handle all exceptions in the entity handler", exception);
+      }
+    } catch (Throwable exception) {
+      log.error("Exception while processing entity", exception);
+    } finally {
+      semaphore.release();
+
+      long processTime = currentTimeMillis() - startTime;
+      try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
+        if (acceptableExecutionTime == null || processTime <= acceptableExecutionTime.toMillis()) {
+          log.info("Done with entity");
+        } else {
+          log.error("Done with entity but took too long acceptable {}", acceptableExecutionTime.toMillis());
         }
       } catch (Throwable exception) {
-        log.error("Exception while processing entity", exception);
-      } finally {
-        semaphore.release();
-
-        long processTime = currentTimeMillis() - startTime;
-        try (ProcessTimeLogContext ignore2 = new ProcessTimeLogContext(processTime, OVERRIDE_ERROR)) {
-          if (acceptableExecutionTime == null || processTime <= acceptableExecutionTime.toMillis()) {
-            log.info("Done with entity");
-          } else {
-            log.error("Done with entity but took too long acceptable {}", acceptableExecutionTime.toMillis());
-          }
-        } catch (Throwable exception) {
-          log.error("Exception while recording the processing of entity", exception);
-        }
+        log.error("Exception while recording the processing of entity", exception);
       }
     }
   }
@@ -7,9 +7,14 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
@@ -20,8 +25,11 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -55,11 +63,8 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     persistence.update(entity, operations);
   }
 
-  @Override
-  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
-      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
-    long now = currentTimeMillis();
-    Query<T> query = createQuery(now, clazz, fieldName, filterExpander);
+  private UpdateOperations<T> createClaimOperations(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval) {
     UpdateOperations<T> updateOperations = persistence.createUpdateOperations(clazz);
     switch (schedulingType) {
       case REGULAR:
@@ -74,9 +79,66 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
+    return updateOperations;
+  }
+
+  @Override
+  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander);
+    UpdateOperations<T> updateOperations =
+        createClaimOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval);
     return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
   }
 
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander, int limit) {
+    long now = currentTimeMillis();
+    List<T> candidates = createQuery(now, clazz, fieldName, filterExpander).asList(new FindOptions().limit(limit));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+    List<String> candidateIds = candidates.stream().map(T::getUuid).collect(toList());
+
+    // The due condition is applied again, so an entity already claimed by another pod in the meantime is not updated.
+    // The lease token tells us which of the candidates this update actually claimed.
+    String leaseToken = generateUuid();
+    String leaseFieldName = PersistenceProvider.leaseFieldName(fieldName);
+    Query<T> claimQuery = createQuery(now, clazz, fieldName, filterExpander);
+    claimQuery.field(ID_KEY).in(candidateIds);
+    // The lease token is not part of the entity model, so validation has to be off to set it
+    UpdateOperations<T> updateOperations =
+        createClaimOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval)
+            .disableValidation()
+            .set(leaseFieldName, leaseToken);
+    HPersistence.retry(() -> persistence.getDatastore(clazz).update(claimQuery, updateOperations));
+
+    Set<String> claimedIds = persistence.createQuery(clazz)
+                                 .disableValidation()
+                                 .field(ID_KEY)
+                                 .in(candidateIds)
+                                 .filter(leaseFieldName, leaseToken)
+                                 .project(ID_KEY, true)
+                                 .asList()
+                                 .stream()
+                                 .map(T::getUuid)
+                                 .collect(toSet());
+    if (!claimedIds.isEmpty()) {
+      // The token is only needed to read back the claim, do not leave it behind on the documents
+      Query<T> leaseQuery = persistence.createQuery(clazz)
+                                .disableValidation()
+                                .field(ID_KEY)
+                                .in(claimedIds)
+                                .filter(leaseFieldName, leaseToken);
+      UpdateOperations<T> unsetOperations =
+          persistence.createUpdateOperations(clazz).disableValidation().unset(leaseFieldName);
+      HPersistence.retry(() -> persistence.getDatastore(clazz).update(leaseQuery, unsetOperations));
+    }
+    return candidates.stream().filter(candidate -> claimedIds.contains(candidate.getUuid())).collect(toList());
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
     Query<T> resultQuery = createQuery(clazz, fieldName, filterExpander).project(fieldName, true);
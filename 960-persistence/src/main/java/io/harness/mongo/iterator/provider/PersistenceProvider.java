@@ -13,12 +13,37 @@ import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 public interface PersistenceProvider<T extends PersistentIterable, F extends FilterExpander> {
+  /**
+   * Name of the document field that records which bulk claim leased an entity last.
+   */
+  static String leaseFieldName(String fieldName) {
+    return fieldName + "LeaseToken";
+  }
+
   void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName);
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander);
+
+  /**
+   * Claims up to limit due entities. Providers that cannot lease in bulk fall back to claiming one entity at a time.
+   */
+  default List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, F filterExpander, int limit) {
+    List<T> entities = new ArrayList<>();
+    T entity;
+    while (entities.size() < limit
+        && (entity = obtainNextInstance(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander))
+            != null) {
+      entities.add(entity);
+    }
+    return entities;
+  }
+
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
   void recoverAfterPause(Class<T> clazz, String fieldName);
 }
@@ -8,9 +8,13 @@
 package io.harness.mongo.iterator.provider;
 
 import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
@@ -19,7 +23,9 @@ import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.NotImplementedException;
 import org.mongodb.morphia.query.FilterOperator;
 import org.springframework.data.domain.Sort;
@@ -68,11 +74,8 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     persistence.updateFirst(new Query(Criteria.where("_id").is(entity.getUuid())), update, clazz);
   }
 
-  @Override
-  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
-      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
-    long now = currentTimeMillis();
-    Query query = createQuery(now, fieldName, filterExpander);
+  private Update createClaimUpdate(
+      long base, long throttled, String fieldName, SchedulingType schedulingType, Duration targetInterval) {
     Update update = new Update();
     switch (schedulingType) {
       case REGULAR:
@@ -87,10 +90,49 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
+    return update;
+  }
+
+  @Override
+  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander);
+    Update update = createClaimUpdate(base, throttled, fieldName, schedulingType, targetInterval);
     return persistence.findAndModify(
         query, update, FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
   }
 
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander, int limit) {
+    long now = currentTimeMillis();
+    List<T> candidates = persistence.find(createQuery(now, fieldName, filterExpander).limit(limit), clazz);
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+    List<String> candidateIds = candidates.stream().map(T::getUuid).collect(toList());
+
+    // The due condition is applied again, so an entity already claimed by another pod in the meantime is not updated.
+    // The lease token tells us which of the candidates this update actually claimed.
+    String leaseToken = generateUuid();
+    String leaseFieldName = PersistenceProvider.leaseFieldName(fieldName);
+    Query claimQuery = createQuery(now, fieldName, filterExpander).addCriteria(Criteria.where("_id").in(candidateIds));
+    Update update =
+        createClaimUpdate(base, throttled, fieldName, schedulingType, targetInterval).set(leaseFieldName, leaseToken);
+    persistence.updateMulti(claimQuery, update, clazz);
+
+    Query claimedQuery = new Query(Criteria.where("_id").in(candidateIds).and(leaseFieldName).is(leaseToken));
+    claimedQuery.fields().include("_id");
+    Set<String> claimedIds = persistence.find(claimedQuery, clazz).stream().map(T::getUuid).collect(toSet());
+    if (!claimedIds.isEmpty()) {
+      // The token is only needed to read back the claim, do not leave it behind on the documents
+      persistence.updateMulti(new Query(Criteria.where("_id").in(claimedIds).and(leaseFieldName).is(leaseToken)),
+          new Update().unset(leaseFieldName), clazz);
+    }
+    return candidates.stream().filter(candidate -> claimedIds.contains(candidate.getUuid())).collect(toList());
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander) {
     return persistence.findOne(createQuery(fieldName, filterExpander), clazz);
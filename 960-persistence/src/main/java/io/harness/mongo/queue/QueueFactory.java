@@ -13,6 +13,8 @@ import io.harness.queue.NoopQueuePublisher;
 import io.harness.queue.Queuable;
 import io.harness.queue.QueueConsumer;
 import io.harness.queue.QueuePublisher;
+import io.harness.queue.redis.RedisQueueConsumer;
+import io.harness.queue.redis.RedisQueuePublisher;
 
 import com.google.inject.Injector;
 import java.time.Duration;
@@ -27,6 +29,12 @@ public class QueueFactory {
   public static <T extends Queuable> QueuePublisher<T> createQueuePublisher(
       Injector injector, Class<T> klass, List<String> topicPrefixElements, PublisherConfiguration configuration) {
     if (configuration.isPublisherActive(klass)) {
+      if (configuration.isRedisBacked(klass)) {
+        final RedisQueuePublisher redisQueuePublisher =
+            new RedisQueuePublisher(klass.getSimpleName(), topicPrefixElements);
+        injector.injectMembers(redisQueuePublisher);
+        return redisQueuePublisher;
+      }
       final MongoQueuePublisher mongoQueuePublisher =
           new MongoQueuePublisher(klass.getSimpleName(), topicPrefixElements);
       injector.injectMembers(mongoQueuePublisher);
@@ -40,6 +48,11 @@ public class QueueFactory {
   public static <T extends Queuable> QueueConsumer<T> createQueueConsumer(Injector injector, Class<T> klass,
       Duration heartbeat, List<List<String>> topicExpression, PublisherConfiguration configuration) {
     if (configuration.isPublisherActive(klass)) {
+      if (configuration.isRedisBacked(klass)) {
+        final RedisQueueConsumer redisQueueConsumer = new RedisQueueConsumer(klass, heartbeat, topicExpression);
+        injector.injectMembers(redisQueueConsumer);
+        return redisQueueConsumer;
+      }
       final MongoQueueConsumer mongoQueueConsumer = new MongoQueueConsumer(klass, heartbeat, topicExpression);
       injector.injectMembers(mongoQueueConsumer);
       return mongoQueueConsumer;
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.queue.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.queue.Queuable;
+import io.harness.redis.RedisConfig;
+import io.harness.stream.redisson.RedissonFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Owns the redisson client shared by the redis backed queues and the layout of their keys. Every queue keeps its
+ * messages in a hash by id and one sorted set of ids per topic scored by earliestGet, which gives the same semantic
+ * as the earliestGet ordering of the mongo queues. All the keys of a queue share the queue name as hash tag, so the
+ * scripts and transactions that span them work on a redis cluster too.
+ *
+ * <p>Redis streams are not used on purpose: a message in a stream cannot be delivered later than it was added, while
+ * the queues rely on earliestGet for delayed sends, for requeue with a later earliestGet and for the heartbeat that
+ * keeps a taken message from being handed out again. XCLAIM only covers the last of these, and by idle time rather
+ * than by a deadline the consumer moves ahead.
+ */
+@OwnedBy(PL)
+@Singleton
+public class RedisQueueClient {
+  private static final String QUEUE_PREFIX = "queue";
+
+  private final RedissonClient client;
+  private final String namespace;
+
+  @Inject
+  RedisQueueClient(@Named("lock") RedisConfig redisConfig) {
+    this(RedissonFactory.getRedissonClient(redisConfig), redisConfig.getEnvNamespace());
+  }
+
+  RedisQueueClient(RedissonClient client, String envNamespace) {
+    this.client = client;
+    this.namespace = isEmpty(envNamespace) ? QUEUE_PREFIX : envNamespace + ":" + QUEUE_PREFIX;
+  }
+
+  RedissonClient getClient() {
+    return client;
+  }
+
+  // Keeps every key of the queue in the same cluster slot
+  private String prefix(String name) {
+    return namespace + ":{" + name + "}";
+  }
+
+  String messagesKey(String name) {
+    return prefix(name) + ":messages";
+  }
+
+  <T extends Queuable> RMap<String, T> messages(String name) {
+    return client.getMap(messagesKey(name));
+  }
+
+  String scheduleKey(String name, String topic) {
+    return prefix(name) + ":schedule:" + (topic == null ? "" : topic);
+  }
+
+  RScoredSortedSet<String> schedule(String name, String topic) {
+    return client.getScoredSortedSet(scheduleKey(name, topic), StringCodec.INSTANCE);
+  }
+
+  /**
+   * A batch that is executed as a single MULTI/EXEC transaction, for the writes that have to change the message and
+   * its schedule together.
+   */
+  RBatch transaction() {
+    return client.createBatch(BatchOptions.defaults().executionMode(ExecutionMode.IN_MEMORY_ATOMIC));
+  }
+
+  RTopic signal(String name) {
+    return client.getTopic(namespace + ":" + name + ":signal", StringCodec.INSTANCE);
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.queue.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.govern.Switch.unhandled;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.UnexpectedException;
+import io.harness.queue.Queuable;
+import io.harness.queue.QueueConsumer;
+import io.harness.queue.TopicUtils;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Redis counterpart of {@link io.harness.mongo.queue.MongoQueueConsumer}. A message is taken by atomically moving its
+ * earliestGet one heartbeat ahead, exactly as the mongo findAndModify does, so heartbeat, requeue and the recovery of
+ * abandoned messages behave the same. Consumers are woken up by a pub/sub signal from the publishers instead of
+ * waiting for the next poll.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisQueueConsumer<T extends Queuable> implements QueueConsumer<T> {
+  // Picks the message with the lowest earliestGet that is due across all the topic schedules and pushes it
+  // one heartbeat ahead
+  private static final String CLAIM_SCRIPT = "local bestKey, bestId, bestScore\n"
+      + "for _, key in ipairs(KEYS) do\n"
+      + "  local due = redis.call('zrangebyscore', key, '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, 1)\n"
+      + "  if #due > 0 and (bestScore == nil or tonumber(due[2]) < bestScore) then\n"
+      + "    bestKey = key; bestId = due[1]; bestScore = tonumber(due[2])\n"
+      + "  end\n"
+      + "end\n"
+      + "if bestId == nil then return nil end\n"
+      + "redis.call('zadd', bestKey, ARGV[2], bestId)\n"
+      + "return bestId";
+
+  private static final String HEARTBEAT_SCRIPT = "if redis.call('zscore', KEYS[1], ARGV[2]) then\n"
+      + "  redis.call('zadd', KEYS[1], ARGV[1], ARGV[2])\n"
+      + "  return 1\n"
+      + "end\n"
+      + "return 0";
+
+  private final Class<T> klass;
+  @Setter private Duration heartbeat;
+  private final List<String> topics;
+
+  @Inject private RedisQueueClient redisQueueClient;
+
+  private final AtomicLong signals = new AtomicLong();
+  private volatile boolean subscribed;
+
+  public RedisQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
+    Objects.requireNonNull(klass);
+    this.klass = klass;
+    this.heartbeat = heartbeat;
+    List<String> resolved = TopicUtils.resolveExpressionIntoListOfTopics(topicExpression);
+    this.topics = isEmpty(resolved) ? Collections.singletonList(null) : resolved;
+  }
+
+  @Override
+  public T get(Duration wait, Duration poll) {
+    subscribe();
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    while (true) {
+      long observed = signals.get();
+      T message = claim();
+      if (message != null) {
+        return message;
+      }
+
+      long remaining = endTime - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return null;
+      }
+
+      try {
+        synchronized (signals) {
+          // A signal that arrived while we were claiming means there is something new to look at
+          if (signals.get() == observed) {
+            signals.wait(Math.max(1, Math.min(poll.toMillis(), remaining)));
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+  }
+
+  private void subscribe() {
+    if (subscribed) {
+      return;
+    }
+    synchronized (this) {
+      if (!subscribed) {
+        redisQueueClient.signal(getName()).addListener(String.class, (channel, topic) -> {
+          if (!topics.contains(isEmpty(topic) ? null : topic)) {
+            return;
+          }
+          synchronized (signals) {
+            signals.incrementAndGet();
+            signals.notifyAll();
+          }
+        });
+        subscribed = true;
+      }
+    }
+  }
+
+  private T claim() {
+    List<Object> keys = topics.stream().map(topic -> redisQueueClient.scheduleKey(getName(), topic)).collect(toList());
+    RMap<String, T> messages = redisQueueClient.messages(getName());
+    while (true) {
+      long now = System.currentTimeMillis();
+      long earliestGet = now + heartbeat().toMillis();
+      String id = redisQueueClient.getClient().getScript(StringCodec.INSTANCE).eval(Mode.READ_WRITE, CLAIM_SCRIPT,
+          ReturnType.VALUE, keys, String.valueOf(now), String.valueOf(earliestGet));
+      if (id == null) {
+        return null;
+      }
+
+      T message = messages.get(id);
+      if (message != null) {
+        message.setEarliestGet(new Date(earliestGet));
+        return message;
+      }
+
+      // The message was acked in between, drop the stale schedule entry and look for the next one
+      topics.forEach(topic -> redisQueueClient.schedule(getName(), topic).remove(id));
+    }
+  }
+
+  @Override
+  public void updateHeartbeat(T message) {
+    Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
+
+    Long updated = redisQueueClient.getClient().getScript(StringCodec.INSTANCE).eval(Mode.READ_WRITE, HEARTBEAT_SCRIPT,
+        ReturnType.INTEGER, Collections.singletonList(redisQueueClient.scheduleKey(getName(), message.getTopic())),
+        String.valueOf(earliestGet.getTime()), message.getId());
+    if (updated != null && updated == 1) {
+      message.setEarliestGet(earliestGet);
+      return;
+    }
+
+    log.error("Update heartbeat failed for {}", message.getId());
+  }
+
+  @Override
+  public long count(final Filter filter) {
+    double now = System.currentTimeMillis();
+    switch (filter) {
+      case ALL:
+        return redisQueueClient.messages(getName()).size();
+      case RUNNING:
+        return topics.stream()
+            .mapToLong(topic
+                -> redisQueueClient.schedule(getName(), topic).count(now, false, Double.POSITIVE_INFINITY, true))
+            .sum();
+      case NOT_RUNNING:
+        return topics.stream()
+            .mapToLong(topic
+                -> redisQueueClient.schedule(getName(), topic).count(Double.NEGATIVE_INFINITY, true, now, true))
+            .sum();
+      default:
+        unhandled(filter);
+    }
+    throw new UnexpectedException(format("Unknown filter type %s", filter));
+  }
+
+  @Override
+  public void ack(final T message) {
+    log.debug("Queue event consumer msg: [{}]", message);
+    Objects.requireNonNull(message);
+    RBatch transaction = redisQueueClient.transaction();
+    transaction.getMap(redisQueueClient.messagesKey(getName())).fastRemoveAsync(message.getId());
+    transaction.getScoredSortedSet(redisQueueClient.scheduleKey(getName(), message.getTopic()), StringCodec.INSTANCE)
+        .removeAsync(message.getId());
+    transaction.execute();
+  }
+
+  @Override
+  public void requeue(final String id, int retries) {
+    requeue(id, retries, new Date());
+  }
+
+  @Override
+  public void requeue(final String id, final int retries, final Date earliestGet) {
+    Objects.requireNonNull(id);
+    Objects.requireNonNull(earliestGet);
+
+    RMap<String, T> messages = redisQueueClient.messages(getName());
+    T message = messages.get(id);
+    if (message == null) {
+      log.warn("Requeue of {} ignored, the message is not in the queue any more", id);
+      return;
+    }
+    message.setRetries(retries);
+    message.setEarliestGet(earliestGet);
+    RBatch transaction = redisQueueClient.transaction();
+    transaction.<String, T>getMap(redisQueueClient.messagesKey(getName())).fastPutAsync(id, message);
+    transaction.getScoredSortedSet(redisQueueClient.scheduleKey(getName(), message.getTopic()), StringCodec.INSTANCE)
+        .addAsync(earliestGet.getTime(), id);
+    transaction.execute();
+    redisQueueClient.signal(getName()).publishAsync(message.getTopic() == null ? "" : message.getTopic());
+  }
+
+  @Override
+  public Duration heartbeat() {
+    return heartbeat;
+  }
+
+  @Override
+  public String getName() {
+    return klass.getSimpleName();
+  }
+}
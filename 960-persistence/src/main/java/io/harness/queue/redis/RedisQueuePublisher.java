@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.queue.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.manage.GlobalContextManager.obtainGlobalContext;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.queue.Queuable;
+import io.harness.queue.QueuePublisher;
+import io.harness.queue.TopicUtils;
+
+import com.google.inject.Inject;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.client.codec.StringCodec;
+
+@OwnedBy(PL)
+@Slf4j
+public class RedisQueuePublisher<T extends Queuable> implements QueuePublisher<T> {
+  @Getter private final String name;
+  @Getter private final String topicPrefix;
+
+  @Inject private RedisQueueClient redisQueueClient;
+
+  public RedisQueuePublisher(String name, List<String> topicPrefixElements) {
+    this.name = name;
+    topicPrefix = TopicUtils.combineElements(topicPrefixElements);
+  }
+
+  private void store(T payload) {
+    if (payload.getId() == null) {
+      payload.setId(generateUuid());
+    }
+    payload.setGlobalContext(obtainGlobalContext());
+
+    // Same as insertIgnoringDuplicateKeys, a message that is already in the queue is not touched
+    RBatch transaction = redisQueueClient.transaction();
+    transaction.<String, T>getMap(redisQueueClient.messagesKey(name)).fastPutIfAbsentAsync(payload.getId(), payload);
+    transaction.<String>getScoredSortedSet(redisQueueClient.scheduleKey(name, payload.getTopic()), StringCodec.INSTANCE)
+        .tryAddAsync(payload.getEarliestGet().getTime(), payload.getId());
+    if (Boolean.TRUE.equals(transaction.execute().getResponses().get(0))) {
+      // Wake up the waiting consumers right away rather than at their next poll
+      redisQueueClient.signal(name).publishAsync(payload.getTopic() == null ? "" : payload.getTopic());
+    }
+    log.debug("Notification saved [{}]", payload);
+  }
+
+  @Override
+  public void send(final T payload) {
+    Objects.requireNonNull(payload);
+    payload.setTopic(topicPrefix);
+    store(payload);
+  }
+
+  @Override
+  public void send(List<String> additionalTopicElements, final T payload) {
+    Objects.requireNonNull(payload);
+    payload.setTopic(TopicUtils.appendElements(topicPrefix, additionalTopicElements));
+    store(payload);
+  }
+}
@@ -33,7 +33,7 @@ import org.redisson.config.ReadMode;
 @UtilityClass
 @Slf4j
 public class RedissonFactory {
-  static RedissonClient getRedissonClient(RedisConfig redisConfig) {
+  public static RedissonClient getRedissonClient(RedisConfig redisConfig) {
     Config config = new Config();
     if (!redisConfig.isSentinel()) {
       config.useSingleServer().setAddress(redisConfig.getRedisUrl());
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timescaledb;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes rows in the csv format of COPY. Nulls are written as unquoted empty values, which COPY reads as null, and
+ * every other value is quoted so that it can hold any character. Timestamps are written in UTC.
+ */
+@UtilityClass
+class CopyRowEncoder {
+  private static final char DELIMITER = ',';
+  private static final char QUOTE = '"';
+
+  void encode(Object[] row, StringBuilder builder) {
+    for (int i = 0; i < row.length; i++) {
+      if (i > 0) {
+        builder.append(DELIMITER);
+      }
+      if (row[i] != null) {
+        appendQuoted(toText(row[i]), builder);
+      }
+    }
+    builder.append('\n');
+  }
+
+  private String toText(Object value) {
+    if (value instanceof Timestamp) {
+      return ((Timestamp) value).toInstant().toString();
+    }
+    if (value instanceof OffsetDateTime) {
+      return ((OffsetDateTime) value).toInstant().toString();
+    }
+    if (value instanceof Instant) {
+      return value.toString();
+    }
+    if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).toPlainString();
+    }
+    return value.toString();
+  }
+
+  private void appendQuoted(String text, StringBuilder builder) {
+    builder.append(QUOTE);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == QUOTE) {
+        builder.append(QUOTE);
+      }
+      builder.append(c);
+    }
+    builder.append(QUOTE);
+  }
+}
@@ -11,12 +11,21 @@ import io.harness.health.HealthMonitor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 public interface TimeScaleDBService extends HealthMonitor {
   Connection getDBConnection() throws SQLException;
 
   TimeScaleDBConfig getTimeScaleDBConfig();
 
+  /**
+   * Inserts the rows into the table with INSERT ... ON CONFLICT DO NOTHING semantics, streaming them with COPY into a
+   * temporary staging table and merging that into the table with a single statement. Much faster than batched inserts
+   * for large numbers of rows. Each row holds the values of the columns in order.
+   * @return the number of rows inserted
+   */
+  long bulkInsert(String tableName, List<String> columns, Iterable<Object[]> rows) throws SQLException;
+
   /**
    * Temporary method to check if db is available. Will be deprecated once this is available everywhere and TimeScaleDB
    * is mandatory
@@ -18,19 +18,26 @@ import com.google.common.base.Strings;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.jayway.jsonpath.internal.Utils;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbcp.BasicDataSource;
+import org.apache.commons.dbcp.DelegatingConnection;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 
 @Singleton
 @Slf4j
 public class TimeScaleDBServiceImpl implements TimeScaleDBService {
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
   private TimeScaleDBConfig timeScaleDBConfig;
   private boolean validDB;
   private BasicDataSource ds = new BasicDataSource();
@@ -97,6 +104,8 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
     ds.setPassword(config.getTimescaledbPassword());
     ds.setMinIdle(0);
     ds.setMaxIdle(10);
+    // Needed to reach the copy api of the postgres connection
+    ds.setAccessToUnderlyingConnectionAllowed(true);
 
     ds.addConnectionProperty(
         TimeScaleDBConfigFields.connectTimeout, String.valueOf(timeScaleDBConfig.getConnectTimeout()));
@@ -133,6 +142,59 @@ public class TimeScaleDBServiceImpl implements TimeScaleDBService {
     return ds.getConnection();
   }
 
+  @Override
+  public long bulkInsert(String tableName, List<String> columns, Iterable<Object[]> rows) throws SQLException {
+    String columnList = String.join(", ", columns);
+    String stagingTableName = "STAGING_" + tableName;
+    try (Connection connection = getDBConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(format(
+            "CREATE TEMPORARY TABLE %s (LIKE %s INCLUDING DEFAULTS) ON COMMIT DROP", stagingTableName, tableName));
+        copyIn(connection, format("COPY %s (%s) FROM STDIN WITH (FORMAT csv)", stagingTableName, columnList), rows);
+        long insertedRows = statement.executeUpdate(format(
+            "INSERT INTO %s (%s) SELECT %s FROM %s ON CONFLICT DO NOTHING", tableName, columnList, columnList,
+            stagingTableName));
+        connection.commit();
+        return insertedRows;
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  private static void copyIn(Connection connection, String copySql, Iterable<Object[]> rows) throws SQLException {
+    Connection postgresConnection = connection instanceof DelegatingConnection
+        ? ((DelegatingConnection) connection).getInnermostDelegate()
+        : connection;
+    CopyIn copyIn = postgresConnection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    try {
+      StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+      for (Object[] row : rows) {
+        CopyRowEncoder.encode(row, buffer);
+        if (buffer.length() >= COPY_BUFFER_SIZE) {
+          writeToCopy(copyIn, buffer);
+        }
+      }
+      writeToCopy(copyIn, buffer);
+      copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
   @Override
   public Duration healthExpectedResponseTimeout() {
     return ofSeconds(20);
@@ -16,6 +16,7 @@ import static io.harness.rule.OwnerRule.GEORGE;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.joor.Reflect.on;
@@ -24,10 +25,12 @@ import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
 import io.harness.maintenance.MaintenanceGuard;
+import io.harness.mongo.EntityProcessController;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.mongo.iterator.provider.PersistenceProvider;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.QueueController;
 import io.harness.rule.Owner;
@@ -37,10 +40,16 @@ import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -165,4 +174,115 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBulkClaimLeasesEveryEntityOnce() {
+    long now = currentTimeMillis();
+    for (int i = 0; i < 5; i++) {
+      persistence.save(TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build());
+    }
+
+    List<TestRegularIterableEntity> first = persistenceProvider.obtainNextInstances(now, now,
+        TestRegularIterableEntity.class, RegularIterableEntityKeys.nextIteration, REGULAR, ofSeconds(10), null, 3);
+    List<TestRegularIterableEntity> second = persistenceProvider.obtainNextInstances(now, now,
+        TestRegularIterableEntity.class, RegularIterableEntityKeys.nextIteration, REGULAR, ofSeconds(10), null, 3);
+    List<TestRegularIterableEntity> third = persistenceProvider.obtainNextInstances(now, now,
+        TestRegularIterableEntity.class, RegularIterableEntityKeys.nextIteration, REGULAR, ofSeconds(10), null, 3);
+
+    assertThat(first).hasSize(3);
+    assertThat(second).hasSize(2);
+    assertThat(third).isEmpty();
+    assertThat(first).extracting(TestRegularIterableEntity::getUuid)
+        .doesNotContainAnyElementsOf(second.stream().map(TestRegularIterableEntity::getUuid).collect(toList()));
+    assertThat(persistence.createQuery(TestRegularIterableEntity.class)
+                   .disableValidation()
+                   .field(PersistenceProvider.leaseFieldName(RegularIterableEntityKeys.nextIteration))
+                   .exists()
+                   .count())
+        .isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBulkClaimHandlesTheRestOfTheBatchWhenOneEntityFails() throws Exception {
+    long now = currentTimeMillis();
+    List<String> uuids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String uuid = generateUuid();
+      persistence.save(TestRegularIterableEntity.builder().uuid(uuid).nextIteration(now - 1000).build());
+      uuids.add(uuid);
+    }
+    String failing = uuids.get(0);
+
+    Set<String> handled = ConcurrentHashMap.newKeySet();
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        iterator(PUMP);
+    on(iterator).set("claimBatchSize", 3);
+    on(iterator).set("entityProcessController", (EntityProcessController<TestRegularIterableEntity>) entity -> {
+      if (failing.equals(entity.getUuid())) {
+        throw new IllegalStateException("failing entity");
+      }
+      return true;
+    });
+    on(iterator).set("handler", (Handler<TestRegularIterableEntity>) entity -> handled.add(entity.getUuid()));
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      executorService.submit(iterator::process).get(10, TimeUnit.SECONDS);
+      Poller.pollFor(ofSeconds(5), ofMillis(10), () -> handled.size() == 2);
+      assertThat(handled).containsExactlyInAnyOrder(uuids.get(1), uuids.get(2));
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBulkClaimLeasesOnlyWhatTheHandlersCanTake() throws Exception {
+    long now = currentTimeMillis();
+    List<String> uuids = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      String uuid = generateUuid();
+      persistence.save(TestRegularIterableEntity.builder().uuid(uuid).nextIteration(now - 1000).build());
+      uuids.add(uuid);
+    }
+
+    CountDownLatch handlersReleased = new CountDownLatch(1);
+    AtomicInteger handled = new AtomicInteger();
+    Semaphore semaphore = new Semaphore(2);
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        iterator(PUMP);
+    on(iterator).set("claimBatchSize", 5);
+    on(iterator).set("semaphore", semaphore);
+    on(iterator).set("handler", (Handler<TestRegularIterableEntity>) entity -> {
+      try {
+        handlersReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      handled.incrementAndGet();
+    });
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      Future<?> pump = executorService.submit(iterator::process);
+
+      Poller.pollFor(ofSeconds(5), ofMillis(10), () -> countLeased(uuids, now) == 2);
+      Morpheus.sleep(ofMillis(300));
+      assertThat(countLeased(uuids, now)).isEqualTo(2);
+      assertThat(semaphore.availablePermits()).isZero();
+
+      handlersReleased.countDown();
+      pump.get(10, TimeUnit.SECONDS);
+      Poller.pollFor(ofSeconds(5), ofMillis(10), () -> handled.get() == 5);
+      assertThat(semaphore.availablePermits()).isEqualTo(2);
+    }
+  }
+
+  private long countLeased(List<String> uuids, long now) {
+    return uuids.stream()
+        .map(uuid -> persistence.get(TestRegularIterableEntity.class, uuid))
+        .filter(entity -> entity.getNextIteration() > now)
+        .count();
+  }
 }
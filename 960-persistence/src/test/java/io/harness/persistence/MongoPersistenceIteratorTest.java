@@ -12,10 +12,14 @@ import static io.harness.rule.OwnerRule.GEORGE;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofMinutes;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.iterator.PersistenceIterator.ProcessMode;
 import io.harness.iterator.PersistentIterable;
+import io.harness.mongo.iterator.IteratorChangeStreamWatcher;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.rule.Owner;
@@ -127,4 +131,48 @@ public class MongoPersistenceIteratorTest extends PersistenceTestBase {
             .build();
     assertThat(iterator.calculateSleepDuration(testPersistentIterable)).isEqualTo(maximumDelayForCheck);
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCalculateSleepDurationBeyondMaximumDelayForCheckWhenWatching() {
+    IteratorChangeStreamWatcher changeStreamWatcher = mock(IteratorChangeStreamWatcher.class);
+    when(changeStreamWatcher.isWatching(TestPersistentIterable.class, "nextIteration")).thenReturn(true);
+    MongoPersistenceIterator<TestPersistentIterable, MorphiaFilterExpander<TestPersistentIterable>> iterator =
+        MongoPersistenceIterator.<TestPersistentIterable, MorphiaFilterExpander<TestPersistentIterable>>builder()
+            .mode(ProcessMode.REACTIVE)
+            .clazz(TestPersistentIterable.class)
+            .fieldName("nextIteration")
+            .targetInterval(targetInterval)
+            .maximumDelayForCheck(maximumDelayForCheck)
+            .changeStreamWatcher(changeStreamWatcher)
+            .build();
+
+    assertThat(iterator.calculateSleepDuration(null)).isGreaterThan(maximumDelayForCheck);
+
+    TestPersistentIterable testPersistentIterable =
+        TestPersistentIterable.builder()
+            .nextIteration(currentTimeMillis() + maximumDelayForCheck.toMillis() + 10000)
+            .build();
+    assertThat(iterator.calculateSleepDuration(testPersistentIterable)).isGreaterThan(maximumDelayForCheck);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFallbackToMaximumDelayForCheckWhenStreamIsLost() {
+    IteratorChangeStreamWatcher changeStreamWatcher = mock(IteratorChangeStreamWatcher.class);
+    when(changeStreamWatcher.isWatching(TestPersistentIterable.class, "nextIteration")).thenReturn(false);
+    MongoPersistenceIterator<TestPersistentIterable, MorphiaFilterExpander<TestPersistentIterable>> iterator =
+        MongoPersistenceIterator.<TestPersistentIterable, MorphiaFilterExpander<TestPersistentIterable>>builder()
+            .mode(ProcessMode.REACTIVE)
+            .clazz(TestPersistentIterable.class)
+            .fieldName("nextIteration")
+            .targetInterval(targetInterval)
+            .maximumDelayForCheck(maximumDelayForCheck)
+            .changeStreamWatcher(changeStreamWatcher)
+            .build();
+
+    assertThat(iterator.calculateSleepDuration(null)).isEqualTo(maximumDelayForCheck);
+  }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.queue.redis;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.queue.TestTopicQueuableObject;
+import io.harness.rule.Owner;
+
+import org.joor.Reflect;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchOptions.ExecutionMode;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+public class RedisQueueConsumerTest extends CategoryTest {
+  private RedissonClient client;
+  private RScript script;
+  private RMap<String, TestTopicQueuableObject> messages;
+  private RScoredSortedSet<String> schedule;
+  private RMapAsync<Object, Object> transactionMessages;
+  private RScoredSortedSetAsync<Object> transactionSchedule;
+  private RedisQueueConsumer<TestTopicQueuableObject> consumer;
+
+  @Before
+  public void setUp() {
+    client = mock(RedissonClient.class);
+    script = mock(RScript.class);
+    messages = mock(RMap.class);
+    schedule = mock(RScoredSortedSet.class);
+    when(client.getScript(any(Codec.class))).thenReturn(script);
+    when(client.<String, TestTopicQueuableObject>getMap(anyString())).thenReturn(messages);
+    when(client.<String>getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(schedule);
+    when(client.getTopic(anyString(), any(Codec.class))).thenReturn(mock(RTopic.class));
+    RBatch transaction = mock(RBatch.class);
+    transactionMessages = mock(RMapAsync.class);
+    transactionSchedule = mock(RScoredSortedSetAsync.class);
+    when(client.createBatch(any(BatchOptions.class))).thenReturn(transaction);
+    when(transaction.getMap(anyString())).thenReturn(transactionMessages);
+    when(transaction.getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(transactionSchedule);
+
+    consumer = new RedisQueueConsumer<>(TestTopicQueuableObject.class, ofSeconds(5), null);
+    Reflect.on(consumer).set("redisQueueClient", new RedisQueueClient(client, "test"));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldTakeDueMessageAndMoveItOneHeartbeatAhead() {
+    TestTopicQueuableObject message = new TestTopicQueuableObject(1);
+    message.setId("id");
+    when(script.eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.VALUE), anyList(), any(), any()))
+        .thenReturn("id");
+    when(messages.get("id")).thenReturn(message);
+
+    long before = System.currentTimeMillis();
+    assertThat(consumer.get(ofSeconds(1), ofMillis(10))).isSameAs(message);
+    assertThat(message.getEarliestGet().getTime()).isGreaterThanOrEqualTo(before + ofSeconds(5).toMillis());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropScheduleEntriesOfAckedMessages() {
+    when(script.eval(eq(Mode.READ_WRITE), anyString(), eq(ReturnType.VALUE), anyList(), any(), any()))
+        .thenReturn("gone")
+        .thenReturn(null);
+
+    assertThat(consumer.get(ofMillis(20), ofMillis(10))).isNull();
+    verify(schedule).remove("gone");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRemoveAckedMessage() {
+    TestTopicQueuableObject message = new TestTopicQueuableObject(1);
+    message.setId("id");
+
+    consumer.ack(message);
+
+    ArgumentCaptor<BatchOptions> batchOptions = ArgumentCaptor.forClass(BatchOptions.class);
+    verify(client).createBatch(batchOptions.capture());
+    assertThat(batchOptions.getValue().getExecutionMode()).isEqualTo(ExecutionMode.IN_MEMORY_ATOMIC);
+    verify(transactionMessages).fastRemoveAsync("id");
+    verify(transactionSchedule).removeAsync("id");
+    assertThat(consumer.getName()).isEqualTo(TestTopicQueuableObject.class.getSimpleName());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldKeepKeysOfQueueInOneClusterSlot() {
+    RedisQueueClient redisQueueClient = new RedisQueueClient(client, "test");
+
+    assertThat(redisQueueClient.messagesKey("TestTopicQueuableObject"))
+        .isEqualTo("test:queue:{TestTopicQueuableObject}:messages");
+    assertThat(redisQueueClient.scheduleKey("TestTopicQueuableObject", "topic"))
+        .isEqualTo("test:queue:{TestTopicQueuableObject}:schedule:topic");
+    assertThat(redisQueueClient.scheduleKey("TestTopicQueuableObject", null))
+        .isEqualTo("test:queue:{TestTopicQueuableObject}:schedule:");
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timescaledb;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class CopyRowEncoderTest extends CategoryTest {
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void shouldEncodeRowAsCsv() {
+    StringBuilder builder = new StringBuilder();
+    CopyRowEncoder.encode(new Object[] {Timestamp.from(Instant.parse("2022-01-02T03:04:05.678Z")), "account", null,
+                              1.5d, new BigDecimal("1E-10"), ""},
+        builder);
+    CopyRowEncoder.encode(new Object[] {"a \"quoted\", multi\nline value"}, builder);
+
+    assertThat(builder.toString())
+        .isEqualTo("\"2022-01-02T03:04:05.678Z\",\"account\",,\"1.5\",\"0.0000000001\",\"\"\n"
+            + "\"a \"\"quoted\"\", multi\nline value\"\n");
+  }
+}
@@ -14,6 +14,8 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -29,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,10 +53,14 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Resolved once so that reading and writing the field does not go through reflective access checks on every call
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    discoverAccessors();
     persistedClass = clazz;
     realType = field.getType();
     genericType = field.getGenericType();
@@ -344,7 +351,30 @@ public class CastedField {
     return !isSingleValue;
   }
 
+  private void discoverAccessors() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field);
+    } catch (IllegalAccessException e) {
+      log.debug("Falling back to reflective read access for {}", getFullName(), e);
+    }
+    try {
+      setter = lookup.unreflectSetter(field);
+    } catch (IllegalAccessException e) {
+      log.debug("Falling back to reflective write access for {}", getFullName(), e);
+    }
+  }
+
   public Object getFieldValue(final Object instance) {
+    if (getter != null) {
+      try {
+        return getter.invoke(instance);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new RuntimeException(t);
+      }
+    }
     try {
       return field.get(instance);
     } catch (IllegalAccessException e) {
@@ -353,6 +383,19 @@ public class CastedField {
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter != null) {
+      try {
+        setter.invoke(instance, value);
+        return;
+      } catch (ClassCastException | NullPointerException e) {
+        // The handle is stricter than reflection about boxing and widening, let the reflective path below decide
+        log.debug("Setting {} through its method handle failed, retrying reflectively", getFullName(), e);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new RuntimeException(t);
+      }
+    }
     try {
       field.set(instance, value);
     } catch (IllegalAccessException e) {
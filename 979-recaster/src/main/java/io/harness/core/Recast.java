@@ -49,6 +49,7 @@ public class Recast {
         if (!recaster.isCasted(entityClass)) {
           recaster.addCastedClass(entityClass);
         }
+        recaster.getCodec(entityClass);
       }
     }
     return this;
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedField;
+import io.harness.beans.RecasterMap;
+import io.harness.exceptions.CastedFieldException;
+import io.harness.fieldrecaster.FieldRecaster;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Conversion plan for a single class. Everything {@link Recaster} used to look up on every conversion - whether the
+ * class has a custom transformer, is a map or a collection, and which {@link FieldRecaster} handles each field - is
+ * resolved once when the codec is built. Codecs are cached per class by the {@link Recaster} and dropped whenever a
+ * transformer is added, as that may change the resolution.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+class RecastCodec {
+  enum Kind { CUSTOM, MAP, COLLECTION, FIELDS }
+
+  private final Class<?> clazz;
+  private final Kind kind;
+  private final CastedField[] fields;
+  private final FieldRecaster[] fieldRecasters;
+
+  private RecastCodec(Class<?> clazz, Kind kind, CastedField[] fields, FieldRecaster[] fieldRecasters) {
+    this.clazz = clazz;
+    this.kind = kind;
+    this.fields = fields;
+    this.fieldRecasters = fieldRecasters;
+  }
+
+  static RecastCodec compile(Recaster recaster, Class<?> clazz) {
+    Transformer transformer = recaster.getTransformer();
+    if (transformer.hasCustomTransformer(clazz)) {
+      return new RecastCodec(clazz, Kind.CUSTOM, new CastedField[0], new FieldRecaster[0]);
+    }
+    if (Map.class.isAssignableFrom(clazz)) {
+      return new RecastCodec(clazz, Kind.MAP, new CastedField[0], new FieldRecaster[0]);
+    }
+    if (Collection.class.isAssignableFrom(clazz)) {
+      return new RecastCodec(clazz, Kind.COLLECTION, new CastedField[0], new FieldRecaster[0]);
+    }
+
+    CastedField[] fields = recaster.getCastedClass(clazz).getPersistenceFields().toArray(new CastedField[0]);
+    FieldRecaster[] fieldRecasters = new FieldRecaster[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      // Annotation logic should be wired here
+      fieldRecasters[i] = transformer.hasSimpleValueTransformer(fields[i].getType())
+          ? recaster.getSimpleValueFieldRecaster()
+          : recaster.getDefaultFieldRecaster();
+    }
+    return new RecastCodec(clazz, Kind.FIELDS, fields, fieldRecasters);
+  }
+
+  Kind getKind() {
+    return kind;
+  }
+
+  void writeFields(Recaster recaster, Object entity, RecasterMap recasterMap) {
+    for (int i = 0; i < fields.length; i++) {
+      try {
+        fieldRecasters[i].toMap(recaster, entity, fields[i], recasterMap);
+      } catch (Exception e) {
+        throw new CastedFieldException(format("Cannot map [%s] to [%s] class for field [%s]",
+                                           recasterMap.getIdentifier(), clazz, fields[i].getField().getName()),
+            e);
+      }
+    }
+  }
+
+  void readFields(Recaster recaster, RecasterMap recasterMap, Object entity) {
+    for (int i = 0; i < fields.length; i++) {
+      try {
+        fieldRecasters[i].fromMap(recaster, recasterMap, fields[i], entity);
+      } catch (Exception e) {
+        throw new CastedFieldException(format("Cannot map [%s] to [%s] class for field [%s]",
+                                           recasterMap.getIdentifier(), clazz, fields[i].getField().getName()),
+            e);
+      }
+    }
+  }
+}
@@ -14,6 +14,8 @@ import io.harness.beans.RecasterMap;
 import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -53,6 +55,10 @@ public class RecastObjectCreator implements RecastObjectFactory {
   private <T> InstanceConstructor<T> makeInstanceConstructor(Class<T> clazz) {
     final Constructor<T> constructor = noArgsConstructorOrNull(clazz);
     if (constructor != null) {
+      final MethodHandle handle = constructorHandleOrNull(constructor);
+      if (handle != null) {
+        return () -> newInstance(handle, clazz);
+      }
       return () -> newInstance(constructor);
     }
     if (!Collection.class.isAssignableFrom(clazz)) {
@@ -163,6 +169,23 @@ public class RecastObjectCreator implements RecastObjectFactory {
     return createInstance(fallbackType);
   }
 
+  private static MethodHandle constructorHandleOrNull(Constructor<?> constructor) {
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T newInstance(MethodHandle handle, Class<T> clazz) {
+    try {
+      return (T) handle.invoke();
+    } catch (Throwable t) {
+      throw new RecasterException("The class constructor fail for " + clazz.getName(), t);
+    }
+  }
+
   private static <T> T newInstance(Constructor<T> constructor) {
     try {
       return constructor.newInstance();
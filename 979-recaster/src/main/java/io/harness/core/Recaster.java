@@ -13,9 +13,7 @@ import io.harness.annotation.RecasterAlias;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.CastedClass;
-import io.harness.beans.CastedField;
 import io.harness.beans.RecasterMap;
-import io.harness.exceptions.CastedFieldException;
 import io.harness.exceptions.RecasterException;
 import io.harness.fieldrecaster.ComplexFieldRecaster;
 import io.harness.fieldrecaster.FieldRecaster;
@@ -25,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,6 +35,7 @@ public class Recaster {
   public static final String ENCODED_VALUE = "__encodedValue";
 
   private final Map<String, CastedClass> castedClasses = new ConcurrentHashMap<>();
+  @Getter(AccessLevel.NONE) private final Map<Class<?>, RecastCodec> codecs = new ConcurrentHashMap<>();
   private final Transformer transformer;
   private final FieldRecaster defaultFieldRecaster;
   private final FieldRecaster simpleValueFieldRecaster;
@@ -72,6 +72,19 @@ public class Recaster {
     return castedClass;
   }
 
+  RecastCodec getCodec(Class<?> clazz) {
+    RecastCodec codec = codecs.get(clazz);
+    if (codec == null) {
+      codec = RecastCodec.compile(this, clazz);
+      codecs.put(clazz, codec);
+    }
+    return codec;
+  }
+
+  void invalidateCodecs() {
+    codecs.clear();
+  }
+
   public CastedClass getCastedClass(Object obj) {
     if (obj == null) {
       return null;
@@ -119,23 +132,19 @@ public class Recaster {
 
   @SuppressWarnings("unchecked")
   public <T> T fromMap(final RecasterMap recasterMap, T entity) {
-    if (transformer.hasCustomTransformer(entity.getClass())) {
-      entity = (T) transformer.decode(entity.getClass(), recasterMap, null);
-    } else if (entity instanceof Map) {
-      populateMapInternal(recasterMap, entity);
-    } else if (entity instanceof Collection) {
-      populateCollectionInternal(recasterMap, entity);
-    } else {
-      final CastedClass castedClass = getCastedClass(entity);
-      for (final CastedField cf : castedClass.getPersistenceFields()) {
-        try {
-          readCastedField(recasterMap, cf, entity);
-        } catch (final Exception e) {
-          throw new CastedFieldException(format("Cannot map [%s] to [%s] class for field [%s]",
-                                             recasterMap.getIdentifier(), entity.getClass(), cf.getField().getName()),
-              e);
-        }
-      }
+    RecastCodec codec = getCodec(entity.getClass());
+    switch (codec.getKind()) {
+      case CUSTOM:
+        entity = (T) transformer.decode(entity.getClass(), recasterMap, null);
+        break;
+      case MAP:
+        populateMapInternal(recasterMap, entity);
+        break;
+      case COLLECTION:
+        populateCollectionInternal(recasterMap, entity);
+        break;
+      default:
+        codec.readFields(this, recasterMap, entity);
     }
 
     return entity;
@@ -177,49 +186,27 @@ public class Recaster {
     }
   }
 
-  private void readCastedField(final RecasterMap recasterMap, final CastedField cf, final Object entity) {
-    // Annotation logic should be wired here
-    if (transformer.hasSimpleValueTransformer(cf.getType())) {
-      simpleValueFieldRecaster.fromMap(this, recasterMap, cf, entity);
-    } else {
-      defaultFieldRecaster.fromMap(this, recasterMap, cf, entity);
-    }
-  }
-
   public Map<String, Object> toMap(Object entity) {
     if (entity == null) {
       return null;
     }
 
     final RecasterMap recasterMap = new RecasterMap();
-    final CastedClass cc = getCastedClass(entity);
+    final RecastCodec codec = getCodec(entity.getClass());
 
     recasterMap.setIdentifier(entity.getClass());
 
-    if (transformer.hasCustomTransformer(entity.getClass())) {
-      Object encode = transformer.encode(entity);
-      return recasterMap.append(ENCODED_VALUE, encode);
-    }
-
-    if (entity instanceof Map) {
-      return writeMapInternal(recasterMap, entity);
-    }
-
-    if (entity instanceof Collection) {
-      return writeCollectionInternal(recasterMap, entity);
-    }
-
-    for (final CastedField cf : cc.getPersistenceFields()) {
-      try {
-        writeCastedField(entity, cf, recasterMap);
-      } catch (Exception e) {
-        throw new CastedFieldException(format("Cannot map [%s] to [%s] class for field [%s]",
-                                           recasterMap.getIdentifier(), entity.getClass(), cf.getField().getName()),
-            e);
-      }
+    switch (codec.getKind()) {
+      case CUSTOM:
+        return recasterMap.append(ENCODED_VALUE, transformer.encode(entity));
+      case MAP:
+        return writeMapInternal(recasterMap, entity);
+      case COLLECTION:
+        return writeCollectionInternal(recasterMap, entity);
+      default:
+        codec.writeFields(this, entity, recasterMap);
+        return recasterMap;
     }
-
-    return recasterMap;
   }
 
   private Map<String, Object> writeMapInternal(RecasterMap recasterMap, Object entity) {
@@ -243,13 +230,4 @@ public class Recaster {
     recasterMap.setEncodedValue(encoded);
     return recasterMap;
   }
-
-  private void writeCastedField(Object entity, CastedField cf, RecasterMap recasterMap) {
-    // Annotation logic should be wired here
-    if (transformer.hasSimpleValueTransformer(cf.getType())) {
-      simpleValueFieldRecaster.toMap(this, entity, cf, recasterMap);
-    } else {
-      defaultFieldRecaster.toMap(this, entity, cf, recasterMap);
-    }
-  }
 }
@@ -51,6 +51,9 @@ public abstract class Transformer {
       untypedTypeTransformers.add(recastTransformer);
     }
     recastTransformer.setRecaster(recaster);
+    if (recaster != null) {
+      recaster.invalidateCodecs();
+    }
   }
 
   private void addTypedConverter(final Class<?> type, final RecastTransformer rc) {
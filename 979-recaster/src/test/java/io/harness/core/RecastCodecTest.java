@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedField;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.CustomValueTransformer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class RecastCodecTest extends RecasterTestBase {
+  private Recaster recaster;
+
+  @Before
+  public void setup() {
+    recaster = new Recaster(RecasterOptions.builder().workWithMaps(true).build());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCompileCodecOnceWhenClassIsMapped() {
+    new Recast(recaster, ImmutableSet.of(DummyParameters.class));
+
+    RecastCodec codec = recaster.getCodec(DummyParameters.class);
+    assertThat(codec.getKind()).isEqualTo(RecastCodec.Kind.FIELDS);
+    assertThat(recaster.getCodec(DummyParameters.class)).isSameAs(codec);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRoundTripFinalAndPrimitiveFields() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyParameters.class));
+    DummyParameters parameters =
+        DummyParameters.builder().name("step").timeout(10).retries(3).inner(new DummyInner("value")).build();
+
+    Map<String, Object> document = recast.toMap(parameters);
+    assertThat(document.get("name")).isEqualTo("step");
+    assertThat(document.get("timeout")).isEqualTo(10L);
+
+    DummyParameters recasted = recast.fromMap(document, DummyParameters.class);
+    assertThat(recasted).isEqualTo(parameters);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRecompileCodecsWhenTransformerIsAdded() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyInner.class));
+    assertThat(recaster.getCodec(DummyInner.class).getKind()).isEqualTo(RecastCodec.Kind.FIELDS);
+
+    recast.addTransformer(new DummyInnerTransformer());
+
+    assertThat(recaster.getCodec(DummyInner.class).getKind()).isEqualTo(RecastCodec.Kind.CUSTOM);
+    Map<String, Object> document = recast.toMap(new DummyInner("value"));
+    assertThat(document.get(Recaster.ENCODED_VALUE)).isEqualTo("value");
+    assertThat(recast.fromMap(document, DummyInner.class)).isEqualTo(new DummyInner("value"));
+  }
+
+  @Value
+  @Builder
+  private static class DummyParameters {
+    String name;
+    long timeout;
+    Integer retries;
+    DummyInner inner;
+  }
+
+  @Value
+  @NoArgsConstructor(force = true)
+  @AllArgsConstructor
+  private static class DummyInner {
+    String value;
+  }
+
+  private static class DummyInnerTransformer extends RecastTransformer implements CustomValueTransformer {
+    DummyInnerTransformer() {
+      super(ImmutableList.of(DummyInner.class));
+    }
+
+    @Override
+    public Object decode(Class<?> targetClass, Object fromObject, CastedField castedField) {
+      return new DummyInner((String) ((Map<String, Object>) fromObject).get(Recaster.ENCODED_VALUE));
+    }
+
+    @Override
+    public Object encode(Object value, CastedField castedField) {
+      return ((DummyInner) value).getValue();
+    }
+  }
+}
@@ -13,7 +13,15 @@ import java.util.Map;
 
 public interface ActiveConfigValidator {
   default boolean isActive(Class cls, Map<String, Boolean> active) {
-    boolean flag = true;
+    return isActive(cls, active, true);
+  }
+
+  /**
+   * Looks the class up by its name and then by its packages, the most specific one winning. Classes that are not
+   * listed in any way get the given default.
+   */
+  default boolean isActive(Class cls, Map<String, Boolean> active, boolean unlisted) {
+    boolean flag = unlisted;
     if (isEmpty(active)) {
       return flag;
     }
@@ -17,10 +17,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PublisherConfiguration implements ActiveConfigValidator {
   @JsonProperty("active") Map<String, Boolean> active;
+  // Classes or packages whose queues are kept in redis instead of mongo, none unless listed
+  @JsonProperty("redisBacked") Map<String, Boolean> redisBacked;
+
   public boolean isPublisherActive(Class cls) {
     return isActive(cls, active);
   }
 
+  public boolean isRedisBacked(Class cls) {
+    return isActive(cls, redisBacked, false);
+  }
+
   public static PublisherConfiguration allOn() {
     return new PublisherConfiguration();
   }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of parsed jexl expressions and scripts. The same expressions are evaluated on every step of every
+ * execution, and parsing them is much more expensive than evaluating them. Compiled expressions and scripts are
+ * immutable and can be evaluated concurrently against different contexts.
+ *
+ * Expressions that fail to parse are not cached, the parse error is thrown to the caller every time. Neither are the
+ * expressions holding the internal variables of partial evaluations, their names are unique to each evaluation.
+ */
+@OwnedBy(PIPELINE)
+@UtilityClass
+public class CompiledExpressionCache {
+  private static final int MAX_EXPRESSIONS = 10000;
+  private static final int MAX_SCRIPTS = 2000;
+
+  private final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private final Cache<String, JexlExpression> expressions =
+      CacheBuilder.newBuilder().maximumSize(MAX_EXPRESSIONS).recordStats().build();
+  private final Cache<String, JexlScript> scripts =
+      CacheBuilder.newBuilder().maximumSize(MAX_SCRIPTS).recordStats().build();
+
+  public JexlExpression getExpression(String expression) {
+    return getOrCompile(expressions, expression, engine::createExpression);
+  }
+
+  public JexlScript getScript(String script) {
+    return getOrCompile(scripts, script, engine::createScript);
+  }
+
+  private <T> T getOrCompile(Cache<String, T> cache, String text, Function<String, T> compiler) {
+    String key = text.trim();
+    if (key.contains(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX)) {
+      // Partially evaluated expressions hold randomly named variables, so they are never seen again
+      return compiler.apply(key);
+    }
+    T compiled = cache.getIfPresent(key);
+    if (compiled == null) {
+      compiled = compiler.apply(key);
+      cache.put(key, compiled);
+    }
+    return compiled;
+  }
+
+  public CacheStats getExpressionStats() {
+    return expressions.stats();
+  }
+
+  public CacheStats getScriptStats() {
+    return scripts.stats();
+  }
+
+  @VisibleForTesting
+  void invalidateAll() {
+    expressions.invalidateAll();
+    scripts.invalidateAll();
+  }
+}
@@ -38,12 +38,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -60,14 +57,12 @@ public class EngineExpressionEvaluator {
 
   private static final int MAX_DEPTH = 15;
 
-  private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -455,12 +450,12 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = CompiledExpressionCache.getExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return CompiledExpressionCache.getScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -23,12 +23,9 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.collections.map.SingletonMap;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.apache.commons.text.StrSubstitutor;
 
 /**
@@ -49,8 +46,6 @@ public class ExpressionEvaluator {
 
   private Map<String, Object> expressionFunctorMap = new HashMap<>();
 
-  private JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
-
   public void addFunctor(String name, ExpressionFunctor functor) {
     if (functor == null) {
       throw new InvalidArgumentsException(Pair.of("functor", "null"));
@@ -79,7 +74,7 @@ public class ExpressionEvaluator {
       return null;
     }
 
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = CompiledExpressionCache.getExpression(expression);
     return jexlExpression.evaluate(context);
   }
 
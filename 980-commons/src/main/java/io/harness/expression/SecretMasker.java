@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Masks any number of secrets in a single pass over the text. The secrets are compiled once into an Aho-Corasick
+ * automaton, so masking a message costs time proportional to its length no matter how many secrets there are, instead
+ * of searching the message for every secret.
+ *
+ * Every character covered by an occurrence of a secret is masked. Overlapping occurrences are replaced by a single
+ * {@link SecretString#SECRET_MASK}, so that no part of either secret is left visible. Instances are immutable and can
+ * be shared between threads.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public final class SecretMasker {
+  private static final SecretMasker EMPTY = new SecretMasker(new char[][] {new char[0]}, new int[][] {new int[0]},
+      new int[] {0}, new int[] {0});
+  private static final int ROOT = 0;
+
+  // Transitions of each state, sorted by character
+  private final char[][] transitionChars;
+  private final int[][] transitionStates;
+  private final int[] failureStates;
+  // Length of the longest secret which ends at each state, 0 if none
+  private final int[] matchLengths;
+
+  private SecretMasker(char[][] transitionChars, int[][] transitionStates, int[] failureStates, int[] matchLengths) {
+    this.transitionChars = transitionChars;
+    this.transitionStates = transitionStates;
+    this.failureStates = failureStates;
+    this.matchLengths = matchLengths;
+  }
+
+  /**
+   * Compiles the secrets into a masker. Null and empty secrets are ignored.
+   */
+  public static SecretMasker compile(Collection<String> secrets) {
+    if (secrets == null || secrets.stream().allMatch(secret -> secret == null || secret.isEmpty())) {
+      return EMPTY;
+    }
+
+    List<Map<Character, Integer>> transitions = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    transitions.add(new TreeMap<>());
+    lengths.add(0);
+    for (String secret : secrets) {
+      if (secret == null || secret.isEmpty()) {
+        continue;
+      }
+      int state = ROOT;
+      for (int i = 0; i < secret.length(); i++) {
+        Integer next = transitions.get(state).get(secret.charAt(i));
+        if (next == null) {
+          next = transitions.size();
+          transitions.add(new TreeMap<>());
+          lengths.add(0);
+          transitions.get(state).put(secret.charAt(i), next);
+        }
+        state = next;
+      }
+      lengths.set(state, secret.length());
+    }
+
+    int stateCount = transitions.size();
+    char[][] transitionChars = new char[stateCount][];
+    int[][] transitionStates = new int[stateCount][];
+    for (int state = 0; state < stateCount; state++) {
+      Map<Character, Integer> stateTransitions = transitions.get(state);
+      transitionChars[state] = new char[stateTransitions.size()];
+      transitionStates[state] = new int[stateTransitions.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+        transitionChars[state][i] = transition.getKey();
+        transitionStates[state][i] = transition.getValue();
+        i++;
+      }
+    }
+
+    // Breadth first, so that the failure state of every state is computed before the state itself
+    int[] failureStates = new int[stateCount];
+    int[] matchLengths = new int[stateCount];
+    Queue<Integer> queue = new ArrayDeque<>();
+    for (int child : transitionStates[ROOT]) {
+      failureStates[child] = ROOT;
+      matchLengths[child] = lengths.get(child);
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < transitionChars[state].length; i++) {
+        char c = transitionChars[state][i];
+        int child = transitionStates[state][i];
+        int failure = failureStates[state];
+        int failureChild = transition(transitionChars, transitionStates, failure, c);
+        while (failureChild < 0 && failure != ROOT) {
+          failure = failureStates[failure];
+          failureChild = transition(transitionChars, transitionStates, failure, c);
+        }
+        failureStates[child] = failureChild < 0 ? ROOT : failureChild;
+        // The own secret is always the longest one ending here, any other is a suffix of it
+        matchLengths[child] = Math.max(lengths.get(child), matchLengths[failureStates[child]]);
+        queue.add(child);
+      }
+    }
+    return new SecretMasker(transitionChars, transitionStates, failureStates, matchLengths);
+  }
+
+  public boolean isEmpty() {
+    return transitionChars[ROOT].length == 0;
+  }
+
+  /**
+   * Returns the message with all secrets masked, or the message itself if it contains none.
+   */
+  public String mask(String message) {
+    if (message == null || message.isEmpty() || isEmpty()) {
+      return message;
+    }
+
+    // Masked ranges as start and end (exclusive) pairs, ordered and not overlapping
+    int[] ranges = null;
+    int rangeCount = 0;
+    int state = ROOT;
+    for (int i = 0; i < message.length(); i++) {
+      char c = message.charAt(i);
+      int next = transition(transitionChars, transitionStates, state, c);
+      while (next < 0 && state != ROOT) {
+        state = failureStates[state];
+        next = transition(transitionChars, transitionStates, state, c);
+      }
+      state = next < 0 ? ROOT : next;
+      if (matchLengths[state] == 0) {
+        continue;
+      }
+
+      int start = i + 1 - matchLengths[state];
+      int end = i + 1;
+      // A long secret may start before earlier, shorter matches, merge every range it overlaps
+      while (rangeCount > 0 && ranges[2 * rangeCount - 1] > start) {
+        start = Math.min(start, ranges[2 * rangeCount - 2]);
+        rangeCount--;
+      }
+      if (ranges == null) {
+        ranges = new int[8];
+      } else if (2 * rangeCount + 2 > ranges.length) {
+        ranges = Arrays.copyOf(ranges, ranges.length * 2);
+      }
+      ranges[2 * rangeCount] = start;
+      ranges[2 * rangeCount + 1] = end;
+      rangeCount++;
+    }
+
+    if (rangeCount == 0) {
+      return message;
+    }
+    StringBuilder builder = new StringBuilder(message.length() + rangeCount * SECRET_MASK.length());
+    int position = 0;
+    for (int i = 0; i < rangeCount; i++) {
+      builder.append(message, position, ranges[2 * i]).append(SECRET_MASK);
+      position = ranges[2 * i + 1];
+    }
+    builder.append(message, position, message.length());
+    return builder.toString();
+  }
+
+  private static int transition(char[][] transitionChars, int[][] transitionStates, int state, char c) {
+    int index = Arrays.binarySearch(transitionChars[state], c);
+    return index < 0 ? -1 : transitionStates[state][index];
+  }
+}
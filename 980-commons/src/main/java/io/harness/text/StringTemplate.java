@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.text;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.text.resolver.ExpressionResolver;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A source string split once into literal text and expressions, so that rendering it again only has to resolve the
+ * expressions and concatenate the parts instead of scanning the whole string for delimiters. Templates are cached by
+ * delimiters and content.
+ *
+ * Splitting follows exactly what {@link StringReplacer} does while replacing: nested expressions are part of the
+ * outer one, an escaped suffix inside an expression loses its escape character and an expression without a suffix is
+ * left as literal text.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+final class StringTemplate {
+  private static final char ESCAPE_CHAR = '\\';
+  private static final long MAX_CACHED_CHARS = 16 * 1024 * 1024;
+
+  private static final Cache<Key, StringTemplate> templates =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_CHARS)
+          .weigher((Key key, StringTemplate template) -> key.getSource().length())
+          .recordStats()
+          .build();
+
+  @Value
+  private static class Key {
+    String expressionPrefix;
+    String expressionSuffix;
+    String source;
+  }
+
+  private final String source;
+  // literals[i] precedes expressions[i], the last literal follows the last expression
+  private final String[] literals;
+  private final String[] expressions;
+  // The expressions with their delimiters, used to tell if resolving changed anything
+  private final String[] originals;
+  private final int literalLength;
+
+  private StringTemplate(String source, List<String> literals, List<String> expressions, List<String> originals) {
+    this.source = source;
+    this.literals = literals.toArray(new String[0]);
+    this.expressions = expressions.toArray(new String[0]);
+    this.originals = originals.toArray(new String[0]);
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  static StringTemplate compile(String expressionPrefix, String expressionSuffix, String source) {
+    Key key = new Key(expressionPrefix, expressionSuffix, source);
+    StringTemplate template = templates.getIfPresent(key);
+    if (template == null) {
+      template = parse(expressionPrefix.toCharArray(), expressionSuffix.toCharArray(), source);
+      templates.put(key, template);
+    }
+    return template;
+  }
+
+  /**
+   * Resolves every expression in order and joins them with the literal parts. Returns the source itself if resolving
+   * did not change any of the expressions.
+   */
+  String render(ExpressionResolver expressionResolver) {
+    if (expressions.length == 0) {
+      return source;
+    }
+
+    StringBuilder builder = new StringBuilder(Math.max(source.length(), literalLength + 16 * expressions.length));
+    boolean altered = false;
+    for (int i = 0; i < expressions.length; i++) {
+      builder.append(literals[i]);
+      String expressionValue = expressionResolver.resolve(expressions[i]);
+      builder.append(expressionValue);
+      altered = altered || !originals[i].equals(expressionValue);
+    }
+    builder.append(literals[expressions.length]);
+    return altered ? builder.toString() : source;
+  }
+
+  private static StringTemplate parse(char[] expressionPrefix, char[] expressionSuffix, String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> expressions = new ArrayList<>();
+    List<String> originals = new ArrayList<>();
+
+    StringBuilder buf = new StringBuilder(source);
+    int bufEnd = buf.length();
+    int literalStartPos = 0;
+    int pos = 0;
+    while (pos < bufEnd) {
+      if (!isMatch(expressionPrefix, buf, pos, bufEnd)) {
+        pos++;
+        continue;
+      }
+
+      // Found expression prefix
+      int expressionStartPos = pos;
+      pos += expressionPrefix.length;
+      int nestedExpressionCount = 0;
+      while (pos < bufEnd) {
+        if (isMatch(expressionPrefix, buf, pos, bufEnd)) {
+          // Found a nested expression prefix
+          nestedExpressionCount++;
+          pos += expressionPrefix.length;
+          continue;
+        }
+
+        if (!isMatch(expressionSuffix, buf, pos, bufEnd)) {
+          if (isMatch(ESCAPE_CHAR, buf, pos, bufEnd) && isMatch(expressionSuffix, buf, pos + 1, bufEnd)) {
+            // An escaped suffix, drop the escape char and skip over the suffix
+            buf.deleteCharAt(pos);
+            bufEnd = buf.length();
+            pos += expressionSuffix.length;
+          } else {
+            pos++;
+          }
+          continue;
+        }
+
+        // Found expression suffix
+        pos += expressionSuffix.length;
+        if (nestedExpressionCount > 0) {
+          // Found a nested expression suffix
+          nestedExpressionCount--;
+          continue;
+        }
+
+        String expressionWithDelimiters = buf.substring(expressionStartPos, pos);
+        literals.add(buf.substring(literalStartPos, expressionStartPos));
+        expressions.add(expressionWithDelimiters.substring(
+            expressionPrefix.length, expressionWithDelimiters.length() - expressionSuffix.length));
+        originals.add(expressionWithDelimiters);
+        literalStartPos = pos;
+        break;
+      }
+    }
+    literals.add(buf.substring(literalStartPos));
+    return new StringTemplate(source, literals, expressions, originals);
+  }
+
+  private static boolean isMatch(char ch, StringBuilder buf, int bufStart, int bufEnd) {
+    return bufStart < bufEnd && buf.charAt(bufStart) == ch;
+  }
+
+  private static boolean isMatch(char[] str, StringBuilder buf, int bufStart, int bufEnd) {
+    if (bufStart + str.length > bufEnd) {
+      return false;
+    }
+    for (int i = 0, j = bufStart; i < str.length; i++, j++) {
+      if (str[i] != buf.charAt(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @VisibleForTesting
+  static CacheStats getStats() {
+    return templates.stats();
+  }
+}
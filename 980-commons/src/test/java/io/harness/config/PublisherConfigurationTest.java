@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.config;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PublisherConfigurationTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testIsRedisBacked() {
+    final PublisherConfiguration publisherConfiguration = PublisherConfiguration.allOn();
+    assertThat(publisherConfiguration.isRedisBacked(PublisherConfigurationTest.class)).isFalse();
+
+    publisherConfiguration.setRedisBacked(ImmutableMap.<String, Boolean>builder().put("software.wings", true).build());
+    assertThat(publisherConfiguration.isRedisBacked(PublisherConfigurationTest.class)).isFalse();
+    assertThat(publisherConfiguration.isPublisherActive(PublisherConfigurationTest.class)).isTrue();
+
+    publisherConfiguration.setRedisBacked(ImmutableMap.<String, Boolean>builder().put("io.harness", true).build());
+    assertThat(publisherConfiguration.isRedisBacked(PublisherConfigurationTest.class)).isTrue();
+
+    publisherConfiguration.setRedisBacked(
+        ImmutableMap.<String, Boolean>builder().put("io.harness.config", false).put("io.harness", true).build());
+    assertThat(publisherConfiguration.isRedisBacked(PublisherConfigurationTest.class)).isFalse();
+
+    publisherConfiguration.setRedisBacked(ImmutableMap.<String, Boolean>builder()
+                                              .put("io.harness.config.PublisherConfigurationTest", true)
+                                              .put("io.harness.config", false)
+                                              .build());
+    assertThat(publisherConfiguration.isRedisBacked(PublisherConfigurationTest.class)).isTrue();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.cache.CacheStats;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class CompiledExpressionCacheTest extends CategoryTest {
+  @Before
+  public void setUp() {
+    CompiledExpressionCache.invalidateAll();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReuseCompiledExpression() {
+    CacheStats before = CompiledExpressionCache.getExpressionStats();
+    JexlExpression expression = CompiledExpressionCache.getExpression("a + b");
+    assertThat(CompiledExpressionCache.getExpression(" a + b ")).isSameAs(expression);
+    CacheStats stats = CompiledExpressionCache.getExpressionStats().minus(before);
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(1);
+
+    MapContext first = new MapContext();
+    first.set("a", 1);
+    first.set("b", 2);
+    MapContext second = new MapContext();
+    second.set("a", 10);
+    second.set("b", 20);
+    assertThat(expression.evaluate(first)).isEqualTo(3);
+    assertThat(expression.evaluate(second)).isEqualTo(30);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotCacheInvalidExpression() {
+    CacheStats before = CompiledExpressionCache.getExpressionStats();
+    assertThatThrownBy(() -> CompiledExpressionCache.getExpression("a +")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> CompiledExpressionCache.getExpression("a +")).isInstanceOf(JexlException.class);
+    assertThat(CompiledExpressionCache.getExpressionStats().minus(before).hitCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotCacheExpressionsWithInternalVariables() {
+    String expression = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "abcdefghijkl > 5";
+    CacheStats before = CompiledExpressionCache.getExpressionStats();
+    assertThat(CompiledExpressionCache.getExpression(expression))
+        .isNotSameAs(CompiledExpressionCache.getExpression(expression));
+    CacheStats stats = CompiledExpressionCache.getExpressionStats().minus(before);
+    assertThat(stats.requestCount()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCacheScriptsSeparately() {
+    MapContext context = new MapContext();
+    context.set("a", 1);
+    assertThat(CompiledExpressionCache.getScript("var x = a + 1; x * 2").execute(context)).isEqualTo(4);
+    assertThat(CompiledExpressionCache.getScript("var x = a + 1; x * 2"))
+        .isSameAs(CompiledExpressionCache.getScript("var x = a + 1; x * 2"));
+  }
+}
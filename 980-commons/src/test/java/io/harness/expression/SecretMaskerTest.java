@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldIgnoreMissingSecrets() {
+    assertThat(SecretMasker.compile(null).isEmpty()).isTrue();
+    assertThat(SecretMasker.compile(Arrays.asList(null, "")).isEmpty()).isTrue();
+
+    String message = "message";
+    assertThat(SecretMasker.compile(null).mask(message)).isSameAs(message);
+    assertThat(SecretMasker.compile(ImmutableList.of("secret")).mask(message)).isSameAs(message);
+    assertThat(SecretMasker.compile(ImmutableList.of("secret")).mask(null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldMaskAllOccurrences() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("secret1", "secret2"));
+
+    assertThat(secretMasker.mask("secret1 and secret2, secret1secret1"))
+        .isEqualTo(SECRET_MASK + " and " + SECRET_MASK + ", " + SECRET_MASK + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldMaskOverlappingSecretsOnce() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("bc", "abcd", "she", "hers"));
+
+    assertThat(secretMasker.mask("xxabcdyy")).isEqualTo("xx" + SECRET_MASK + "yy");
+    assertThat(secretMasker.mask("xxbcyy")).isEqualTo("xx" + SECRET_MASK + "yy");
+    assertThat(secretMasker.mask("ushers")).isEqualTo("u" + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotLeaveAnySecretUnmasked() {
+    Random random = new Random(7);
+    for (int i = 0; i < 1000; i++) {
+      List<String> secrets = new ArrayList<>();
+      for (int j = 0; j < 1 + random.nextInt(5); j++) {
+        secrets.add(randomString(random, 2 + random.nextInt(3)));
+      }
+      String message = randomString(random, random.nextInt(40));
+
+      String masked = SecretMasker.compile(secrets).mask(message);
+      for (String secret : secrets) {
+        assertThat(masked.replace(SECRET_MASK, "|")).doesNotContain(secret);
+      }
+      assertThat(StringUtils.remove(masked, SECRET_MASK).length()).isLessThanOrEqualTo(message.length());
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -57,6 +57,32 @@ public class StringReplacerTest extends CategoryTest {
             " de \\ f ", "gh <+ij <+kl.select(\"<book><title>Harry Potter</title></book>\")> > ", "abc > def");
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testStringReplacerReusesParsedTemplate() {
+    String source = "abc <+ de \\> f> ghi <+jk <+lm>> <+no";
+    long hitCount = StringTemplate.getStats().hitCount();
+
+    DummyExpressionResolver first = new DummyExpressionResolver();
+    assertThat(replace(first, source)).isEqualTo("abc 1 ghi 2 <+no");
+    DummyExpressionResolver second = new DummyExpressionResolver();
+    assertThat(replace(second, source)).isEqualTo("abc 1 ghi 2 <+no");
+
+    assertThat(second.getExpressions()).containsExactly(" de > f", "jk <+lm>");
+    assertThat(StringTemplate.getStats().hitCount()).isEqualTo(hitCount + 1);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testStringReplacerReturnsSourceWhenNothingChanges() {
+    String source = "abc <+de> f";
+    StringReplacer stringReplacer = new StringReplacer(expression -> "<+" + expression + ">", "<+", ">");
+    assertThat(stringReplacer.replace(source)).isSameAs(source);
+    assertThat(stringReplacer.replace("no expressions")).isEqualTo("no expressions");
+  }
+
   private String replace(ExpressionResolver resolver, String source) {
     StringReplacer stringReplacer = new StringReplacer(resolver, "<+", ">");
     String resp = stringReplacer.replace(source);
@@ -16,6 +16,8 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static org.mockito.Mockito.mock;
 
 import io.harness.accesscontrol.AccessControlCoreModule;
+import io.harness.accesscontrol.acl.persistence.ACLIndexInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.LocalACLIndexInvalidationBroadcaster;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -79,6 +81,7 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
       @Override
       protected void configure() {
         bind(HPersistence.class).to(MongoPersistence.class);
+        bind(ACLIndexInvalidationBroadcaster.class).to(LocalACLIndexInvalidationBroadcaster.class);
       }
     });
     modules.add(new ClosingFactoryModule(closingFactory));
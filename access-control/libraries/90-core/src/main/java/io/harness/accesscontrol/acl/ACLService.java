@@ -20,4 +20,6 @@ import javax.validation.constraints.NotNull;
 public interface ACLService {
   List<PermissionCheckResult> checkAccess(
       @NotNull @Valid Principal principal, @NotNull List<PermissionCheck> permissions);
+
+  List<List<PermissionCheckResult>> checkAccess(@NotNull @Valid List<AccessCheck> accessChecks);
 }
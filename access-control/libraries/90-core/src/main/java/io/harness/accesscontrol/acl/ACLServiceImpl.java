@@ -59,6 +59,22 @@ public class ACLServiceImpl implements ACLService {
   @Override
   public List<PermissionCheckResult> checkAccess(Principal principal, List<PermissionCheck> permissionChecks) {
     List<Boolean> allowedAccessList = aclDAO.checkForAccess(principal, permissionChecks);
+    return getPermissionCheckResults(permissionChecks, allowedAccessList);
+  }
+
+  @Override
+  public List<List<PermissionCheckResult>> checkAccess(List<AccessCheck> accessChecks) {
+    List<List<Boolean>> allowedAccessLists = aclDAO.checkForAccess(accessChecks);
+    List<List<PermissionCheckResult>> permissionCheckResults = new ArrayList<>();
+    for (int i = 0; i < accessChecks.size(); i++) {
+      permissionCheckResults.add(
+          getPermissionCheckResults(accessChecks.get(i).getPermissionChecks(), allowedAccessLists.get(i)));
+    }
+    return permissionCheckResults;
+  }
+
+  private List<PermissionCheckResult> getPermissionCheckResults(
+      List<PermissionCheck> permissionChecks, List<Boolean> allowedAccessList) {
     List<PermissionCheckResult> permissionCheckResults = new ArrayList<>();
     ensureDisabledPermissions();
 
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import io.harness.accesscontrol.Principal;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PL)
+@Value
+@Builder
+public class AccessCheck {
+  @NotNull @Valid Principal principal;
+  @NotNull List<PermissionCheck> permissionChecks;
+}
@@ -118,6 +118,12 @@ public class ACL implements PersistentEntity {
                  .field(ACLKeys.aclQueryString)
                  .field(ACLKeys.enabled)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("principalEnabledIdx")
+                 .field(ACLKeys.principalType)
+                 .field(ACLKeys.principalIdentifier)
+                 .field(ACLKeys.enabled)
+                 .build())
         .build();
   }
 }
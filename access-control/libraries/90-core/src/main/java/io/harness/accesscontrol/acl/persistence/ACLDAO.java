@@ -10,6 +10,7 @@ package io.harness.accesscontrol.acl.persistence;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.AccessCheck;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.annotations.dev.OwnedBy;
 
@@ -18,4 +19,6 @@ import java.util.List;
 @OwnedBy(PL)
 public interface ACLDAO {
   List<Boolean> checkForAccess(Principal principal, List<PermissionCheck> permissionChecks);
+
+  List<List<Boolean>> checkForAccess(List<AccessCheck> accessChecks);
 }
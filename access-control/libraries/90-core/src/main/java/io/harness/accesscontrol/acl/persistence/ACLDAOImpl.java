@@ -11,6 +11,7 @@ import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.AccessCheck;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.scopes.core.Scope;
@@ -21,6 +22,8 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,11 +41,14 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final ACLIndex aclIndex;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLIndex aclIndex,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclIndex = aclIndex;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -141,19 +147,55 @@ public class ACLDAOImpl implements ACLDAO {
     return queryStrings;
   }
 
+  private Optional<Set<String>> getEnabledAclQueryStrings(Principal principal) {
+    return aclIndex.getEnabledAclQueryStrings(principal.getPrincipalType(), principal.getPrincipalIdentifier(),
+        ()
+            -> aclRepository.getEnabledAclQueryStringsOfPrincipal(principal.getPrincipalType().name(),
+                principal.getPrincipalIdentifier(), ACLIndex.MAX_ACLS_PER_PRINCIPAL));
+  }
+
   @Override
   public List<Boolean> checkForAccess(Principal principal, List<PermissionCheck> permissionChecks) {
-    List<Set<String>> aclQueryStringsPerPermission = new ArrayList<>();
-    List<String> aclQueryStrings = new ArrayList<>();
-    permissionChecks.forEach(permissionCheck -> {
-      Set<String> queryStrings = getQueryStrings(permissionCheck, principal);
-      aclQueryStringsPerPermission.add(queryStrings);
-      aclQueryStrings.addAll(queryStrings);
-    });
-
-    Set<String> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
-    return aclQueryStringsPerPermission.stream()
-        .map(queryStringsForPermission -> queryStringsForPermission.stream().anyMatch(aclsPresentInDB::contains))
-        .collect(Collectors.toList());
+    return checkForAccess(Collections.singletonList(
+                              AccessCheck.builder().principal(principal).permissionChecks(permissionChecks).build()))
+        .get(0);
+  }
+
+  @Override
+  public List<List<Boolean>> checkForAccess(List<AccessCheck> accessChecks) {
+    Map<Principal, Optional<Set<String>>> enabledAclQueryStringsByPrincipal = new HashMap<>();
+    List<List<Set<String>>> aclQueryStringsPerAccessCheck = new ArrayList<>();
+    // acl query strings of principals with too many acls to index, deduplicated across the whole batch and checked
+    // against the database in a single query
+    Set<String> aclQueryStringsToQuery = new HashSet<>();
+    for (AccessCheck accessCheck : accessChecks) {
+      Principal principal = accessCheck.getPrincipal();
+      boolean indexed = enabledAclQueryStringsByPrincipal.computeIfAbsent(principal, this::getEnabledAclQueryStrings)
+                            .isPresent();
+      List<Set<String>> aclQueryStringsPerPermission = new ArrayList<>();
+      accessCheck.getPermissionChecks().forEach(permissionCheck -> {
+        Set<String> queryStrings = getQueryStrings(permissionCheck, principal);
+        aclQueryStringsPerPermission.add(queryStrings);
+        if (!indexed) {
+          aclQueryStringsToQuery.addAll(queryStrings);
+        }
+      });
+      aclQueryStringsPerAccessCheck.add(aclQueryStringsPerPermission);
+    }
+
+    Set<String> aclsPresentInDB = aclQueryStringsToQuery.isEmpty()
+        ? Collections.emptySet()
+        : aclRepository.getByAclQueryStringInAndEnabled(new ArrayList<>(aclQueryStringsToQuery), true);
+    List<List<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < accessChecks.size(); i++) {
+      Set<String> enabledAclQueryStrings =
+          enabledAclQueryStringsByPrincipal.get(accessChecks.get(i).getPrincipal()).orElse(aclsPresentInDB);
+      results.add(aclQueryStringsPerAccessCheck.get(i)
+                      .stream()
+                      .map(queryStringsForPermission
+                          -> queryStringsForPermission.stream().anyMatch(enabledAclQueryStrings::contains))
+                      .collect(Collectors.toList()));
+    }
+    return results;
   }
 }
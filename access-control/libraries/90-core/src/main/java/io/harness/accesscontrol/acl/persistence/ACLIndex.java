@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In memory index of the enabled acl query strings of each principal, loaded lazily on the first permission check of
+ * the principal. Every acl query string carries the principal it belongs to, so the set of a principal's enabled acl
+ * query strings answers any permission check of that principal without going to the database.
+ *
+ * Entries are invalidated by the primary acl repository whenever the aggregator writes acls for the principal. The
+ * aggregator runs on a single instance, so its invalidations are also broadcast to every other instance. Entries
+ * expire shortly after being loaded as well, which bounds how long an instance can serve a stale decision if a
+ * broadcast is lost. Principals with too many acls are not indexed.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLIndex {
+  public static final int MAX_ACLS_PER_PRINCIPAL = 20000;
+  private static final long MAX_INDEXED_ACLS = 2000000;
+  private static final long EXPIRE_AFTER_WRITE_SECONDS = 30;
+  private static final String DELIMITER = "$";
+
+  private final Cache<String, Set<String>> aclQueryStringsByPrincipal =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_INDEXED_ACLS)
+          .weigher((String principal, Set<String> aclQueryStrings) -> aclQueryStrings.size() + 1)
+          .expireAfterWrite(EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS)
+          .recordStats()
+          .build();
+  // Bumped on every invalidation, so that a load which raced with a write is not put into the index
+  private final AtomicLong version = new AtomicLong();
+  private final ACLIndexInvalidationBroadcaster broadcaster;
+
+  @Inject
+  public ACLIndex(ACLIndexInvalidationBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+    broadcaster.subscribe(this::apply);
+  }
+
+  /**
+   * Returns the enabled acl query strings of the principal, loading them if the principal is not indexed yet. Returns
+   * empty if the loader returns empty, which it does for principals with too many acls to index.
+   */
+  public Optional<Set<String>> getEnabledAclQueryStrings(
+      PrincipalType principalType, String principalIdentifier, Supplier<Optional<Set<String>>> loader) {
+    String key = getKey(principalType, principalIdentifier);
+    Set<String> aclQueryStrings = aclQueryStringsByPrincipal.getIfPresent(key);
+    if (aclQueryStrings != null) {
+      return Optional.of(aclQueryStrings);
+    }
+    long versionBeforeLoad = version.get();
+    Optional<Set<String>> loadedAclQueryStrings = loader.get();
+    if (loadedAclQueryStrings.isPresent() && version.get() == versionBeforeLoad) {
+      aclQueryStringsByPrincipal.put(key, loadedAclQueryStrings.get());
+    }
+    return loadedAclQueryStrings;
+  }
+
+  public void invalidate(String principalType, Collection<String> principalIdentifiers) {
+    invalidate(ACLIndexInvalidation.of(principalType, principalIdentifiers));
+  }
+
+  /**
+   * Invalidates the principal identifiers for every principal type, for writes which only know the identifiers.
+   */
+  public void invalidate(Collection<String> principalIdentifiers) {
+    invalidate(ACLIndexInvalidation.of(null, principalIdentifiers));
+  }
+
+  public void invalidateAll() {
+    invalidate(ACLIndexInvalidation.all());
+  }
+
+  private void invalidate(ACLIndexInvalidation invalidation) {
+    apply(invalidation);
+    try {
+      broadcaster.broadcast(invalidation);
+    } catch (Exception e) {
+      log.error("Failed to broadcast the acl index invalidation {}, other instances may serve stale decisions until "
+              + "their entries expire",
+          invalidation, e);
+    }
+  }
+
+  private void apply(ACLIndexInvalidation invalidation) {
+    version.incrementAndGet();
+    if (invalidation.isAll()) {
+      aclQueryStringsByPrincipal.invalidateAll();
+      return;
+    }
+    for (String principalIdentifier : invalidation.getPrincipalIdentifiers()) {
+      if (invalidation.getPrincipalType() != null) {
+        aclQueryStringsByPrincipal.invalidate(getKey(invalidation.getPrincipalType(), principalIdentifier));
+        continue;
+      }
+      for (PrincipalType principalType : PrincipalType.values()) {
+        aclQueryStringsByPrincipal.invalidate(getKey(principalType, principalIdentifier));
+      }
+    }
+  }
+
+  public CacheStats getStats() {
+    return aclQueryStringsByPrincipal.stats();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return aclQueryStringsByPrincipal.size();
+  }
+
+  private static String getKey(PrincipalType principalType, String principalIdentifier) {
+    return getKey(principalType.name(), principalIdentifier);
+  }
+
+  private static String getKey(String principalType, String principalIdentifier) {
+    return principalType + DELIMITER + principalIdentifier;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Principals whose entries in the {@link ACLIndex} have to be dropped. A null principal type stands for every
+ * principal type.
+ */
+@OwnedBy(PL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ACLIndexInvalidation {
+  private boolean all;
+  private String principalType;
+  private Set<String> principalIdentifiers;
+
+  public static ACLIndexInvalidation all() {
+    return new ACLIndexInvalidation(true, null, null);
+  }
+
+  public static ACLIndexInvalidation of(String principalType, Collection<String> principalIdentifiers) {
+    return new ACLIndexInvalidation(false, principalType, new HashSet<>(principalIdentifiers));
+  }
+}
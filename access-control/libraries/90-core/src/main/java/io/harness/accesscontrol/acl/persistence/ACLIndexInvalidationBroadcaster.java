@@ -0,0 +1,26 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the invalidations of the {@link ACLIndex} to every instance of the service, including the one which sent
+ * them. Implementations should hand an invalidation of everything to the listener whenever invalidations may have
+ * been missed, e.g. after reconnecting.
+ */
+@OwnedBy(PL)
+public interface ACLIndexInvalidationBroadcaster {
+  void broadcast(ACLIndexInvalidation invalidation);
+
+  void subscribe(Consumer<ACLIndexInvalidation> listener);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the acl index invalidations within the process only, for deployments running a single instance.
+ */
+@OwnedBy(PL)
+@Singleton
+public class LocalACLIndexInvalidationBroadcaster implements ACLIndexInvalidationBroadcaster {
+  private final List<Consumer<ACLIndexInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void broadcast(ACLIndexInvalidation invalidation) {
+    listeners.forEach(listener -> listener.accept(invalidation));
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLIndexInvalidation> listener) {
+    listeners.add(listener);
+  }
+}
@@ -12,6 +12,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @OwnedBy(HarnessTeam.PL)
@@ -34,6 +35,8 @@ public interface ACLRepository {
 
   Set<String> getByAclQueryStringInAndEnabled(List<String> aclQueryStrings, boolean enabled);
 
+  Optional<Set<String>> getEnabledAclQueryStringsOfPrincipal(String principalType, String principalIdentifier, int limit);
+
   void cleanCollection();
 
   void renameCollection(String newCollectionName);
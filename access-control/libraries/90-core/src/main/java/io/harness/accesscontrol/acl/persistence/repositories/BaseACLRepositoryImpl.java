@@ -26,6 +26,7 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
@@ -152,6 +153,24 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .collect(Collectors.toSet());
   }
 
+  @Override
+  public Optional<Set<String>> getEnabledAclQueryStringsOfPrincipal(
+      String principalType, String principalIdentifier, int limit) {
+    Query query = new Query(Criteria.where(ACLKeys.principalType)
+                                .is(principalType)
+                                .and(ACLKeys.principalIdentifier)
+                                .is(principalIdentifier)
+                                .and(ACLKeys.enabled)
+                                .is(true));
+    query.fields().include(ACLKeys.aclQueryString);
+    query.limit(limit + 1);
+    List<ACL> acls = mongoTemplate.find(query, ACL.class, getCollectionName());
+    if (acls.size() > limit) {
+      return Optional.empty();
+    }
+    return Optional.of(acls.stream().map(ACL::getAclQueryString).collect(Collectors.toSet()));
+  }
+
   @Override
   public void cleanCollection() {
     mongoTemplate.dropCollection(getCollectionName());
@@ -7,24 +7,81 @@
 
 package io.harness.accesscontrol.acl.persistence.repositories;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
+
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLIndex;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Set;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLIndex aclIndex;
+
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLIndex aclIndex) {
     super(mongoTemplate);
+    this.aclIndex = aclIndex;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.PRIMARY_COLLECTION;
   }
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    long insertedCount = super.insertAllIgnoringDuplicates(acls);
+    acls.stream()
+        .collect(groupingBy(ACL::getPrincipalType, mapping(ACL::getPrincipalIdentifier, toSet())))
+        .forEach(aclIndex::invalidate);
+    return insertedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    List<String> principals = getDistinctPrincipalsInACLsForRoleAssignment(id);
+    long deletedCount = super.deleteByRoleAssignmentId(id);
+    aclIndex.invalidate(principals);
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<String> resourceSelectorsToDelete) {
+    List<String> principals = getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentId);
+    long deletedCount = super.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete);
+    aclIndex.invalidate(principals);
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    List<String> principals = getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentId);
+    long deletedCount = super.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    aclIndex.invalidate(principals);
+    return deletedCount;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    long deletedCount = super.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    aclIndex.invalidate(principals);
+    return deletedCount;
+  }
+
+  @Override
+  public void cleanCollection() {
+    super.cleanCollection();
+    aclIndex.invalidateAll();
+  }
 }
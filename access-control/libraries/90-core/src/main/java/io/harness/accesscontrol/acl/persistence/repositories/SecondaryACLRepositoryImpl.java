@@ -8,6 +8,7 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLIndex;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
@@ -18,13 +19,25 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class SecondaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLIndex aclIndex;
+
   @Inject
-  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public SecondaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLIndex aclIndex) {
     super(mongoTemplate);
+    this.aclIndex = aclIndex;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.SECONDARY_COLLECTION;
   }
+
+  @Override
+  public void renameCollection(String newCollectionName) {
+    super.renameCollection(newCollectionName);
+    if (ACL.PRIMARY_COLLECTION.equals(newCollectionName)) {
+      // The secondary collection has replaced the primary one, none of the indexed acls can be trusted anymore
+      aclIndex.invalidateAll();
+    }
+  }
 }
@@ -14,6 +14,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Mockito.mock;
@@ -30,8 +31,10 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -77,4 +80,37 @@ public class ACLServiceImplTest extends AccessControlCoreTestBase {
     assertEquals(10, response.size());
     response.forEach(check -> assertTrue(check.isPermitted()));
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckAccessInBatch() {
+    Permission disabledPermission = Permission.builder().identifier(randomAlphabetic(10)).status(INACTIVE).build();
+    when(permissionService.list(
+             PermissionFilter.builder().statusFilter(Sets.newHashSet(INACTIVE, EXPERIMENTAL, STAGING)).build()))
+        .thenReturn(Collections.singletonList(disabledPermission));
+
+    PermissionCheck enabledCheck = PermissionCheck.builder().permission(randomAlphabetic(10)).build();
+    PermissionCheck disabledCheck = PermissionCheck.builder().permission(disabledPermission.getIdentifier()).build();
+    List<AccessCheck> accessChecks = Lists.newArrayList(
+        AccessCheck.builder()
+            .principal(Principal.of(PrincipalType.USER, randomAlphabetic(10)))
+            .permissionChecks(Lists.newArrayList(enabledCheck, disabledCheck))
+            .build(),
+        AccessCheck.builder()
+            .principal(Principal.of(PrincipalType.SERVICE_ACCOUNT, randomAlphabetic(10)))
+            .permissionChecks(Collections.singletonList(enabledCheck))
+            .build());
+    when(aclDAO.checkForAccess(accessChecks))
+        .thenReturn(Lists.newArrayList(Lists.newArrayList(false, false), Collections.singletonList(true)));
+
+    List<List<PermissionCheckResult>> response = aclService.checkAccess(accessChecks);
+
+    assertEquals(2, response.size());
+    assertEquals(2, response.get(0).size());
+    assertFalse(response.get(0).get(0).isPermitted());
+    assertTrue(response.get(0).get(1).isPermitted());
+    assertEquals(1, response.get(1).size());
+    assertTrue(response.get(1).get(0).isPermitted());
+  }
 }
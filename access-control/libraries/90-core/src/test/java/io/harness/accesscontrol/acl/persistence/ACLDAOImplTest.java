@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.AccessCheck;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+@OwnedBy(PL)
+public class ACLDAOImplTest extends AccessControlCoreTestBase {
+  private static final String VIEW = "core_pipeline_view";
+  private static final String EDIT = "core_pipeline_edit";
+  private static final Principal INDEXED_USER = Principal.of(PrincipalType.USER, "indexedUser");
+  private static final Principal UNINDEXED_USER = Principal.of(PrincipalType.USER, "unindexedUser");
+
+  private ACLRepository aclRepository;
+  private ACLDAOImpl aclDAO;
+
+  @Before
+  public void setup() {
+    aclRepository = mock(ACLRepository.class);
+    aclDAO = new ACLDAOImpl(
+        aclRepository, new ACLIndex(new LocalACLIndexInvalidationBroadcaster()), Collections.emptyMap());
+  }
+
+  private static String aclQueryString(Principal principal, String permission) {
+    return ACL.getAclQueryString("", "/PIPELINE/pipeline", principal.getPrincipalType().name(),
+        principal.getPrincipalIdentifier(), permission);
+  }
+
+  private static AccessCheck accessCheck(Principal principal, String... permissions) {
+    return AccessCheck.builder()
+        .principal(principal)
+        .permissionChecks(Arrays.stream(permissions)
+                              .map(permission
+                                  -> PermissionCheck.builder()
+                                         .permission(permission)
+                                         .resourceType("PIPELINE")
+                                         .resourceIdentifier("pipeline")
+                                         .build())
+                              .collect(Collectors.toList()))
+        .build();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testCheckForAccessInBatch() {
+    when(aclRepository.getEnabledAclQueryStringsOfPrincipal(
+             PrincipalType.USER.name(), INDEXED_USER.getPrincipalIdentifier(), ACLIndex.MAX_ACLS_PER_PRINCIPAL))
+        .thenReturn(Optional.of(ImmutableSet.of(aclQueryString(INDEXED_USER, VIEW))));
+    when(aclRepository.getEnabledAclQueryStringsOfPrincipal(
+             PrincipalType.USER.name(), UNINDEXED_USER.getPrincipalIdentifier(), ACLIndex.MAX_ACLS_PER_PRINCIPAL))
+        .thenReturn(Optional.empty());
+    when(aclRepository.getByAclQueryStringInAndEnabled(anyListOf(String.class), eq(true)))
+        .thenReturn(ImmutableSet.of(aclQueryString(UNINDEXED_USER, EDIT)));
+
+    List<List<Boolean>> results = aclDAO.checkForAccess(Arrays.asList(accessCheck(INDEXED_USER, VIEW, EDIT),
+        accessCheck(UNINDEXED_USER, VIEW, EDIT), accessCheck(UNINDEXED_USER, VIEW)));
+
+    assertEquals(Arrays.asList(true, false), results.get(0));
+    assertEquals(Arrays.asList(false, true), results.get(1));
+    assertEquals(Collections.singletonList(false), results.get(2));
+    verify(aclRepository, times(1))
+        .getEnabledAclQueryStringsOfPrincipal(
+            PrincipalType.USER.name(), UNINDEXED_USER.getPrincipalIdentifier(), ACLIndex.MAX_ACLS_PER_PRINCIPAL);
+
+    // Only the unindexed principal's acls are looked up, in a single query without duplicates
+    ArgumentCaptor<List> aclQueryStrings = ArgumentCaptor.forClass(List.class);
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(aclQueryStrings.capture(), eq(true));
+    List<String> queriedAclQueryStrings = aclQueryStrings.getValue();
+    assertEquals(new HashSet<>(queriedAclQueryStrings).size(), queriedAclQueryStrings.size());
+    assertTrue(queriedAclQueryStrings.contains(aclQueryString(UNINDEXED_USER, VIEW)));
+    assertTrue(queriedAclQueryStrings.contains(aclQueryString(UNINDEXED_USER, EDIT)));
+    assertFalse(queriedAclQueryStrings.contains(aclQueryString(INDEXED_USER, VIEW)));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckForAccessOfIndexedPrincipalsNeedsNoQuery() {
+    when(aclRepository.getEnabledAclQueryStringsOfPrincipal(anyString(), anyString(), anyInt()))
+        .thenReturn(Optional.of(ImmutableSet.of(aclQueryString(INDEXED_USER, VIEW))));
+
+    assertEquals(Arrays.asList(Collections.singletonList(true), Collections.singletonList(false)),
+        aclDAO.checkForAccess(Arrays.asList(accessCheck(INDEXED_USER, VIEW), accessCheck(UNINDEXED_USER, VIEW))));
+
+    verify(aclRepository, times(0)).getByAclQueryStringInAndEnabled(anyListOf(String.class), anyBoolean());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLIndexTest extends AccessControlCoreTestBase {
+  private LocalACLIndexInvalidationBroadcaster broadcaster;
+  private ACLIndex aclIndex;
+  private AtomicInteger loads;
+
+  @Before
+  public void setup() {
+    broadcaster = new LocalACLIndexInvalidationBroadcaster();
+    aclIndex = new ACLIndex(broadcaster);
+    loads = new AtomicInteger();
+  }
+
+  private Supplier<Optional<Set<String>>> loader(Set<String> aclQueryStrings) {
+    return () -> {
+      loads.incrementAndGet();
+      return Optional.of(aclQueryStrings);
+    };
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testLoadsPrincipalOnce() {
+    Set<String> aclQueryStrings = ImmutableSet.of("acl1", "acl2");
+
+    assertEquals(Optional.of(aclQueryStrings),
+        aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(aclQueryStrings)));
+    assertEquals(Optional.of(aclQueryStrings),
+        aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(aclQueryStrings)));
+    assertEquals(1, loads.get());
+
+    aclIndex.getEnabledAclQueryStrings(PrincipalType.SERVICE_ACCOUNT, "user", loader(Collections.emptySet()));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidateReloadsPrincipal() {
+    aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(ImmutableSet.of("acl1")));
+    aclIndex.getEnabledAclQueryStrings(PrincipalType.USER_GROUP, "group", loader(ImmutableSet.of("acl2")));
+
+    aclIndex.invalidate(PrincipalType.USER.name(), Collections.singleton("user"));
+    assertEquals(Optional.of(ImmutableSet.of("acl3")),
+        aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(ImmutableSet.of("acl3"))));
+    assertEquals(Optional.of(ImmutableSet.of("acl2")),
+        aclIndex.getEnabledAclQueryStrings(PrincipalType.USER_GROUP, "group", loader(ImmutableSet.of())));
+    assertEquals(3, loads.get());
+
+    aclIndex.invalidate(Sets.newHashSet("group"));
+    aclIndex.getEnabledAclQueryStrings(PrincipalType.USER_GROUP, "group", loader(ImmutableSet.of()));
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDoesNotIndexLoadRacingWithInvalidation() {
+    Optional<Set<String>> aclQueryStrings = aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", () -> {
+      loads.incrementAndGet();
+      aclIndex.invalidate(PrincipalType.USER.name(), Collections.singleton("user"));
+      return Optional.of(ImmutableSet.of("stale"));
+    });
+
+    assertEquals(Optional.of(ImmutableSet.of("stale")), aclQueryStrings);
+    assertEquals(0, aclIndex.size());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDoesNotIndexPrincipalsWithTooManyAcls() {
+    assertFalse(aclIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", Optional::empty).isPresent());
+    assertEquals(0, aclIndex.size());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidatesOtherInstances() {
+    ACLIndex otherInstanceIndex = new ACLIndex(broadcaster);
+    otherInstanceIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(ImmutableSet.of("acl1")));
+    otherInstanceIndex.getEnabledAclQueryStrings(PrincipalType.USER_GROUP, "group", loader(ImmutableSet.of("acl2")));
+    assertEquals(2, otherInstanceIndex.size());
+
+    aclIndex.invalidate(PrincipalType.USER.name(), Collections.singleton("user"));
+    assertEquals(Optional.of(ImmutableSet.of()),
+        otherInstanceIndex.getEnabledAclQueryStrings(PrincipalType.USER, "user", loader(ImmutableSet.of())));
+    assertEquals(3, loads.get());
+
+    aclIndex.invalidateAll();
+    assertEquals(0, otherInstanceIndex.size());
+  }
+}
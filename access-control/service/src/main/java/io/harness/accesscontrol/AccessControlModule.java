@@ -26,6 +26,8 @@ import static io.harness.lock.DistributedLockImplementation.MONGO;
 import io.harness.AccessControlClientModule;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
+import io.harness.accesscontrol.acl.persistence.ACLIndexInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.RedisACLIndexInvalidationBroadcaster;
 import io.harness.accesscontrol.aggregator.AggregatorStackDriverMetricsPublisherImpl;
 import io.harness.accesscontrol.aggregator.consumers.AccessControlChangeEventFailureHandler;
 import io.harness.accesscontrol.commons.events.EventConsumer;
@@ -319,6 +321,7 @@ public class AccessControlModule extends AbstractModule {
     bind(PrivilegedRoleAssignmentService.class).to(PrivilegedRoleAssignmentServiceImpl.class);
 
     bind(ACLResource.class).to(ACLResourceImpl.class);
+    bind(ACLIndexInvalidationBroadcaster.class).to(RedisACLIndexInvalidationBroadcaster.class);
 
     if (config.getAggregatorConfiguration().isExportMetricsToStackDriver()) {
       install(new MetricsModule());
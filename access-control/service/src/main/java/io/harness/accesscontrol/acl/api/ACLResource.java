@@ -9,6 +9,8 @@ package io.harness.accesscontrol.acl.api;
 
 import io.harness.accesscontrol.clients.AccessCheckRequestDTO;
 import io.harness.accesscontrol.clients.AccessCheckResponseDTO;
+import io.harness.accesscontrol.clients.BatchAccessCheckRequestDTO;
+import io.harness.accesscontrol.clients.BatchAccessCheckResponseDTO;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ng.core.dto.ErrorDTO;
@@ -65,4 +67,15 @@ public interface ACLResource {
   ResponseDTO<AccessCheckResponseDTO>
   get(@RequestBody(description = "These are the checks to perform for Access Control.",
       required = true) @Valid @NotNull AccessCheckRequestDTO dto);
+
+  @POST
+  @Path("batch")
+  @ApiOperation(value = "Check for access to resources for multiple principals", nickname = "getAccessControlLists")
+  @Operation(operationId = "getAccessControlLists",
+      summary = "Check for permissions on resource(s) for multiple principals in a single request",
+      responses =
+      { @io.swagger.v3.oas.annotations.responses.ApiResponse(description = "Results of the access check requests") })
+  ResponseDTO<BatchAccessCheckResponseDTO>
+  getInBatch(@RequestBody(description = "These are the checks to perform for Access Control, per principal.",
+      required = true) @Valid @NotNull BatchAccessCheckRequestDTO dto);
 }
@@ -16,11 +16,14 @@ import static io.harness.accesscontrol.principals.PrincipalType.SERVICE_ACCOUNT;
 
 import io.harness.accesscontrol.Principal;
 import io.harness.accesscontrol.acl.ACLService;
+import io.harness.accesscontrol.acl.AccessCheck;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.PermissionCheckResult;
 import io.harness.accesscontrol.clients.AccessCheckRequestDTO;
 import io.harness.accesscontrol.clients.AccessCheckResponseDTO;
 import io.harness.accesscontrol.clients.AccessControlDTO;
+import io.harness.accesscontrol.clients.BatchAccessCheckRequestDTO;
+import io.harness.accesscontrol.clients.BatchAccessCheckResponseDTO;
 import io.harness.accesscontrol.clients.PermissionCheckDTO;
 import io.harness.accesscontrol.preference.services.AccessControlPreferenceService;
 import io.harness.accesscontrol.principals.PrincipalType;
@@ -36,8 +39,13 @@ import io.harness.security.SecurityContextBuilder;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
@@ -75,86 +83,123 @@ public class ACLResourceImpl implements ACLResource {
 
   @Override
   public ResponseDTO<AccessCheckResponseDTO> get(AccessCheckRequestDTO dto) {
+    return ResponseDTO.newResponse(checkAccess(Collections.singletonList(dto)).get(0));
+  }
+
+  @Override
+  public ResponseDTO<BatchAccessCheckResponseDTO> getInBatch(BatchAccessCheckRequestDTO dto) {
+    return ResponseDTO.newResponse(
+        BatchAccessCheckResponseDTO.builder().accessCheckResults(checkAccess(dto.getAccessChecks())).build());
+  }
+
+  private List<AccessCheckResponseDTO> checkAccess(List<AccessCheckRequestDTO> dtos) {
     io.harness.security.dto.Principal contextPrincipal = SecurityContextBuilder.getPrincipal();
-    List<PermissionCheckDTO> permissionChecksDTOs = dto.getPermissions();
-    Principal principalToCheckPermissionsFor = dto.getPrincipal();
+    AccessCheckResponseDTO[] accessCheckResponseDTOs = new AccessCheckResponseDTO[dtos.size()];
+    Map<String, Boolean> accessControlEnabledByAccount = new HashMap<>();
+    // The checks which need to be resolved against the acls, resolved together so that the acl query strings of the
+    // whole batch are deduplicated and looked up at once
+    List<Integer> aclCheckIndexes = new ArrayList<>();
+    List<AccessCheck> accessChecks = new ArrayList<>();
+
+    for (int i = 0; i < dtos.size(); i++) {
+      AccessCheckRequestDTO dto = dtos.get(i);
+      List<PermissionCheckDTO> permissionChecksDTOs = dto.getPermissions();
+      Principal principalToCheckPermissionsFor = dto.getPrincipal();
+
+      boolean preconditionsValid = checkPreconditions(contextPrincipal, principalToCheckPermissionsFor);
+
+      if (serviceContextAndNoPrincipalInBody(contextPrincipal, principalToCheckPermissionsFor)) {
+        accessCheckResponseDTOs[i] =
+            AccessCheckResponseDTO.builder()
+                .principal(Principal.of(SERVICE, contextPrincipal.getName()))
+                .accessControlList(permissionChecksDTOs.stream()
+                                       .map(permissionCheckDTO
+                                           -> AccessControlDTO.builder()
+                                                  .permitted(true)
+                                                  .permission(permissionCheckDTO.getPermission())
+                                                  .resourceScope(permissionCheckDTO.getResourceScope())
+                                                  .resourceIdentifier(permissionCheckDTO.getResourceIdentifier())
+                                                  .resourceType(permissionCheckDTO.getResourceType())
+                                                  .build())
+                                       .collect(Collectors.toList()))
+                .build();
+        continue;
+      }
 
-    boolean preconditionsValid = checkPreconditions(contextPrincipal, principalToCheckPermissionsFor);
+      if (!preconditionsValid) {
+        throw new InvalidRequestException(
+            "Missing principal in context or User doesn't have permission to check access for a different principal",
+            WingsException.USER);
+      }
 
-    if (serviceContextAndNoPrincipalInBody(contextPrincipal, principalToCheckPermissionsFor)) {
-      return ResponseDTO.newResponse(
-          AccessCheckResponseDTO.builder()
-              .principal(Principal.of(SERVICE, contextPrincipal.getName()))
-              .accessControlList(permissionChecksDTOs.stream()
-                                     .map(permissionCheckDTO
-                                         -> AccessControlDTO.builder()
-                                                .permitted(true)
-                                                .permission(permissionCheckDTO.getPermission())
-                                                .resourceScope(permissionCheckDTO.getResourceScope())
-                                                .resourceIdentifier(permissionCheckDTO.getResourceIdentifier())
-                                                .resourceType(permissionCheckDTO.getResourceType())
-                                                .build())
-                                     .collect(Collectors.toList()))
-              .build());
-    }
+      Optional<String> accountIdentifierOptional = getAccountIdentifier(permissionChecksDTOs);
+      if (accountIdentifierOptional.isPresent()
+          && !accessControlEnabledByAccount.computeIfAbsent(
+              accountIdentifierOptional.get(), accessControlPreferenceService::isAccessControlEnabled)) {
+        accessCheckResponseDTOs[i] =
+            AccessCheckResponseDTO.builder()
+                .accessControlList(permissionChecksDTOs.stream()
+                                       .map(permissionCheckDTO -> getAccessControlDTO(permissionCheckDTO, true))
+                                       .collect(Collectors.toList()))
+                .principal(principalToCheckPermissionsFor)
+                .build();
+        continue;
+      }
 
-    if (!preconditionsValid) {
-      throw new InvalidRequestException(
-          "Missing principal in context or User doesn't have permission to check access for a different principal",
-          WingsException.USER);
+      if (notPresent(principalToCheckPermissionsFor)) {
+        principalToCheckPermissionsFor =
+            Principal.of(fromSecurityPrincipalType(contextPrincipal.getType()), contextPrincipal.getName());
+      }
+      List<PermissionCheck> permissionChecks =
+          permissionChecksDTOs.stream().map(PermissionCheckDTOMapper::fromDTO).collect(Collectors.toList());
+      aclCheckIndexes.add(i);
+      accessChecks.add(
+          AccessCheck.builder().principal(principalToCheckPermissionsFor).permissionChecks(permissionChecks).build());
     }
 
-    Optional<String> accountIdentifierOptional = getAccountIdentifier(permissionChecksDTOs);
-    if (accountIdentifierOptional.isPresent()
-        && !accessControlPreferenceService.isAccessControlEnabled(accountIdentifierOptional.get())) {
-      return ResponseDTO.newResponse(
+    List<List<PermissionCheckResult>> permissionCheckResults =
+        accessChecks.isEmpty() ? Collections.emptyList() : aclService.checkAccess(accessChecks);
+    for (int j = 0; j < accessChecks.size(); j++) {
+      int i = aclCheckIndexes.get(j);
+      AccessCheck accessCheck = accessChecks.get(j);
+      AccessCheckResponseDTO accessCheckResponseDTO =
           AccessCheckResponseDTO.builder()
-              .accessControlList(permissionChecksDTOs.stream()
-                                     .map(permissionCheckDTO -> getAccessControlDTO(permissionCheckDTO, true))
+              .principal(accessCheck.getPrincipal())
+              .accessControlList(permissionCheckResults.get(j)
+                                     .stream()
+                                     .map(PermissionCheckDTOMapper::toDTO)
                                      .collect(Collectors.toList()))
-              .principal(principalToCheckPermissionsFor)
-              .build());
+              .build();
+      Optional<String> accountIdentifierOptional = getAccountIdentifier(dtos.get(i).getPermissions());
+      if (accountIdentifierOptional.isPresent()) {
+        applyPrivilegedAccess(accountIdentifierOptional.get(), accessCheck, accessCheckResponseDTO);
+      }
+      accessCheckResponseDTOs[i] = accessCheckResponseDTO;
     }
+    return Arrays.asList(accessCheckResponseDTOs);
+  }
 
-    if (notPresent(principalToCheckPermissionsFor)) {
-      principalToCheckPermissionsFor =
-          Principal.of(fromSecurityPrincipalType(contextPrincipal.getType()), contextPrincipal.getName());
-    }
-    List<PermissionCheck> permissionChecks =
-        permissionChecksDTOs.stream().map(PermissionCheckDTOMapper::fromDTO).collect(Collectors.toList());
-    List<PermissionCheckResult> permissionCheckResults =
-        aclService.checkAccess(principalToCheckPermissionsFor, permissionChecks);
-
-    AccessCheckResponseDTO accessCheckResponseDTO =
-        AccessCheckResponseDTO.builder()
-            .principal(principalToCheckPermissionsFor)
-            .accessControlList(
-                permissionCheckResults.stream().map(PermissionCheckDTOMapper::toDTO).collect(Collectors.toList()))
+  private void applyPrivilegedAccess(
+      String accountIdentifier, AccessCheck accessCheck, AccessCheckResponseDTO accessCheckResponseDTO) {
+    io.harness.accesscontrol.principals.Principal principal =
+        io.harness.accesscontrol.principals.Principal.builder()
+            .principalIdentifier(accessCheck.getPrincipal().getPrincipalIdentifier())
+            .principalType(accessCheck.getPrincipal().getPrincipalType())
             .build();
-
-    if (accountIdentifierOptional.isPresent()) {
-      io.harness.accesscontrol.principals.Principal principal =
-          io.harness.accesscontrol.principals.Principal.builder()
-              .principalIdentifier(principalToCheckPermissionsFor.getPrincipalIdentifier())
-              .principalType(principalToCheckPermissionsFor.getPrincipalType())
-              .build();
-      PrivilegedAccessCheck privilegedAccessCheck = PrivilegedAccessCheck.builder()
-                                                        .principal(principal)
-                                                        .accountIdentifier(accountIdentifierOptional.get())
-                                                        .permissionChecks(permissionChecks)
-                                                        .build();
-      PrivilegedAccessResult privilegedAccessResult =
-          privilegedRoleAssignmentService.checkAccess(privilegedAccessCheck);
-      Iterator<AccessControlDTO> iterator = accessCheckResponseDTO.getAccessControlList().iterator();
-      int index = 0;
-      while (iterator.hasNext()) {
-        AccessControlDTO rbacAccess = iterator.next();
-        PermissionCheckResult privilegedAccess = privilegedAccessResult.getPermissionCheckResults().get(index);
-        rbacAccess.setPermitted(privilegedAccess.isPermitted() || rbacAccess.isPermitted());
-        index++;
-      }
+    PrivilegedAccessCheck privilegedAccessCheck = PrivilegedAccessCheck.builder()
+                                                      .principal(principal)
+                                                      .accountIdentifier(accountIdentifier)
+                                                      .permissionChecks(accessCheck.getPermissionChecks())
+                                                      .build();
+    PrivilegedAccessResult privilegedAccessResult = privilegedRoleAssignmentService.checkAccess(privilegedAccessCheck);
+    Iterator<AccessControlDTO> iterator = accessCheckResponseDTO.getAccessControlList().iterator();
+    int index = 0;
+    while (iterator.hasNext()) {
+      AccessControlDTO rbacAccess = iterator.next();
+      PermissionCheckResult privilegedAccess = privilegedAccessResult.getPermissionCheckResults().get(index);
+      rbacAccess.setPermitted(privilegedAccess.isPermitted() || rbacAccess.isPermitted());
+      index++;
     }
-    return ResponseDTO.newResponse(accessCheckResponseDTO);
   }
 
   public static PrincipalType fromSecurityPrincipalType(io.harness.security.dto.PrincipalType principalType) {
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
+import io.harness.serializer.JsonUtils;
+import io.harness.stream.redisson.RedissonFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Broadcasts the acl index invalidations over a redis pub/sub topic. Pub/sub does not keep messages for subscribers
+ * which are not connected, so the whole index is dropped every time the topic is (re)subscribed.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class RedisACLIndexInvalidationBroadcaster implements ACLIndexInvalidationBroadcaster {
+  private static final String TOPIC_NAME = "acl_index_invalidations";
+
+  private final RTopic topic;
+
+  @Inject
+  public RedisACLIndexInvalidationBroadcaster(@Named("lock") RedisConfig redisConfig) {
+    String topicName =
+        isEmpty(redisConfig.getEnvNamespace()) ? TOPIC_NAME : redisConfig.getEnvNamespace() + ":" + TOPIC_NAME;
+    this.topic = RedissonFactory.getRedissonClient(redisConfig).getTopic(topicName, StringCodec.INSTANCE);
+  }
+
+  @Override
+  public void broadcast(ACLIndexInvalidation invalidation) {
+    topic.publish(JsonUtils.asJson(invalidation));
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLIndexInvalidation> listener) {
+    topic.addListener(new BaseStatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        log.info("Subscribed to acl index invalidations, dropping the whole index");
+        listener.accept(ACLIndexInvalidation.all());
+      }
+    });
+    topic.addListener(String.class, (channel, message) -> {
+      try {
+        listener.accept(JsonUtils.asObject(message, ACLIndexInvalidation.class));
+      } catch (Exception e) {
+        log.error("Failed to apply the acl index invalidation {}, dropping the whole index", message, e);
+        listener.accept(ACLIndexInvalidation.all());
+      }
+    });
+  }
+}
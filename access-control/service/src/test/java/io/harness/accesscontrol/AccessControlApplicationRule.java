@@ -15,6 +15,8 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.persistence.ACLIndexInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.LocalACLIndexInvalidationBroadcaster;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.principals.serviceaccounts.ServiceAccountValidator;
@@ -79,6 +81,7 @@ public class AccessControlApplicationRule implements MethodRule, InjectorRuleMix
       @Override
       protected void configure() {
         bind(HPersistence.class).to(MongoPersistence.class);
+        bind(ACLIndexInvalidationBroadcaster.class).to(LocalACLIndexInvalidationBroadcaster.class);
       }
     });
     modules.add(new ClosingFactoryModule(closingFactory));
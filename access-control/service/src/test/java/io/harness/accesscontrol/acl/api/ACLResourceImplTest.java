@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.api;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlTestBase;
+import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.ACLService;
+import io.harness.accesscontrol.acl.AccessCheck;
+import io.harness.accesscontrol.acl.PermissionCheckResult;
+import io.harness.accesscontrol.clients.AccessCheckRequestDTO;
+import io.harness.accesscontrol.clients.AccessCheckResponseDTO;
+import io.harness.accesscontrol.clients.BatchAccessCheckRequestDTO;
+import io.harness.accesscontrol.clients.PermissionCheckDTO;
+import io.harness.accesscontrol.clients.ResourceScope;
+import io.harness.accesscontrol.preference.services.AccessControlPreferenceService;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.roleassignments.privileged.PrivilegedAccessCheck;
+import io.harness.accesscontrol.roleassignments.privileged.PrivilegedAccessResult;
+import io.harness.accesscontrol.roleassignments.privileged.PrivilegedRoleAssignmentService;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.security.SecurityContextBuilder;
+import io.harness.security.dto.ServicePrincipal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+@OwnedBy(PL)
+public class ACLResourceImplTest extends AccessControlTestBase {
+  private static final String ACCOUNT_IDENTIFIER = "account";
+  private static final String SERVICE_NAME = "pipeline-service";
+  private static final Principal FIRST_USER = Principal.of(PrincipalType.USER, "firstUser");
+  private static final Principal SECOND_USER = Principal.of(PrincipalType.USER, "secondUser");
+  private static final PermissionCheckDTO VIEW = PermissionCheckDTO.builder()
+                                                     .permission("core_pipeline_view")
+                                                     .resourceType("PIPELINE")
+                                                     .resourceIdentifier("pipeline")
+                                                     .resourceScope(ResourceScope.builder()
+                                                                        .accountIdentifier(ACCOUNT_IDENTIFIER)
+                                                                        .build())
+                                                     .build();
+
+  private ACLService aclService;
+  private AccessControlPreferenceService accessControlPreferenceService;
+  private PrivilegedRoleAssignmentService privilegedRoleAssignmentService;
+  private ACLResourceImpl aclResource;
+
+  @Before
+  public void setup() {
+    aclService = mock(ACLService.class);
+    accessControlPreferenceService = mock(AccessControlPreferenceService.class);
+    privilegedRoleAssignmentService = mock(PrivilegedRoleAssignmentService.class);
+    aclResource = new ACLResourceImpl(aclService, accessControlPreferenceService, privilegedRoleAssignmentService);
+    SecurityContextBuilder.setContext(new ServicePrincipal(SERVICE_NAME));
+  }
+
+  @After
+  public void teardown() {
+    SecurityContextBuilder.unsetCompleteContext();
+  }
+
+  private static AccessCheckRequestDTO request(Principal principal) {
+    return AccessCheckRequestDTO.builder().principal(principal).permissions(Collections.singletonList(VIEW)).build();
+  }
+
+  private static List<PermissionCheckResult> result(boolean permitted) {
+    return Collections.singletonList(PermissionCheckResult.builder()
+                                         .permission(VIEW.getPermission())
+                                         .resourceType(VIEW.getResourceType())
+                                         .resourceIdentifier(VIEW.getResourceIdentifier())
+                                         .permitted(permitted)
+                                         .build());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testGetInBatch() {
+    when(accessControlPreferenceService.isAccessControlEnabled(ACCOUNT_IDENTIFIER)).thenReturn(true);
+    when(aclService.checkAccess(anyListOf(AccessCheck.class))).thenReturn(Arrays.asList(result(true), result(false)));
+    when(privilegedRoleAssignmentService.checkAccess(any(PrivilegedAccessCheck.class)))
+        .thenReturn(PrivilegedAccessResult.builder()
+                        .accountIdentifier(ACCOUNT_IDENTIFIER)
+                        .permissionCheckResults(result(false))
+                        .build());
+
+    List<AccessCheckResponseDTO> accessCheckResults =
+        aclResource
+            .getInBatch(BatchAccessCheckRequestDTO.builder()
+                            .accessChecks(Arrays.asList(request(FIRST_USER), request(SECOND_USER), request(null)))
+                            .build())
+            .getData()
+            .getAccessCheckResults();
+
+    assertEquals(3, accessCheckResults.size());
+    assertEquals(FIRST_USER, accessCheckResults.get(0).getPrincipal());
+    assertTrue(accessCheckResults.get(0).getAccessControlList().get(0).isPermitted());
+    assertEquals(SECOND_USER, accessCheckResults.get(1).getPrincipal());
+    assertFalse(accessCheckResults.get(1).getAccessControlList().get(0).isPermitted());
+    // A service checking its own access is permitted without looking at the acls
+    assertEquals(Principal.of(PrincipalType.SERVICE, SERVICE_NAME), accessCheckResults.get(2).getPrincipal());
+    assertTrue(accessCheckResults.get(2).getAccessControlList().get(0).isPermitted());
+
+    // The acl checks of the whole batch are resolved together
+    ArgumentCaptor<List> accessChecks = ArgumentCaptor.forClass(List.class);
+    verify(aclService, times(1)).checkAccess(accessChecks.capture());
+    List<AccessCheck> checkedAccessChecks = accessChecks.getValue();
+    assertEquals(2, checkedAccessChecks.size());
+    assertEquals(FIRST_USER, checkedAccessChecks.get(0).getPrincipal());
+    assertEquals(SECOND_USER, checkedAccessChecks.get(1).getPrincipal());
+    verify(accessControlPreferenceService, times(1)).isAccessControlEnabled(ACCOUNT_IDENTIFIER);
+  }
+}